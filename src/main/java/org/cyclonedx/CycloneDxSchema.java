@@ -41,10 +41,12 @@ import javax.xml.validation.SchemaFactory;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CycloneDxSchema is a base class that provides schema information to {@link BomXmlGenerator},
@@ -80,6 +82,26 @@ public abstract class CycloneDxSchema
 
   public static final List<Version> ALL_VERSIONS = Arrays.asList(Version.values());
 
+  private static final Map<String, String> OFFLINE_JSON_SCHEMA_MAPPINGS = new HashMap<>();
+
+  static {
+    OFFLINE_JSON_SCHEMA_MAPPINGS.put("http://cyclonedx.org/schema/spdx.schema.json", "spdx.schema.json");
+    OFFLINE_JSON_SCHEMA_MAPPINGS.put("http://cyclonedx.org/schema/jsf-0.82.schema.json", "jsf-0.82.schema.json");
+    OFFLINE_JSON_SCHEMA_MAPPINGS.put("http://cyclonedx.org/schema/bom-1.2.schema.json", "bom-1.2-strict.schema.json");
+    OFFLINE_JSON_SCHEMA_MAPPINGS.put("http://cyclonedx.org/schema/bom-1.3.schema.json", "bom-1.3-strict.schema.json");
+    OFFLINE_JSON_SCHEMA_MAPPINGS.put("http://cyclonedx.org/schema/bom-1.4.schema.json", "bom-1.4.schema.json");
+    OFFLINE_JSON_SCHEMA_MAPPINGS.put("http://cyclonedx.org/schema/bom-1.5.schema.json", "bom-1.5.schema.json");
+    OFFLINE_JSON_SCHEMA_MAPPINGS.put("http://cyclonedx.org/schema/bom-1.6.schema.json", "bom-1.6.schema.json");
+    OFFLINE_JSON_SCHEMA_MAPPINGS.put("http://cyclonedx.org/schema/bom-1.7.schema.json", "bom-1.7.schema.json");
+    OFFLINE_JSON_SCHEMA_MAPPINGS.put("http://cyclonedx.org/schema/cryptography-defs.schema.json", "cryptography-defs.schema.json");
+  }
+
+  private static final ObjectMapper SCHEMA_MAPPER = new ObjectMapper();
+
+  private static final Map<Version, com.networknt.schema.Schema> JSON_SCHEMAS = new ConcurrentHashMap<>();
+
+  private static final Map<String, Map<Version, Schema>> XML_SCHEMAS = new ConcurrentHashMap<>();
+
   /**
    * Returns the CycloneDX JsonSchema for the specified schema version.
    *
@@ -92,32 +114,51 @@ public abstract class CycloneDxSchema
   public com.networknt.schema.Schema getJsonSchema(Version schemaVersion, final ObjectMapper mapper)
       throws IOException
   {
-    final InputStream spdxInstream = getJsonSchemaAsStream(schemaVersion);
-    final SchemaRegistryConfig config = SchemaRegistryConfig.builder().preloadSchema(false).build();
+    return compileJsonSchema(schemaVersion, mapper, this.getClass().getClassLoader());
+  }
+
+  /**
+   * Returns the compiled CycloneDX JsonSchema for the specified schema version. Schemas are compiled on
+   * first use and then shared by all instances and threads, as compiled schemas are immutable.
+   *
+   * @param schemaVersion The version to return the schema for
+   * @return a Schema
+   * @throws IOException when errors are encountered
+   * @since 13.2.0
+   */
+  public static com.networknt.schema.Schema getCachedJsonSchema(final Version schemaVersion) throws IOException {
+    com.networknt.schema.Schema schema = JSON_SCHEMAS.get(schemaVersion);
+    if (schema == null) {
+      schema = compileJsonSchema(schemaVersion, SCHEMA_MAPPER, CycloneDxSchema.class.getClassLoader());
+      // Resolve all $refs now, so that validation never mutates the shared instance
+      schema.initializeValidators();
+      final com.networknt.schema.Schema existing = JSON_SCHEMAS.putIfAbsent(schemaVersion, schema);
+      if (existing != null) {
+        schema = existing;
+      }
+    }
+    return schema;
+  }
 
-    final Map<String, String> offlineMappings = new HashMap<>();
-    offlineMappings.put("http://cyclonedx.org/schema/spdx.schema.json", "spdx.schema.json");
-    offlineMappings.put("http://cyclonedx.org/schema/jsf-0.82.schema.json", "jsf-0.82.schema.json");
-    offlineMappings.put("http://cyclonedx.org/schema/bom-1.2.schema.json", "bom-1.2-strict.schema.json");
-    offlineMappings.put("http://cyclonedx.org/schema/bom-1.3.schema.json", "bom-1.3-strict.schema.json");
-    offlineMappings.put("http://cyclonedx.org/schema/bom-1.4.schema.json", "bom-1.4.schema.json");
-    offlineMappings.put("http://cyclonedx.org/schema/bom-1.5.schema.json", "bom-1.5.schema.json");
-    offlineMappings.put("http://cyclonedx.org/schema/bom-1.6.schema.json", "bom-1.6.schema.json");
-    offlineMappings.put("http://cyclonedx.org/schema/bom-1.7.schema.json", "bom-1.7.schema.json");
-    offlineMappings.put("http://cyclonedx.org/schema/cryptography-defs.schema.json", "cryptography-defs.schema.json");
+  private static com.networknt.schema.Schema compileJsonSchema(final Version schemaVersion,
+                                                               final ObjectMapper mapper,
+                                                               final ClassLoader classLoader)
+      throws IOException
+  {
+    final InputStream spdxInstream = getJsonSchemaAsStream(schemaVersion, classLoader);
+    final SchemaRegistryConfig config = SchemaRegistryConfig.builder().preloadSchema(false).build();
 
     JsonNode schemaNode = mapper.readTree(spdxInstream);
     final DialectRegistry dialectRegistry = new DefaultDialectRegistry(getCycloneDxJsonDialect());
 
-    final ClassLoader classLoader = this.getClass().getClassLoader();
     final SchemaRegistry registry = SchemaRegistry.builder()
         .nodeReader(DefaultNodeReader.builder().jsonMapper(mapper).build())
         // Load schemas from classpath resources using the classloader that owns
-        // *this* class. json-schema-validator otherwise uses the current thread's
+        // the schema resources. json-schema-validator otherwise uses the current thread's
         // context classloader, which may not be able to access the schema resources.
         // https://github.com/CycloneDX/cyclonedx-core-java/issues/849
         .resourceLoaders(b -> b.add(iri -> {
-          final String resource = offlineMappings.get(iri.toString());
+          final String resource = OFFLINE_JSON_SCHEMA_MAPPINGS.get(iri.toString());
           if (resource == null) {
             return null;
           }
@@ -155,29 +196,30 @@ public abstract class CycloneDxSchema
         .build();
   }
 
-  private InputStream getJsonSchemaAsStream(final Version schemaVersion) {
+  private static InputStream getJsonSchemaAsStream(final Version schemaVersion, final ClassLoader classLoader) {
     if (Version.VERSION_12 == schemaVersion) {
-      return this.getClass().getClassLoader().getResourceAsStream("bom-1.2-strict.schema.json");
+      return classLoader.getResourceAsStream("bom-1.2-strict.schema.json");
     }
     else if (Version.VERSION_13 == schemaVersion) {
-      return this.getClass().getClassLoader().getResourceAsStream("bom-1.3-strict.schema.json");
+      return classLoader.getResourceAsStream("bom-1.3-strict.schema.json");
     }
     else if (Version.VERSION_14 == schemaVersion) {
-      return this.getClass().getClassLoader().getResourceAsStream("bom-1.4.schema.json");
+      return classLoader.getResourceAsStream("bom-1.4.schema.json");
     }
     else if(Version.VERSION_15 == schemaVersion){
-      return this.getClass().getClassLoader().getResourceAsStream("bom-1.5.schema.json");
+      return classLoader.getResourceAsStream("bom-1.5.schema.json");
     }
     else if(Version.VERSION_16 == schemaVersion){
-      return this.getClass().getClassLoader().getResourceAsStream("bom-1.6.schema.json");
+      return classLoader.getResourceAsStream("bom-1.6.schema.json");
     }
     else {
-      return this.getClass().getClassLoader().getResourceAsStream("bom-1.7.schema.json");
+      return classLoader.getResourceAsStream("bom-1.7.schema.json");
     }
   }
 
   /**
-   * Returns the CycloneDX XML Schema for the specified schema version.
+   * Returns the CycloneDX XML Schema for the specified schema version. Schemas are compiled on first use
+   * and then shared by all instances and threads, as compiled schemas are immutable and thread-safe.
    *
    * @param schemaVersion The version to return the schema for
    * @return a Schema
@@ -185,153 +227,85 @@ public abstract class CycloneDxSchema
    * @since 2.0.0
    */
   public Schema getXmlSchema(Version schemaVersion) throws SAXException {
-    if (Version.VERSION_10 == schemaVersion) {
-      return getXmlSchema10();
-    }
-    else if (Version.VERSION_11 == schemaVersion) {
-      return getXmlSchema11();
-    }
-    else if (Version.VERSION_12 == schemaVersion) {
-      return getXmlSchema12();
-    }
-    else if (Version.VERSION_13 == schemaVersion) {
-      return getXmlSchema13();
-    }
-    else if (Version.VERSION_14 == schemaVersion) {
-      return getXmlSchema14();
-    }
-    else if (Version.VERSION_15 == schemaVersion) {
-      return getXmlSchema15();
-    }
-    else if (Version.VERSION_16 == schemaVersion) {
-      return getXmlSchema16();
-    }
-    else {
-      return getXmlSchema17();
-    }
-  }
-
-  /**
-   * Returns the CycloneDX XML Schema from the specifications XSD.
-   *
-   * @return a Schema
-   * @throws SAXException a SAXException
-   * @since 1.1.0
-   */
-  private Schema getXmlSchema10() throws SAXException {
-    // Use local copies of schemas rather than resolving from the net. It's faster, and less prone to errors.
-    return getXmlSchema(
-        this.getClass().getClassLoader().getResourceAsStream("spdx.xsd"),
-        this.getClass().getClassLoader().getResourceAsStream("bom-1.0.xsd")
-    );
-  }
-
-  /**
-   * Returns the CycloneDX XML Schema from the specifications XSD.
-   *
-   * @return a Schema
-   * @throws SAXException a SAXException
-   * @since 2.0.0
-   */
-  private Schema getXmlSchema11() throws SAXException {
-    // Use local copies of schemas rather than resolving from the net. It's faster, and less prone to errors.
-    return getXmlSchema(
-        this.getClass().getClassLoader().getResourceAsStream("spdx.xsd"),
-        this.getClass().getClassLoader().getResourceAsStream("bom-1.1.xsd")
-    );
-  }
-
-  /**
-   * Returns the CycloneDX XML Schema from the specifications XSD.
-   *
-   * @return a Schema
-   * @throws SAXException a SAXException
-   * @since 2.8.0
-   */
-  private Schema getXmlSchema12() throws SAXException {
-    // Use local copies of schemas rather than resolving from the net. It's faster, and less prone to errors.
-    return getXmlSchema(
-        this.getClass().getClassLoader().getResourceAsStream("spdx.xsd"),
-        this.getClass().getClassLoader().getResourceAsStream("bom-1.2.xsd")
-    );
+    return getCachedXmlSchema(schemaVersion);
   }
 
   /**
-   * Returns the CycloneDX XML Schema from the specifications XSD.
-   *
-   * @return a Schema
-   * @throws SAXException a SAXException
-   * @since 5.0.0
-   */
-  private Schema getXmlSchema13() throws SAXException {
-    // Use local copies of schemas rather than resolving from the net. It's faster, and less prone to errors.
-    return getXmlSchema(
-        this.getClass().getClassLoader().getResourceAsStream("spdx.xsd"),
-        this.getClass().getClassLoader().getResourceAsStream("bom-1.3.xsd")
-    );
-  }
-
-  /**
-   * Returns the CycloneDX XML Schema from the specifications XSD.
+   * Returns the compiled CycloneDX XML Schema for the specified schema version from a cache shared by
+   * all instances, compiling it on first use.
    *
+   * @param schemaVersion The version to return the schema for
    * @return a Schema
    * @throws SAXException a SAXException
-   * @since 5.1.0
+   * @since 13.2.0
    */
-  private Schema getXmlSchema14() throws SAXException {
-    // Use local copies of schemas rather than resolving from the net. It's faster, and less prone to errors.
-    return getXmlSchema(
-        this.getClass().getClassLoader().getResourceAsStream("spdx.xsd"),
-        this.getClass().getClassLoader().getResourceAsStream("bom-1.4.xsd")
-    );
+  public static Schema getCachedXmlSchema(final Version schemaVersion) throws SAXException {
+    return getCachedXmlSchema(schemaVersion, false);
   }
 
   /**
-   * Returns the CycloneDX XML Schema from the specifications XSD.
+   * Returns the compiled CycloneDX XML Schema for the specified schema version from a cache shared by
+   * all instances, compiling it on first use. When extensions are included, elements of the
+   * dependency-graph and vulnerability extensions are validated against the bundled extension schemas
+   * instead of only being checked leniently.
    *
+   * @param schemaVersion The version to return the schema for
+   * @param includeExtensions whether to include the extension schemas
    * @return a Schema
    * @throws SAXException a SAXException
-   * @since 8.0.1
+   * @since 13.2.0
    */
-  private Schema getXmlSchema15() throws SAXException {
-    // Use local copies of schemas rather than resolving from the net. It's faster, and less prone to errors.
-    return getXmlSchema(
-        this.getClass().getClassLoader().getResourceAsStream("spdx.xsd"),
-        this.getClass().getClassLoader().getResourceAsStream("bom-1.5.xsd")
-    );
+  public static Schema getCachedXmlSchema(final Version schemaVersion, final boolean includeExtensions)
+      throws SAXException
+  {
+    final Version version = schemaVersion != null ? schemaVersion : VERSION_LATEST;
+    // Schemas are specific to the SchemaFactory implementation that compiled them, and an implementation
+    // explicitly requested via the JAXP system property must keep being honored (see XmlFactoryUtils)
+    final String implementation = System.getProperty(
+        SchemaFactory.class.getName() + ":" + XMLConstants.W3C_XML_SCHEMA_NS_URI, "");
+    final Map<Version, Schema> schemas = XML_SCHEMAS.computeIfAbsent(
+        includeExtensions + ":" + implementation, k -> new ConcurrentHashMap<>());
+    Schema schema = schemas.get(version);
+    if (schema == null) {
+      schema = compileXmlSchema(version, includeExtensions);
+      final Schema existing = schemas.putIfAbsent(version, schema);
+      if (existing != null) {
+        schema = existing;
+      }
+    }
+    return schema;
   }
 
-  /**
-   * Returns the CycloneDX XML Schema from the specifications XSD.
-   *
-   * @return a Schema
-   * @throws SAXException a SAXException
-   * @since 8.1.0
-   */
-  private Schema getXmlSchema16() throws SAXException {
+  private static Schema compileXmlSchema(final Version schemaVersion, final boolean includeExtensions)
+      throws SAXException
+  {
     // Use local copies of schemas rather than resolving from the net. It's faster, and less prone to errors.
-    return getXmlSchema(
-        this.getClass().getClassLoader().getResourceAsStream("spdx.xsd"),
-        this.getClass().getClassLoader().getResourceAsStream("bom-1.6.xsd")
-    );
+    final ClassLoader classLoader = CycloneDxSchema.class.getClassLoader();
+    final List<InputStream> inputStreams = new ArrayList<>();
+    inputStreams.add(classLoader.getResourceAsStream("spdx.xsd"));
+    inputStreams.add(classLoader.getResourceAsStream("bom-" + schemaVersion.getVersionString() + ".xsd"));
+    if (includeExtensions) {
+      inputStreams.add(classLoader.getResourceAsStream("ext/dependency-graph-1.0.xsd"));
+      inputStreams.add(classLoader.getResourceAsStream("ext/vulnerability-1.0.xsd"));
+    }
+    try {
+      return newXmlSchema(inputStreams.toArray(new InputStream[0]));
+    } finally {
+      for (final InputStream inputStream : inputStreams) {
+        try {
+          inputStream.close();
+        } catch (IOException e) {
+          // throw it away
+        }
+      }
+    }
   }
 
-  /**
-   * Returns the CycloneDX XML Schema from the specifications XSD.
-   *
-   * @return a Schema
-   * @throws SAXException a SAXException
-   * @since 10.0.0
-   */
-  private Schema getXmlSchema17() throws SAXException {
-    // Use local copies of schemas rather than resolving from the net. It's faster, and less prone to errors.
-    return getXmlSchema(
-        this.getClass().getClassLoader().getResourceAsStream("spdx.xsd"),
-        this.getClass().getClassLoader().getResourceAsStream("bom-1.7.xsd")
-    );
+  public Schema getXmlSchema(InputStream... inputStreams) throws SAXException {
+    return newXmlSchema(inputStreams);
   }
 
-  public Schema getXmlSchema(InputStream... inputStreams) throws SAXException {
+  private static Schema newXmlSchema(InputStream... inputStreams) throws SAXException {
     final SchemaFactory schemaFactory = XmlFactoryUtils.newSchemaFactory();
     try {
       schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
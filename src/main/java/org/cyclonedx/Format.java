@@ -2,7 +2,8 @@ package org.cyclonedx;
 
 public enum Format {
     XML("xml", "application/vnd.cyclonedx+xml"),
-    JSON("json", "application/vnd.cyclonedx+json");
+    JSON("json", "application/vnd.cyclonedx+json"),
+    PROTOBUF("cdx", "application/x.vnd.cyclonedx+protobuf");
 
     private final String extension;
     private final String mediaType;
@@ -42,6 +43,7 @@ public enum Format {
             switch (extension) {
                 case "xml": return XML;
                 case "json": return JSON;
+                case "cdx": return PROTOBUF;
             }
         }
         return null;
@@ -1,26 +1,23 @@
 package org.cyclonedx.generators;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.cyclonedx.CycloneDxSchema;
 import org.cyclonedx.Format;
 import org.cyclonedx.Version;
 import org.cyclonedx.model.Bom;
-import org.cyclonedx.util.serializer.AuthorsBeanSerializerModifier;
-import org.cyclonedx.util.serializer.CustomSerializerModifier;
-import org.cyclonedx.util.serializer.EvidenceSerializer;
-import org.cyclonedx.util.serializer.ExternalReferenceSerializer;
-import org.cyclonedx.util.serializer.HashSerializer;
-import org.cyclonedx.util.serializer.InputTypeSerializer;
-import org.cyclonedx.util.serializer.LicenseChoiceSerializer;
-import org.cyclonedx.util.serializer.LifecycleSerializer;
-import org.cyclonedx.util.serializer.MetadataSerializer;
-import org.cyclonedx.util.serializer.OutputTypeSerializer;
-import org.cyclonedx.util.serializer.SignatorySerializer;
-import org.cyclonedx.util.serializer.VulnerabilitySerializer;
+import org.cyclonedx.util.BomMapperFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 
 public abstract class AbstractBomGenerator extends CycloneDxSchema
 {
+  /**
+   * The mapper writing BOMs of this version and format. It is shared by all generators of the same version and
+   * format (see {@link BomMapperFactory}) and must not be reconfigured in place. A subclass may assign a mapper of
+   * its own instead, which {@link #writer(boolean)} then writes through; {@link #setupObjectMapper(boolean)} does so.
+   */
   protected ObjectMapper mapper;
 
   protected final Version version;
@@ -30,16 +27,39 @@ public abstract class AbstractBomGenerator extends CycloneDxSchema
   protected final Format format;
 
   public AbstractBomGenerator(final Version version, final Bom bom, final Format format) {
-    this.mapper = new ObjectMapper();
-    this.version = version;
-    this.bom = bom;
-    this.format = format;
-
     if (!version.getFormats().contains(format)) {
       throw new IllegalArgumentException(
               "CycloneDX version " + version.getVersionString() + " does not support the " + format + " format"
       );
     }
+
+    this.mapper = BomMapperFactory.getWriteMapper(version, format);
+    this.version = version;
+    this.bom = bom.isFrozen() ? copyOf(bom) : bom;
+    this.format = format;
+  }
+
+  /**
+   * Returns a shallow copy of a BOM, whose properties can be replaced without modifying the BOM, such as a
+   * frozen BOM which other threads may be serializing. The copy shares the objects of the BOM and is not frozen.
+   * @param bom the BOM
+   * @return the copy
+   * @since 13.2.0
+   */
+  protected static Bom copyOf(final Bom bom) {
+    final Bom copy = new Bom();
+    try {
+      for (final Field field : Bom.class.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || field.getName().startsWith("frozen")) {
+          continue;
+        }
+        field.setAccessible(true);
+        field.set(copy, field.get(bom));
+      }
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Unable to copy the BOM", e);
+    }
+    return copy;
   }
 
   /**
@@ -58,53 +78,33 @@ public abstract class AbstractBomGenerator extends CycloneDxSchema
     return format;
   }
 
-  protected void setupObjectMapper(boolean isXml) {
-    SimpleModule licenseModule = new SimpleModule();
-    licenseModule.addSerializer(new LicenseChoiceSerializer(isXml, version));
-    mapper.registerModule(licenseModule);
-
-    SimpleModule lifecycleModule = new SimpleModule();
-    lifecycleModule.addSerializer(new LifecycleSerializer(isXml, version));
-    mapper.registerModule(lifecycleModule);
-
-    SimpleModule metadataModule = new SimpleModule();
-    metadataModule.addSerializer(new MetadataSerializer(isXml, getSchemaVersion()));
-    mapper.registerModule(metadataModule);
-
-    SimpleModule vulnerabilityModule = new SimpleModule();
-    vulnerabilityModule.addSerializer(new VulnerabilitySerializer(isXml, getSchemaVersion()));
-    mapper.registerModule(vulnerabilityModule);
-
-    SimpleModule inputTypeModule = new SimpleModule();
-    inputTypeModule.addSerializer(new InputTypeSerializer(isXml, version));
-    mapper.registerModule(inputTypeModule);
-
-    SimpleModule outputTypeModule = new SimpleModule();
-    outputTypeModule.addSerializer(new OutputTypeSerializer(isXml, version));
-    mapper.registerModule(outputTypeModule);
-
-    SimpleModule evidenceModule = new SimpleModule();
-    evidenceModule.addSerializer(new EvidenceSerializer(isXml, getSchemaVersion()));
-    mapper.registerModule(evidenceModule);
-
-    SimpleModule signatoryModule = new SimpleModule();
-    signatoryModule.addSerializer(new SignatorySerializer(isXml));
-    mapper.registerModule(signatoryModule);
-
-    SimpleModule externalSerializer = new SimpleModule();
-    externalSerializer.addSerializer(new ExternalReferenceSerializer(getSchemaVersion()));
-    mapper.registerModule(externalSerializer);
-
-    SimpleModule hash1Module = new SimpleModule();
-    hash1Module.addSerializer(new HashSerializer(version));
-    mapper.registerModule(hash1Module);
+  /**
+   * Returns the writer of this generator: the shared writer of its version and format, or a writer of
+   * {@link #mapper} if a subclass has replaced it.
+   * @param prettyPrint whether the output is indented
+   * @return an immutable ObjectWriter
+   * @since 13.2.0
+   */
+  protected ObjectWriter writer(final boolean prettyPrint) {
+    if (isSharedMapper()) {
+      return BomMapperFactory.getWriter(version, format, prettyPrint);
+    }
+    return BomMapperFactory.getWriter(mapper, format == Format.XML ? Format.XML : Format.JSON, prettyPrint);
+  }
 
-    SimpleModule authorsModule = new SimpleModule();
-    authorsModule.setSerializerModifier(new AuthorsBeanSerializerModifier(version));
-    mapper.registerModule(authorsModule);
+  private boolean isSharedMapper() {
+    return mapper == BomMapperFactory.getWriteMapper(version, format);
+  }
 
-    SimpleModule propertiesModule = new SimpleModule();
-    propertiesModule.setSerializerModifier(new CustomSerializerModifier(isXml, version));
-    mapper.registerModule(propertiesModule);
+  /**
+   * Registers the serializers shared by the JSON and XML formats with {@link #mapper}, first replacing the
+   * shared mapper with a copy owned by this generator.
+   * @param isXml whether the mapper writes XML
+   */
+  protected void setupObjectMapper(boolean isXml) {
+    if (isSharedMapper()) {
+      mapper = mapper.copy();
+    }
+    BomMapperFactory.registerSerializers(mapper, version, isXml);
   }
 }
@@ -20,6 +20,7 @@ package org.cyclonedx.generators;
 
 import org.cyclonedx.Format;
 import org.cyclonedx.Version;
+import org.cyclonedx.generators.protobuf.BomProtobufGenerator;
 import org.cyclonedx.generators.xml.BomXmlGenerator;
 import org.cyclonedx.model.Bom;
 import org.cyclonedx.generators.json.BomJsonGenerator;
@@ -31,6 +32,7 @@ public class BomGeneratorFactory {
         switch (format) {
             case XML: generator = createXml(version, bom); break;
             case JSON: generator = createJson(version, bom); break;
+            case PROTOBUF: generator = createProtobuf(version, bom); break;
             default: throw new IllegalArgumentException("Unsupported format " + format);
         }
 
@@ -44,4 +46,8 @@ public class BomGeneratorFactory {
     public static BomJsonGenerator createJson(Version version, Bom bom) {
         return new BomJsonGenerator(bom, version);
     }
+
+    public static BomProtobufGenerator createProtobuf(Version version, Bom bom) {
+        return new BomProtobufGenerator(bom, version);
+    }
 }
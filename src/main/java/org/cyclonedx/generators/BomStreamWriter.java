@@ -0,0 +1,951 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.generators;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.GeneratorException;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.generators.xml.BomXmlGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.DependencyList;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+import org.cyclonedx.util.BomMapperFactory;
+
+/**
+ * Writes a BOM whose components, services, dependencies and vulnerabilities are produced one at a time,
+ * such as by a scanner walking a large file system, without holding them in memory.
+ * <pre>
+ * try (BomStreamWriter writer = new BomStreamWriter(outputStream, header, Version.VERSION_16, Format.JSON)) {
+ *   for (...) {
+ *     writer.writeComponent(component);
+ *     writer.writeDependency(dependency);
+ *   }
+ *   writer.finish();
+ * }
+ * </pre>
+ * The header is a {@link Bom} holding everything else, such as the serial number and the metadata. The
+ * elements may be written in any order. As the spec orders the properties of a BOM, each kind of element is
+ * spooled to a temporary file until {@link #finish()} writes the document. Components, services and
+ * vulnerabilities are serialized when they are written, and their text is copied into the document.
+ * Dependencies are spooled as their refs, and serialized along with the document. The document is the one
+ * {@link BomJsonGenerator} or {@link BomXmlGenerator} would write for the header holding all the elements,
+ * with the same version filtering.
+ * <p>
+ * A writer is not thread-safe. Closing a writer that has not been finished discards the elements.
+ * @since 13.2.0
+ */
+public class BomStreamWriter implements Closeable
+{
+  private final OutputStream outputStream;
+
+  private final Bom header;
+
+  private final Version version;
+
+  private final Format format;
+
+  private final boolean prettyPrint;
+
+  private final ElementSpool components;
+
+  private final ElementSpool services;
+
+  private final DependencySpool dependencies;
+
+  private final ElementSpool vulnerabilities;
+
+  private boolean finished;
+
+  private boolean closed;
+
+  /**
+   * Constructs a writer of pretty-printed documents.
+   * @param outputStream the stream to write the document to; it is flushed but not closed
+   * @param header the BOM holding the properties other than the streamed elements
+   * @param version the version of the CycloneDX schema to use
+   * @param format the format, either JSON or XML
+   */
+  public BomStreamWriter(final OutputStream outputStream, final Bom header, final Version version, final Format format) {
+    this(outputStream, header, version, format, true);
+  }
+
+  /**
+   * Constructs a writer.
+   * @param outputStream the stream to write the document to; it is flushed but not closed
+   * @param header the BOM holding the properties other than the streamed elements
+   * @param version the version of the CycloneDX schema to use
+   * @param format the format, either JSON or XML
+   * @param prettyPrint whether the output is indented
+   */
+  public BomStreamWriter(final OutputStream outputStream, final Bom header, final Version version, final Format format,
+                         final boolean prettyPrint)
+  {
+    if (format != Format.JSON && format != Format.XML) {
+      throw new IllegalArgumentException("Unsupported format " + format);
+    }
+    if (!version.getFormats().contains(format)) {
+      throw new IllegalArgumentException(
+              "CycloneDX version " + version.getVersionString() + " does not support the " + format + " format"
+      );
+    }
+    this.outputStream = outputStream;
+    this.header = header;
+    this.version = version;
+    this.format = format;
+    this.prettyPrint = prettyPrint;
+    this.components = new ElementSpool("components", "component", version, format, prettyPrint);
+    this.services = new ElementSpool("services", "service", version, format, prettyPrint);
+    this.dependencies = new DependencySpool(header.getDependencies());
+    this.vulnerabilities = new ElementSpool("vulnerabilities", "vulnerability", version, format, prettyPrint);
+  }
+
+  /**
+   * Adds a component to the BOM.
+   * @param component the component
+   * @throws GeneratorException if the component cannot be serialized or spooled
+   */
+  public void writeComponent(final Component component) throws GeneratorException {
+    write(components, component);
+  }
+
+  /**
+   * Adds a service to the BOM.
+   * @param service the service
+   * @throws GeneratorException if the service cannot be serialized or spooled
+   */
+  public void writeService(final Service service) throws GeneratorException {
+    write(services, service);
+  }
+
+  /**
+   * Adds a dependency to the BOM.
+   * @param dependency the dependency
+   * @throws GeneratorException if the dependency cannot be spooled
+   */
+  public void writeDependency(final Dependency dependency) throws GeneratorException {
+    checkOpen();
+    try {
+      dependencies.write(dependency);
+    }
+    catch (IOException e) {
+      throw new GeneratorException(e);
+    }
+  }
+
+  /**
+   * Adds a vulnerability to the BOM.
+   * @param vulnerability the vulnerability
+   * @throws GeneratorException if the vulnerability cannot be serialized or spooled
+   */
+  public void writeVulnerability(final Vulnerability vulnerability) throws GeneratorException {
+    write(vulnerabilities, vulnerability);
+  }
+
+  /**
+   * Writes the document and deletes the temporary files. The header is not modified.
+   * @throws GeneratorException if the document cannot be serialized or written
+   */
+  public void finish() throws GeneratorException {
+    checkOpen();
+    finished = true;
+    try {
+      components.endWriting();
+      services.endWriting();
+      dependencies.endWriting();
+      vulnerabilities.endWriting();
+      writeDocument();
+      close();
+    }
+    catch (IOException e) {
+      throw new GeneratorException(e);
+    }
+    finally {
+      if (!closed) {
+        try {
+          close();
+        }
+        catch (IOException ignored) {
+          // the document could not be written, which is the failure reported
+        }
+      }
+    }
+  }
+
+  /**
+   * Deletes the temporary files. The document is not written unless {@link #finish()} was called.
+   * @throws IOException if a temporary file cannot be deleted
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    finished = true;
+    IOException failure = null;
+    for (final Closeable spool : new Closeable[]{components, services, dependencies, vulnerabilities}) {
+      try {
+        spool.close();
+      }
+      catch (IOException e) {
+        failure = e;
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private void write(final ElementSpool spool, final Object element) throws GeneratorException {
+    checkOpen();
+    try {
+      spool.write(element);
+    }
+    catch (IOException e) {
+      throw new GeneratorException(e);
+    }
+  }
+
+  private void checkOpen() {
+    if (finished) {
+      throw new IllegalStateException("The BOM has already been " + (closed ? "closed" : "finished"));
+    }
+  }
+
+  /**
+   * Writes the document for a copy of the header, so that the header itself is not modified. The lists of
+   * the copy end with a marker in place of the spooled elements, which the text of the elements replaces as
+   * the document is written.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void writeDocument() throws GeneratorException, IOException {
+    final Bom document = AbstractBomGenerator.copyOf(header);
+    if (components.isSpooled()) {
+      document.setComponents((List) components.withMarker(header.getComponents()));
+    }
+    if (services.isSpooled()) {
+      document.setServices((List) services.withMarker(header.getServices()));
+    }
+    if (dependencies.isSpooled()) {
+      setDependencies(document, new SpooledDependencyList(dependencies));
+    }
+    if (vulnerabilities.isSpooled()) {
+      document.setVulnerabilities((List) vulnerabilities.withMarker(header.getVulnerabilities()));
+    }
+    final SplicingOutputStream out = new SplicingOutputStream(outputStream, components, services, vulnerabilities);
+    if (format == Format.XML) {
+      new BomXmlGenerator(document, version).write(out, prettyPrint);
+    } else {
+      new BomJsonGenerator(document, version).write(out, prettyPrint);
+    }
+    out.finish();
+  }
+
+  /**
+   * Sets the dependencies of the copy of the header. The field is set directly, as the setter copies the
+   * elements into a new list.
+   */
+  private static void setDependencies(final Bom document, final DependencyList dependencies)
+      throws GeneratorException
+  {
+    try {
+      final Field field = Bom.class.getDeclaredField("dependencies");
+      field.setAccessible(true);
+      field.set(document, dependencies);
+    }
+    catch (NoSuchFieldException | IllegalAccessException e) {
+      throw new GeneratorException(e);
+    }
+  }
+
+  /**
+   * The components, services or vulnerabilities written after those of the header. Each element is
+   * serialized by a generator positioned within the property of a BOM, so that it is indented as in the
+   * document, and its text is appended to a temporary file along with the separator written before it.
+   */
+  private static final class ElementSpool implements Closeable
+  {
+    private final String property;
+
+    private final String elementName;
+
+    private final Format format;
+
+    private final ObjectWriter writer;
+
+    /**
+     * The writer of the elements, which has no pretty printer so that it keeps the one of the generator.
+     */
+    private final ObjectWriter elementWriter;
+
+    /**
+     * The text of the marker, which is unique to this spool.
+     */
+    private final String token = "cyclonedx-" + UUID.randomUUID();
+
+    private Path file;
+
+    private Writer out;
+
+    private StringWriter buffer;
+
+    private JsonGenerator generator;
+
+    private int count;
+
+    private ElementSpool(final String property, final String elementName, final Version version,
+                         final Format format, final boolean prettyPrint)
+    {
+      this.property = property;
+      this.elementName = elementName;
+      this.format = format;
+      this.writer = BomMapperFactory.getWriter(version, format, prettyPrint);
+      this.elementWriter = BomMapperFactory.getWriter(version, format, false);
+    }
+
+    private boolean isSpooled() {
+      return count > 0;
+    }
+
+    private void write(final Object element) throws IOException {
+      if (file == null) {
+        open();
+      }
+      final StringBuffer text = buffer.getBuffer();
+      elementWriter.writeValue(generator, element);
+      generator.flush();
+      // The separator written before the first element is in the document, before the marker
+      int start = 0;
+      while (count == 0 && start < text.length() && isSeparator(text.charAt(start))) {
+        start++;
+      }
+      out.append(text, start, text.length());
+      text.setLength(0);
+      count++;
+    }
+
+    private void open() throws IOException {
+      file = Files.createTempFile("cyclonedx-" + property + "-", ".tmp");
+      out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8));
+      buffer = new StringWriter();
+      generator = writer.createGenerator(buffer);
+      if (format == Format.XML) {
+        final ToXmlGenerator xmlGenerator = (ToXmlGenerator) generator;
+        xmlGenerator.setNextName(new QName("bom"));
+        xmlGenerator.writeStartObject();
+        // As the serializer of a wrapped list property starts it
+        xmlGenerator.startWrappedValue(new QName(property), new QName(elementName));
+        xmlGenerator.writeFieldName(elementName);
+        xmlGenerator.writeStartArray();
+        try {
+          // Completes the start tag, which would otherwise be completed with the text of the first element
+          xmlGenerator.getStaxWriter().writeCharacters("");
+        }
+        catch (XMLStreamException e) {
+          throw new IOException(e);
+        }
+      } else {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(property);
+      }
+      generator.flush();
+      buffer.getBuffer().setLength(0);
+    }
+
+    private static boolean isSeparator(final char c) {
+      return c == ',' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private void endWriting() throws IOException {
+      if (generator != null) {
+        generator.close();
+      }
+      if (out != null) {
+        out.close();
+      }
+    }
+
+    /**
+     * Returns the elements of the header followed by the marker of the spooled elements.
+     */
+    private List<Object> withMarker(final List<?> head) {
+      final List<Object> elements = head != null ? new ArrayList<>(head) : new ArrayList<>();
+      elements.add(new Marker(token));
+      return elements;
+    }
+
+    /**
+     * Returns the text the marker is serialized to.
+     */
+    private byte[] marker() {
+      final String text = format == Format.XML
+              ? "<" + elementName + ">" + token + "</" + elementName + ">"
+              : "\"" + token + "\"";
+      return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void transferTo(final OutputStream target) throws IOException {
+      Files.copy(file, target);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        if (out != null) {
+          out.close();
+        }
+      }
+      finally {
+        if (file != null) {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+  }
+
+  /**
+   * Stands for the spooled elements in a list of the document, and is serialized as a string.
+   */
+  private static final class Marker implements JsonSerializable
+  {
+    private final String token;
+
+    private Marker(final String token) {
+      this.token = token;
+    }
+
+    @Override
+    public void serialize(final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+      generator.writeString(token);
+    }
+
+    @Override
+    public void serializeWithType(final JsonGenerator generator, final SerializerProvider provider,
+                                  final TypeSerializer typeSerializer) throws IOException
+    {
+      serialize(generator, provider);
+    }
+  }
+
+  /**
+   * Passes the document through to a stream, replacing the marker of each spool with the text of its
+   * elements. The bytes that may be the start of a marker are held back until the next write.
+   */
+  private static final class SplicingOutputStream extends FilterOutputStream
+  {
+    private final List<ElementSpool> spools = new ArrayList<>();
+
+    private final List<byte[]> markers = new ArrayList<>();
+
+    private final int holdBack;
+
+    private byte[] pending = new byte[8192];
+
+    private int length;
+
+    private SplicingOutputStream(final OutputStream out, final ElementSpool... spools) {
+      super(out);
+      int longest = 0;
+      for (final ElementSpool spool : spools) {
+        if (spool.isSpooled()) {
+          final byte[] marker = spool.marker();
+          this.spools.add(spool);
+          this.markers.add(marker);
+          longest = Math.max(longest, marker.length);
+        }
+      }
+      this.holdBack = Math.max(0, longest - 1);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      if (spools.isEmpty() && length == 0) {
+        out.write(b, off, len);
+        return;
+      }
+      if (length + len > pending.length) {
+        pending = Arrays.copyOf(pending, Math.max(pending.length * 2, length + len));
+      }
+      System.arraycopy(b, off, pending, length, len);
+      length += len;
+      if (length >= 8192) {
+        splice(false);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      splice(false);
+      out.flush();
+    }
+
+    /**
+     * Writes the bytes held back, after the document has been written. The stream itself is not closed.
+     */
+    private void finish() throws IOException {
+      splice(true);
+      out.flush();
+    }
+
+    private void splice(final boolean end) throws IOException {
+      int from = 0;
+      for (int i = 0; i < markers.size(); i++) {
+        final int index = indexOf(markers.get(i), from);
+        if (index >= 0) {
+          out.write(pending, from, index - from);
+          spools.get(i).transferTo(out);
+          from = index + markers.get(i).length;
+          markers.remove(i);
+          spools.remove(i);
+          i = -1;
+        }
+      }
+      final int to = end || markers.isEmpty() ? length : Math.max(from, length - holdBack);
+      out.write(pending, from, to - from);
+      System.arraycopy(pending, to, pending, 0, length - to);
+      length -= to;
+    }
+
+    private int indexOf(final byte[] marker, final int from) {
+      for (int i = from; i <= length - marker.length; i++) {
+        int j = 0;
+        while (j < marker.length && pending[i + j] == marker[j]) {
+          j++;
+        }
+        if (j == marker.length) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * The dependencies of the header, followed by those spooled to a temporary file as their refs and the
+   * refs they depend on.
+   */
+  private static final class DependencySpool implements Closeable
+  {
+    private final List<Dependency> head;
+
+    private final List<Closeable> readers = new ArrayList<>();
+
+    private Path file;
+
+    private DataOutputStream out;
+
+    private int count;
+
+    private DependencySpool(final List<Dependency> head) {
+      this.head = head != null ? head : Collections.emptyList();
+    }
+
+    private int size() {
+      return head.size() + count;
+    }
+
+    private boolean isSpooled() {
+      return count > 0;
+    }
+
+    private void write(final Dependency dependency) throws IOException {
+      if (file == null) {
+        file = Files.createTempFile("cyclonedx-dependencies-", ".tmp");
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+      }
+      writeDependency(dependency);
+      count++;
+    }
+
+    private void writeDependency(final Dependency dependency) throws IOException {
+      final String ref = dependency.getRef();
+      if (ref == null) {
+        out.writeInt(-1);
+      } else {
+        final byte[] bytes = ref.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      }
+      final List<Dependency> dependsOn = dependency.getDependencies();
+      out.writeInt(dependsOn != null ? dependsOn.size() : 0);
+      if (dependsOn != null) {
+        for (final Dependency child : dependsOn) {
+          writeDependency(child);
+        }
+      }
+    }
+
+    private static Dependency readDependency(final DataInputStream in) throws IOException {
+      final int length = in.readInt();
+      String ref = null;
+      if (length >= 0) {
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        ref = new String(bytes, StandardCharsets.UTF_8);
+      }
+      final Dependency dependency = new Dependency(ref);
+      final int dependsOn = in.readInt();
+      if (dependsOn > 0) {
+        // Set as a plain list, which keeps duplicate refs as the serializer would write them
+        final List<Dependency> children = new ArrayList<>(dependsOn);
+        for (int i = 0; i < dependsOn; i++) {
+          children.add(readDependency(in));
+        }
+        dependency.setDependencies(children);
+      }
+      return dependency;
+    }
+
+    private void endWriting() throws IOException {
+      if (out != null) {
+        out.close();
+      }
+    }
+
+    private Iterator<Dependency> iterator() {
+      final Iterator<Dependency> headIterator = head.iterator();
+      return new Iterator<Dependency>()
+      {
+        private DataInputStream in;
+
+        private int read;
+
+        @Override
+        public boolean hasNext() {
+          return headIterator.hasNext() || read < count;
+        }
+
+        @Override
+        public Dependency next() {
+          if (headIterator.hasNext()) {
+            return headIterator.next();
+          }
+          if (read >= count) {
+            throw new NoSuchElementException();
+          }
+          try {
+            if (in == null) {
+              in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+              readers.add(in);
+            }
+            final Dependency dependency = readDependency(in);
+            read++;
+            return dependency;
+          }
+          catch (IOException e) {
+            throw new IllegalStateException("Unable to read the spooled dependencies", e);
+          }
+        }
+      };
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        for (final Closeable reader : readers) {
+          reader.close();
+        }
+        readers.clear();
+        if (out != null) {
+          out.close();
+        }
+      }
+      finally {
+        if (file != null) {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+  }
+
+  /**
+   * A read-only view of the spooled dependencies. Iterating the list reads the dependencies back one at a
+   * time. Accessing a dependency by index reads the dependencies from the start of the spool, unless they
+   * are accessed in order.
+   */
+  private static final class SpooledList extends AbstractList<Dependency>
+  {
+    private final DependencySpool spool;
+
+    private Iterator<Dependency> cursor;
+
+    /**
+     * The index of the dependency the cursor returns next.
+     */
+    private int position;
+
+    private SpooledList(final DependencySpool spool) {
+      this.spool = spool;
+    }
+
+    @Override
+    public Iterator<Dependency> iterator() {
+      return spool.iterator();
+    }
+
+    @Override
+    public Dependency get(final int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+      }
+      if (cursor == null || index < position) {
+        cursor = spool.iterator();
+        position = 0;
+      }
+      for (; position < index; position++) {
+        cursor.next();
+      }
+      position++;
+      return cursor.next();
+    }
+
+    @Override
+    public int size() {
+      return spool.size();
+    }
+  }
+
+  /**
+   * The {@link SpooledList} of the dependencies, which the serializers expect as a {@link DependencyList}.
+   * The elements are not held by the list, so every read goes through the view, and modifications are rejected.
+   */
+  private static final class SpooledDependencyList extends DependencyList
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final transient SpooledList view;
+
+    private SpooledDependencyList(final DependencySpool spool) {
+      super(Collections.emptyList());
+      this.view = new SpooledList(spool);
+    }
+
+    private static UnsupportedOperationException readOnly() {
+      return new UnsupportedOperationException("Spooled dependencies cannot be modified");
+    }
+
+    @Override
+    public int size() {
+      return view.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return view.isEmpty();
+    }
+
+    @Override
+    public Dependency get(final int index) {
+      return view.get(index);
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      return view.contains(o);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+      return view.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+      return view.lastIndexOf(o);
+    }
+
+    @Override
+    public Object[] toArray() {
+      return view.toArray();
+    }
+
+    @Override
+    public <E> E[] toArray(final E[] a) {
+      return view.toArray(a);
+    }
+
+    @Override
+    public Iterator<Dependency> iterator() {
+      return view.iterator();
+    }
+
+    @Override
+    public ListIterator<Dependency> listIterator() {
+      return view.listIterator();
+    }
+
+    @Override
+    public ListIterator<Dependency> listIterator(final int index) {
+      return view.listIterator(index);
+    }
+
+    @Override
+    public List<Dependency> subList(final int fromIndex, final int toIndex) {
+      return view.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Spliterator<Dependency> spliterator() {
+      return view.spliterator();
+    }
+
+    @Override
+    public void forEach(final Consumer<? super Dependency> action) {
+      view.forEach(action);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return view.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+      return view.hashCode();
+    }
+
+    @Override
+    public Object clone() {
+      return new DependencyList(view);
+    }
+
+    @Override
+    public boolean add(final Dependency dependency) {
+      throw readOnly();
+    }
+
+    @Override
+    public void add(final int index, final Dependency dependency) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends Dependency> c) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean addAll(final int index, final Collection<? extends Dependency> c) {
+      throw readOnly();
+    }
+
+    @Override
+    public Dependency set(final int index, final Dependency dependency) {
+      throw readOnly();
+    }
+
+    @Override
+    public Dependency remove(final int index) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super Dependency> filter) {
+      throw readOnly();
+    }
+
+    @Override
+    public void replaceAll(final UnaryOperator<Dependency> operator) {
+      throw readOnly();
+    }
+
+    @Override
+    public void sort(final Comparator<? super Dependency> c) {
+      throw readOnly();
+    }
+
+    @Override
+    public void clear() {
+      throw readOnly();
+    }
+
+    @Override
+    protected void removeRange(final int fromIndex, final int toIndex) {
+      throw readOnly();
+    }
+
+    private Object writeReplace() {
+      return new DependencyList(view);
+    }
+  }
+}
@@ -18,29 +18,41 @@
  */
 package org.cyclonedx.generators.json;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.util.DefaultIndenter;
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.cyclonedx.Format;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.GeneratorException;
 import org.cyclonedx.generators.AbstractBomGenerator;
 import org.cyclonedx.model.Bom;
-import org.cyclonedx.model.BomReference;
-import org.cyclonedx.util.introspector.VersionJsonAnnotationIntrospector;
-import org.cyclonedx.util.mixin.MixInBomReference;
-import org.cyclonedx.util.serializer.ComponentWrapperSerializer;
-import org.cyclonedx.util.serializer.DependencySerializer;
-import org.cyclonedx.util.serializer.TrimStringSerializer;
 
 public class BomJsonGenerator extends AbstractBomGenerator
 {
-  private final DefaultPrettyPrinter prettyPrinter;
+  /**
+   * The smallest number of elements serialized by a parallel task.
+   */
+  private static final int MIN_CHUNK_SIZE = 64;
+
+  private ForkJoinPool parallelPool;
 
   /**
    * Constructs a new BomGenerator object.
@@ -51,40 +63,11 @@ public class BomJsonGenerator extends AbstractBomGenerator
     super(version, bom, Format.JSON);
     Bom modifiedBom = null;
     try {
-      modifiedBom = injectBomFormatAndSpecVersion(bom);
+      modifiedBom = injectBomFormatAndSpecVersion(this.bom);
     }
     catch (GeneratorException e) {
     }
-    this.bom = modifiedBom != null ? modifiedBom : bom;
-    this.prettyPrinter = new DefaultPrettyPrinter();
-
-    setupPrettyPrinter(this.prettyPrinter);
-
-    this.mapper = new ObjectMapper();
-    setupObjectMapper();
-  }
-
-  private void setupObjectMapper() {
-    mapper.setAnnotationIntrospector(new VersionJsonAnnotationIntrospector(version));
-
-    super.setupObjectMapper(false);
-
-    SimpleModule depModule = new SimpleModule();
-    SimpleModule componentWrapperModule = new SimpleModule();
-
-    SimpleModule stringModule = new SimpleModule();
-    stringModule.addSerializer(new TrimStringSerializer());
-    mapper.registerModule(stringModule);
-
-    depModule.addSerializer(new DependencySerializer(false, null));
-    mapper.registerModule(depModule);
-
-    componentWrapperModule.addSerializer(new ComponentWrapperSerializer(mapper));
-    mapper.registerModule(componentWrapperModule);
-  }
-
-  private void setupPrettyPrinter(final DefaultPrettyPrinter prettyPrinter) {
-    prettyPrinter.indentArraysWith(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE);
+    this.bom = modifiedBom != null ? modifiedBom : this.bom;
   }
 
   private  Bom injectBomFormatAndSpecVersion(Bom bom) throws GeneratorException {
@@ -103,14 +86,32 @@ public class BomJsonGenerator extends AbstractBomGenerator
   }
 
   /**
-   * Creates a CycloneDX BOM from a set of Components.
-   * @return an JSON Document representing a CycloneDX BoM
+   * Enables parallel serialization of the top-level components and vulnerabilities. They are split into
+   * chunks, which are serialized by tasks of the pool and written in order, so that the output is identical
+   * to that of sequential serialization. This applies to the JSON text written, not to {@link #toJsonNode()}.
+   * Only BOMs with many components or vulnerabilities benefit from it.
+   * @param pool the pool running the tasks, such as {@link ForkJoinPool#commonPool()}, or null to serialize
+   *             sequentially, which is the default
+   * @since 13.2.0
+   */
+  public void setParallelSerialization(final ForkJoinPool pool) {
+    this.parallelPool = pool;
+  }
+
+  /**
+   * Creates a CycloneDX BOM from a set of Components. The tree is built from the tokens written by the
+   * serializers, without producing and re-parsing JSON text.
+   * @return an JSON Document representing a CycloneDX BoM, or null if the BOM cannot be serialized
    * @since 7.0.0
    */
   public JsonNode toJsonNode() {
-    try {
-      return mapper.readTree(toJson(bom, false));
-    } catch (GeneratorException | JsonProcessingException e) {
+    try (TokenBuffer buffer = new TokenBuffer(mapper, false)) {
+      writer(false).writeValue(buffer, bom);
+      try (JsonParser parser = buffer.asParser()) {
+        return mapper.readTree(parser);
+      }
+    }
+    catch (IOException e) {
       return null;
     }
   }
@@ -123,6 +124,95 @@ public class BomJsonGenerator extends AbstractBomGenerator
     return toJson(bom, prettyPrint);
   }
 
+  /**
+   * Writes the pretty-printed JSON representation of the BOM to a stream, without first building it in memory.
+   * The stream is flushed but not closed.
+   * @param outputStream the stream to write UTF-8 encoded JSON to
+   * @throws GeneratorException if the BOM cannot be serialized or written
+   * @since 13.2.0
+   */
+  public void write(final OutputStream outputStream) throws GeneratorException {
+    write(outputStream, true);
+  }
+
+  /**
+   * Writes the JSON representation of the BOM to a stream, without first building it in memory.
+   * The stream is flushed but not closed.
+   * @param outputStream the stream to write UTF-8 encoded JSON to
+   * @param prettyPrint whether the output is indented
+   * @throws GeneratorException if the BOM cannot be serialized or written
+   * @since 13.2.0
+   */
+  public void write(final OutputStream outputStream, final boolean prettyPrint) throws GeneratorException {
+    try {
+      streamingWriter(prettyPrint).writeValue(outputStream, preSerialize(bom, prettyPrint));
+    }
+    catch (IOException e) {
+      throw new GeneratorException(e);
+    }
+  }
+
+  /**
+   * Writes the pretty-printed JSON representation of the BOM to a writer, without first building it in memory.
+   * The writer is flushed but not closed.
+   * @param writer the writer to write JSON to
+   * @throws GeneratorException if the BOM cannot be serialized or written
+   * @since 13.2.0
+   */
+  public void write(final Writer writer) throws GeneratorException {
+    write(writer, true);
+  }
+
+  /**
+   * Writes the JSON representation of the BOM to a writer, without first building it in memory.
+   * The writer is flushed but not closed.
+   * @param writer the writer to write JSON to
+   * @param prettyPrint whether the output is indented
+   * @throws GeneratorException if the BOM cannot be serialized or written
+   * @since 13.2.0
+   */
+  public void write(final Writer writer, final boolean prettyPrint) throws GeneratorException {
+    try {
+      streamingWriter(prettyPrint).writeValue(writer, preSerialize(bom, prettyPrint));
+    }
+    catch (IOException e) {
+      throw new GeneratorException(e);
+    }
+  }
+
+  /**
+   * Writes the pretty-printed JSON representation of the BOM to a file, replacing any existing content.
+   * @param path the file to write UTF-8 encoded JSON to
+   * @throws GeneratorException if the BOM cannot be serialized or written
+   * @since 13.2.0
+   */
+  public void write(final Path path) throws GeneratorException {
+    write(path, true);
+  }
+
+  /**
+   * Writes the JSON representation of the BOM to a file, replacing any existing content.
+   * @param path the file to write UTF-8 encoded JSON to
+   * @param prettyPrint whether the output is indented
+   * @throws GeneratorException if the BOM cannot be serialized or written
+   * @since 13.2.0
+   */
+  public void write(final Path path, final boolean prettyPrint) throws GeneratorException {
+    try (OutputStream outputStream = Files.newOutputStream(path)) {
+      write(outputStream, prettyPrint);
+    }
+    catch (IOException e) {
+      throw new GeneratorException(e);
+    }
+  }
+
+  private ObjectWriter streamingWriter(final boolean prettyPrint) {
+    // Write characters outside the BMP as is, like toJsonString() does, rather than as escaped surrogate pairs
+    return writer(prettyPrint)
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .with(JsonWriteFeature.COMBINE_UNICODE_SURROGATES_IN_UTF8);
+  }
+
   /**
    * Creates a text representation of a CycloneDX BoM Document. This method calls {@link #toJsonString()} and will return
    * an empty string if {@link #toJsonString()} throws an exception. It's preferred to call {@link #toJsonString()}
@@ -141,14 +231,117 @@ public class BomJsonGenerator extends AbstractBomGenerator
 
   String toJson(final Bom bom, final boolean prettyPrint) throws GeneratorException {
     try {
-      mapper.addMixIn(BomReference.class, MixInBomReference.class);
-      if (prettyPrint) {
-        return mapper.writer(prettyPrinter).writeValueAsString(bom);
-      }
-      return mapper.writeValueAsString(bom);
+      return writer(prettyPrint).writeValueAsString(preSerialize(bom, prettyPrint));
     }
     catch (JsonProcessingException e) {
       throw new GeneratorException(e);
     }
   }
+
+  /**
+   * Serializes the components and vulnerabilities in parallel if enabled. The BOM to serialize is then a
+   * private copy holding their JSON text in place of the elements, which the serializers write as raw values,
+   * with the separators and indentation of the elements they replace. The BOM itself is not modified.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Bom preSerialize(final Bom bom, final boolean prettyPrint) throws GeneratorException {
+    if (parallelPool == null) {
+      return bom;
+    }
+    final List<ForkJoinTask<List<RawValue>>> componentTasks =
+        submitChunks(bom.getComponents(), "components", prettyPrint);
+    final List<ForkJoinTask<List<RawValue>>> vulnerabilityTasks =
+        submitChunks(bom.getVulnerabilities(), "vulnerabilities", prettyPrint);
+    if (componentTasks == null && vulnerabilityTasks == null) {
+      return bom;
+    }
+    final Bom preSerialized = copyOf(bom);
+    try {
+      if (componentTasks != null) {
+        preSerialized.setComponents((List) join(componentTasks));
+      }
+      if (vulnerabilityTasks != null) {
+        preSerialized.setVulnerabilities((List) join(vulnerabilityTasks));
+      }
+      return preSerialized;
+    }
+    catch (GeneratorException e) {
+      if (vulnerabilityTasks != null) {
+        vulnerabilityTasks.forEach(task -> task.cancel(false));
+      }
+      throw e;
+    }
+  }
+
+  private List<ForkJoinTask<List<RawValue>>> submitChunks(final List<?> elements, final String property,
+                                                          final boolean prettyPrint)
+  {
+    if (elements == null || elements.size() < 2 * MIN_CHUNK_SIZE) {
+      return null;
+    }
+    final int chunkSize = Math.max(MIN_CHUNK_SIZE, elements.size() / (4 * parallelPool.getParallelism()) + 1);
+    final List<ForkJoinTask<List<RawValue>>> tasks = new ArrayList<>();
+    for (int from = 0; from < elements.size(); from += chunkSize) {
+      final List<?> chunk = elements.subList(from, Math.min(elements.size(), from + chunkSize));
+      tasks.add(parallelPool.submit(() -> serializeChunk(chunk, property, prettyPrint)));
+    }
+    return tasks;
+  }
+
+  private static List<RawValue> join(final List<ForkJoinTask<List<RawValue>>> tasks) throws GeneratorException {
+    final List<RawValue> values = new ArrayList<>();
+    try {
+      for (final ForkJoinTask<List<RawValue>> task : tasks) {
+        values.addAll(task.get());
+      }
+      return values;
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GeneratorException(e);
+    }
+    catch (ExecutionException e) {
+      throw new GeneratorException(e.getCause());
+    }
+    finally {
+      for (final ForkJoinTask<List<RawValue>> task : tasks) {
+        task.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * Serializes elements where they occur in a BOM, within the top-level object and the array of the
+   * property, so that they are indented as in the BOM. The separators written before each element are
+   * dropped, as the serializers write them again along with the raw values.
+   */
+  private List<RawValue> serializeChunk(final List<?> elements, final String property, final boolean prettyPrint)
+      throws IOException
+  {
+    final List<RawValue> values = new ArrayList<>(elements.size());
+    final StringWriter out = new StringWriter();
+    final ObjectWriter elementWriter = writer(false);
+    try (JsonGenerator generator = writer(prettyPrint).createGenerator(out)) {
+      generator.writeStartObject();
+      generator.writeArrayFieldStart(property);
+      for (final Object element : elements) {
+        generator.flush();
+        final StringBuffer buffer = out.getBuffer();
+        int start = buffer.length();
+        // The writer has no pretty printer, so that it keeps the one of the generator
+        elementWriter.writeValue(generator, element);
+        generator.flush();
+        while (start < buffer.length() && isSeparator(buffer.charAt(start))) {
+          start++;
+        }
+        values.add(new RawValue(buffer.substring(start)));
+        buffer.setLength(0);
+      }
+    }
+    return values;
+  }
+
+  private static boolean isSeparator(final char c) {
+    return c == ',' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+  }
 }
@@ -0,0 +1,113 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.generators.protobuf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.protobuf.Message;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.GeneratorException;
+import org.cyclonedx.generators.AbstractBomGenerator;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.util.ProtobufBomConverter;
+
+/**
+ * Generates CycloneDX BOMs in the Protocol Buffers format. The BOM is serialized with the same
+ * serializers as the JSON format and the result is mapped onto the message descriptors of the
+ * bundled bom-1.x.proto schema. This generator requires com.google.protobuf:protobuf-java on the classpath.
+ * <p>
+ * A few JSON constructs have no protobuf counterpart and are not written: JSF signatures, and all
+ * but the first legacy tool and the first metadata license.
+ * @since 13.2.0
+ */
+public class BomProtobufGenerator extends AbstractBomGenerator
+{
+  private final BomJsonGenerator jsonGenerator;
+
+  /**
+   * Constructs a new BomProtobufGenerator object.
+   * @param bom the BOM to generate
+   * @param version the version of the CycloneDX schema to use.
+   */
+  public BomProtobufGenerator(final Bom bom, final Version version) {
+    super(version, bom, Format.PROTOBUF);
+    this.jsonGenerator = new BomJsonGenerator(bom, version);
+  }
+
+  /**
+   * Creates a Bom message from the BOM.
+   * @return a Bom message described by the protobuf schema of the version
+   * @throws GeneratorException if the BOM cannot be serialized
+   */
+  public Message toProtobuf() throws GeneratorException {
+    final JsonNode bomJson = jsonGenerator.toJsonNode();
+    if (bomJson == null) {
+      throw new GeneratorException("Unable to serialize BOM");
+    }
+    try {
+      return ProtobufBomConverter.forVersion(version).toMessage(bomJson);
+    }
+    catch (IOException e) {
+      throw new GeneratorException(e);
+    }
+  }
+
+  /**
+   * Creates the binary Protocol Buffers representation of the BOM.
+   * @return the encoded Bom message
+   * @throws GeneratorException if the BOM cannot be serialized
+   */
+  public byte[] toByteArray() throws GeneratorException {
+    return toProtobuf().toByteArray();
+  }
+
+  /**
+   * Writes the binary Protocol Buffers representation of the BOM to a stream. The stream is not closed.
+   * @param outputStream the stream to write to
+   * @throws GeneratorException if the BOM cannot be serialized or written
+   */
+  public void write(final OutputStream outputStream) throws GeneratorException {
+    try {
+      toProtobuf().writeTo(outputStream);
+    }
+    catch (IOException e) {
+      throw new GeneratorException(e);
+    }
+  }
+
+  /**
+   * Writes the binary Protocol Buffers representation of the BOM to a file, replacing any existing content.
+   * @param path the file to write to
+   * @throws GeneratorException if the BOM cannot be serialized or written
+   */
+  public void write(final Path path) throws GeneratorException {
+    try (OutputStream outputStream = Files.newOutputStream(path)) {
+      write(outputStream);
+    }
+    catch (IOException e) {
+      throw new GeneratorException(e);
+    }
+  }
+}
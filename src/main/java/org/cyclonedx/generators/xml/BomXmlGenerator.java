@@ -19,33 +19,40 @@
 package org.cyclonedx.generators.xml;
 
 import java.io.IOException;
-import java.io.StringReader;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.dom.DOMResult;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import com.fasterxml.jackson.dataformat.xml.util.DefaultXmlPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.cyclonedx.Format;
 import org.cyclonedx.generators.AbstractBomGenerator;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.GeneratorException;
 import org.cyclonedx.model.Bom;
 import org.cyclonedx.util.XmlFactoryUtils;
-import org.cyclonedx.util.introspector.VersionXmlAnnotationIntrospector;
-import org.cyclonedx.util.serializer.DependencySerializer;
+import org.codehaus.stax2.util.StreamWriterDelegate;
 import org.w3c.dom.Document;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
 
 public class BomXmlGenerator extends AbstractBomGenerator
 {
-    private final DefaultXmlPrettyPrinter prettyPrinter;
-
     /**
      * Constructs a new BomXmlGenerator object.
      * @param bom the BOM to generate
@@ -53,31 +60,11 @@ public class BomXmlGenerator extends AbstractBomGenerator
      */
     public BomXmlGenerator(final Bom bom, final Version version) {
         super(version, bom, Format.XML);
-
-        mapper = new XmlMapper();
-        prettyPrinter = new DefaultXmlPrettyPrinter();
-        setupObjectMapper();
-        bom.setXmlns(version.getNamespace());
+        this.bom.setXmlns(version.getNamespace());
     }
 
     protected static final String PROLOG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>";
 
-    private void setupObjectMapper() {
-        mapper.setAnnotationIntrospector(new VersionXmlAnnotationIntrospector(getSchemaVersion()));
-
-        if (version.getVersion() != 1.0) {
-            boolean useNamespace = version.getVersion() == 1.1;
-            registerDependencyModule(mapper, useNamespace);
-        }
-        super.setupObjectMapper(true);
-    }
-
-    private void registerDependencyModule(final ObjectMapper mapper, final boolean useNamespace) {
-        SimpleModule depModule = new SimpleModule();
-        depModule.addSerializer(new DependencySerializer(useNamespace, null));
-        mapper.registerModule(depModule);
-    }
-
     /**
      * Constructs a new document builder with security features enabled.
      *
@@ -97,22 +84,128 @@ public class BomXmlGenerator extends AbstractBomGenerator
         throws ParserConfigurationException
     {
         try {
-            final DocumentBuilder docBuilder = buildSecureDocumentBuilder();
-            Document doc = docBuilder.parse(new InputSource(new StringReader(toXML(bom, false))));
+            final Document doc = buildSecureDocumentBuilder().newDocument();
+            final XmlFactory factory = (XmlFactory) mapper.getFactory();
+            final XMLStreamWriter streamWriter = new NamespaceDeclaringWriter(
+                    factory.getXMLOutputFactory().createXMLStreamWriter(new DOMResult(doc)));
+            try (ToXmlGenerator generator = factory.createGenerator(streamWriter)) {
+                writer(false).writeValue(generator, bom);
+            }
+            declareNamespaces(doc.getDocumentElement(), new HashMap<>());
+            // empty values are written as empty text nodes, which a parser would not produce
+            doc.normalize();
             doc.setXmlStandalone(true);
             return doc;
         }
-        catch (SAXException | ParserConfigurationException | IOException | GeneratorException ex) {
+        catch (XMLStreamException | IOException ex) {
             throw new ParserConfigurationException(ex.toString());
         }
     }
 
+    /**
+     * Moves the elements into the namespaces declared for them. The XML stream writer creates the elements
+     * in no namespace, whereas parsing the serialized document with a namespace-aware parser puts unprefixed
+     * elements in the default namespace and prefixed ones in the namespace bound to their prefix.
+     */
+    private static void declareNamespaces(final Element element, final Map<String, String> inScope) {
+        Map<String, String> namespaces = inScope;
+        final NamedNodeMap attributes = element.getAttributes();
+        for (int i = attributes.getLength() - 1; i >= 0; i--) {
+            final Node attribute = attributes.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE.equals(attribute.getPrefix())
+                    && XMLConstants.XMLNS_ATTRIBUTE.equals(attribute.getLocalName())) {
+                // the xmlns prefix is reserved and bound implicitly, the DOM writer declares it anyway
+                attributes.removeNamedItemNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, XMLConstants.XMLNS_ATTRIBUTE);
+            } else if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())) {
+                if (namespaces == inScope) {
+                    namespaces = new HashMap<>(inScope);
+                }
+                namespaces.put(attribute.getPrefix() == null ? "" : attribute.getLocalName(), attribute.getNodeValue());
+            }
+        }
+        final String qualifiedName = element.getTagName();
+        final int colon = qualifiedName.indexOf(':');
+        final String namespace = namespaces.get(colon < 0 ? "" : qualifiedName.substring(0, colon));
+        Element renamed = element;
+        if (namespace != null && !namespace.isEmpty() && !namespace.equals(element.getNamespaceURI())) {
+            renamed = (Element) element.getOwnerDocument().renameNode(element, namespace, qualifiedName);
+        }
+        for (Node child = renamed.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                declareNamespaces((Element) child, namespaces);
+            }
+        }
+    }
+
+    /**
+     * The model writes namespace declarations (such as the xmlns of the bom element) as regular attributes,
+     * which a namespace-aware DOM rejects. This turns them into namespace declarations. It also applies the
+     * prefixes set by the serializers to the elements, which the DOM writer would otherwise ignore.
+     */
+    private static final class NamespaceDeclaringWriter extends StreamWriterDelegate
+    {
+        private final Map<String, String> prefixes = new HashMap<>();
+
+        private NamespaceDeclaringWriter(final XMLStreamWriter writer) {
+            super(writer);
+        }
+
+        @Override
+        public void setPrefix(final String prefix, final String namespaceURI) throws XMLStreamException {
+            prefixes.put(namespaceURI, prefix);
+            super.setPrefix(prefix, namespaceURI);
+        }
+
+        @Override
+        public void writeStartElement(final String namespaceURI, final String localName) throws XMLStreamException {
+            final String prefix = prefixes.get(namespaceURI);
+            if (prefix != null) {
+                super.writeStartElement(prefix, localName, namespaceURI);
+            } else {
+                super.writeStartElement(namespaceURI, localName);
+            }
+        }
+
+        @Override
+        public void writeAttribute(final String localName, final String value) throws XMLStreamException {
+            if (XMLConstants.XMLNS_ATTRIBUTE.equals(localName)) {
+                writeDefaultNamespace(value);
+            } else if (localName.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ":")) {
+                writeNamespace(localName.substring(XMLConstants.XMLNS_ATTRIBUTE.length() + 1), value);
+            } else {
+                super.writeAttribute(localName, value);
+            }
+        }
+
+        @Override
+        public void writeAttribute(final String namespaceURI, final String localName, final String value)
+            throws XMLStreamException
+        {
+            if (namespaceURI == null || namespaceURI.isEmpty()) {
+                writeAttribute(localName, value);
+            } else {
+                super.writeAttribute(namespaceURI, localName, value);
+            }
+        }
+
+        @Override
+        public void writeAttribute(final String prefix, final String namespaceURI, final String localName,
+                                   final String value)
+            throws XMLStreamException
+        {
+            if (XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+                writeNamespace(localName, value);
+            } else if (prefix == null || prefix.isEmpty()) {
+                writeAttribute(namespaceURI, localName, value);
+            } else {
+                super.writeAttribute(prefix, namespaceURI, localName, value);
+            }
+        }
+    }
+
     String toXML(final Bom bom, final boolean prettyPrint) throws GeneratorException {
         try {
-            if (prettyPrint) {
-                return PROLOG + System.lineSeparator() + mapper.writer(prettyPrinter).writeValueAsString(bom);
-            }
-            return PROLOG + mapper.writeValueAsString(bom);
+            return prolog(prettyPrint) + writer(prettyPrint).writeValueAsString(bom);
         }
         catch (JsonProcessingException ex) {
             throw new GeneratorException(ex);
@@ -138,6 +231,98 @@ public class BomXmlGenerator extends AbstractBomGenerator
         return toXML(bom, prettyPrint);
     }
 
+    /**
+     * Writes the pretty-printed XML representation of the BOM to a stream, without first building it in memory.
+     * The stream is flushed but not closed.
+     * @param outputStream the stream to write UTF-8 encoded XML to
+     * @throws GeneratorException if the BOM cannot be serialized or written
+     * @since 13.2.0
+     */
+    public void write(final OutputStream outputStream) throws GeneratorException {
+        write(outputStream, true);
+    }
+
+    /**
+     * Writes the XML representation of the BOM to a stream, without first building it in memory.
+     * The stream is flushed but not closed.
+     * @param outputStream the stream to write UTF-8 encoded XML to
+     * @param prettyPrint whether the output is indented
+     * @throws GeneratorException if the BOM cannot be serialized or written
+     * @since 13.2.0
+     */
+    public void write(final OutputStream outputStream, final boolean prettyPrint) throws GeneratorException {
+        try {
+            outputStream.write(prolog(prettyPrint).getBytes(StandardCharsets.UTF_8));
+            streamingWriter(prettyPrint).writeValue(outputStream, bom);
+        }
+        catch (IOException e) {
+            throw new GeneratorException(e);
+        }
+    }
+
+    /**
+     * Writes the pretty-printed XML representation of the BOM to a writer, without first building it in memory.
+     * The writer is flushed but not closed.
+     * @param writer the writer to write XML to
+     * @throws GeneratorException if the BOM cannot be serialized or written
+     * @since 13.2.0
+     */
+    public void write(final Writer writer) throws GeneratorException {
+        write(writer, true);
+    }
+
+    /**
+     * Writes the XML representation of the BOM to a writer, without first building it in memory.
+     * The writer is flushed but not closed.
+     * @param writer the writer to write XML to
+     * @param prettyPrint whether the output is indented
+     * @throws GeneratorException if the BOM cannot be serialized or written
+     * @since 13.2.0
+     */
+    public void write(final Writer writer, final boolean prettyPrint) throws GeneratorException {
+        try {
+            writer.write(prolog(prettyPrint));
+            streamingWriter(prettyPrint).writeValue(writer, bom);
+        }
+        catch (IOException e) {
+            throw new GeneratorException(e);
+        }
+    }
+
+    /**
+     * Writes the pretty-printed XML representation of the BOM to a file, replacing any existing content.
+     * @param path the file to write UTF-8 encoded XML to
+     * @throws GeneratorException if the BOM cannot be serialized or written
+     * @since 13.2.0
+     */
+    public void write(final Path path) throws GeneratorException {
+        write(path, true);
+    }
+
+    /**
+     * Writes the XML representation of the BOM to a file, replacing any existing content.
+     * @param path the file to write UTF-8 encoded XML to
+     * @param prettyPrint whether the output is indented
+     * @throws GeneratorException if the BOM cannot be serialized or written
+     * @since 13.2.0
+     */
+    public void write(final Path path, final boolean prettyPrint) throws GeneratorException {
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            write(outputStream, prettyPrint);
+        }
+        catch (IOException e) {
+            throw new GeneratorException(e);
+        }
+    }
+
+    private static String prolog(final boolean prettyPrint) {
+        return prettyPrint ? PROLOG + System.lineSeparator() : PROLOG;
+    }
+
+    private ObjectWriter streamingWriter(final boolean prettyPrint) {
+        return writer(prettyPrint).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
     /**
      * Creates a text representation of a CycloneDX BoM Document. This method calls {@link #toXmlString()} and will return
      * an empty string if {@link #toXmlString()} throws an exception. It's preferred to call {@link #toXmlString()}
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Collections;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
@@ -34,6 +35,7 @@ import org.cyclonedx.model.attestation.Declarations;
 import org.cyclonedx.model.definition.Definition;
 import org.cyclonedx.model.formulation.Formula;
 import org.cyclonedx.model.vulnerability.Vulnerability;
+import org.cyclonedx.util.BomIndex;
 import org.cyclonedx.util.deserializer.DependencyDeserializer;
 import org.cyclonedx.util.deserializer.ExternalReferencesDeserializer;
 import org.cyclonedx.util.deserializer.VulnerabilityDeserializer;
@@ -124,6 +126,15 @@ public class Bom extends ExtensibleElement {
     @VersionFilter(Version.VERSION_14)
     private Signature signature;
 
+    @JsonIgnore
+    private BomIndex index;
+
+    @JsonIgnore
+    private volatile boolean frozen;
+
+    @JsonIgnore
+    private int frozenHashCode;
+
     public Metadata getMetadata() {
         return metadata;
     }
@@ -338,6 +349,61 @@ public class Bom extends ExtensibleElement {
 
     public void setSignature(Signature signature) { this.signature = signature; }
 
+    /**
+     * Returns the index of the objects of this BOM by bom-ref, which {@link org.cyclonedx.util.ObjectLocator}
+     * uses when present. The index is not serialized, and is not updated when the BOM is modified.
+     * @return the index, or null if none was set
+     * @since 13.2.0
+     */
+    @JsonIgnore
+    public BomIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the index of the objects of this BOM, such as {@code bom.setIndex(BomIndex.of(bom))}.
+     * @param index the index, or null to remove it
+     * @since 13.2.0
+     */
+    @JsonIgnore
+    public void setIndex(BomIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Freezes this BOM, so that it can be shared by threads without copying or locking. All the lists of the
+     * BOM and of the objects it contains are replaced with unmodifiable copies, which reject modifications with
+     * an {@link UnsupportedOperationException}. The hash codes and {@linkplain Component#getFingerprint()
+     * fingerprints} of the components and services, the hash code of the BOM and its {@link BomIndex} are
+     * computed in advance.
+     * <p>
+     * The objects of a frozen BOM must not be modified through their setters either, which are not guarded.
+     * Generators do not modify a frozen BOM, so several threads can serialize it at once. A thread that sees
+     * {@link #isFrozen()} return true sees the frozen state of the whole BOM; a frozen BOM published through a
+     * data race must be checked that way before use.
+     * @return this BOM
+     * @since 13.2.0
+     */
+    public synchronized Bom freeze() {
+        if (!frozen) {
+            Freezer.freeze(this);
+            index = BomIndex.of(this);
+            frozenHashCode = hashCode();
+            frozen = true;
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether this BOM is frozen.
+     * @return true if {@link #freeze()} was called
+     * @since 13.2.0
+     */
+    @JsonIgnore
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -358,6 +424,9 @@ public class Bom extends ExtensibleElement {
 
     @Override
     public int hashCode() {
+        if (frozen) {
+            return frozenHashCode;
+        }
         return Objects.hash(metadata, components, dependencies, externalReferences, compositions, vulnerabilities,
             annotations, properties, version, serialNumber, specVersion);
     }
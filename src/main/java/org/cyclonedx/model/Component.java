@@ -31,6 +31,7 @@ import org.cyclonedx.model.component.ModelCard;
 import org.cyclonedx.model.component.crypto.CryptoProperties;
 import org.cyclonedx.model.component.Tags;
 import org.cyclonedx.model.component.data.ComponentData;
+import org.cyclonedx.util.Fingerprint;
 import org.cyclonedx.util.deserializer.ComponentListDeserializer;
 import org.cyclonedx.util.deserializer.ExternalReferencesDeserializer;
 import org.cyclonedx.util.deserializer.HashesDeserializer;
@@ -261,6 +262,15 @@ public class Component extends ExtensibleElement {
     @VersionFilter(Version.VERSION_14)
     private Signature signature;
 
+    @JsonIgnore
+    private Fingerprint fingerprint;
+
+    @JsonIgnore
+    private boolean frozen;
+
+    @JsonIgnore
+    private int frozenHashCode;
+
     public String getBomRef() {
         return bomRef;
     }
@@ -275,6 +285,7 @@ public class Component extends ExtensibleElement {
 
     public void setMimeType(String mimeType) {
         this.mimeType = mimeType;
+        invalidateFingerprint();
     }
 
     public OrganizationalEntity getSupplier() {
@@ -283,6 +294,7 @@ public class Component extends ExtensibleElement {
 
     public void setSupplier(OrganizationalEntity supplier) {
         this.supplier = supplier;
+        invalidateFingerprint();
     }
 
     /**
@@ -307,6 +319,7 @@ public class Component extends ExtensibleElement {
     @JacksonXmlProperty(localName = "author")
     public void setAuthor(String author) {
         this.author = author;
+        invalidateFingerprint();
     }
 
     public String getPublisher() {
@@ -315,6 +328,7 @@ public class Component extends ExtensibleElement {
 
     public void setPublisher(String publisher) {
         this.publisher = publisher;
+        invalidateFingerprint();
     }
 
     public String getGroup() {
@@ -323,6 +337,7 @@ public class Component extends ExtensibleElement {
 
     public void setGroup(String group) {
         this.group = group;
+        invalidateFingerprint();
     }
 
     public String getName() {
@@ -331,6 +346,7 @@ public class Component extends ExtensibleElement {
 
     public void setName(String name) {
         this.name = name;
+        invalidateFingerprint();
     }
 
     public String getVersion() {
@@ -339,6 +355,7 @@ public class Component extends ExtensibleElement {
 
     public void setVersion(String version) {
         this.version = version;
+        invalidateFingerprint();
     }
 
     @VersionFilter(Version.VERSION_17)
@@ -348,6 +365,7 @@ public class Component extends ExtensibleElement {
 
     public void setVersionRange(String versionRange) {
         this.versionRange = versionRange;
+        invalidateFingerprint();
     }
 
     @VersionFilter(Version.VERSION_17)
@@ -357,6 +375,7 @@ public class Component extends ExtensibleElement {
 
     public void setIsExternal(Boolean isExternal) {
         this.isExternal = isExternal;
+        invalidateFingerprint();
     }
 
     public String getDescription() {
@@ -365,6 +384,7 @@ public class Component extends ExtensibleElement {
 
     public void setDescription(String description) {
         this.description = description;
+        invalidateFingerprint();
     }
 
     public Scope getScope() {
@@ -373,6 +393,7 @@ public class Component extends ExtensibleElement {
 
     public void setScope(Scope scope) {
         this.scope = scope;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "hashes")
@@ -384,6 +405,7 @@ public class Component extends ExtensibleElement {
 
     public void setHashes(List<Hash> hashes) {
         this.hashes = hashes;
+        invalidateFingerprint();
     }
 
     public void addHash(Hash hash) {
@@ -391,6 +413,7 @@ public class Component extends ExtensibleElement {
             this.hashes = new ArrayList<>();
         }
         this.hashes.add(hash);
+        invalidateFingerprint();
     }
 
     @JsonDeserialize(using = LicenseDeserializer.class)
@@ -405,6 +428,7 @@ public class Component extends ExtensibleElement {
     @JsonDeserialize(using = LicenseChoiceDeserializer.class)
     public void setLicenses(LicenseChoice licenses) {
         this.licenses = licenses;
+        invalidateFingerprint();
     }
 
     @Deprecated
@@ -416,6 +440,7 @@ public class Component extends ExtensibleElement {
     @JsonIgnore
     public void setLicenseChoice(LicenseChoice licenseChoice) {
         setLicenses(licenseChoice);
+        invalidateFingerprint();
     }
 
     public String getCopyright() {
@@ -424,6 +449,7 @@ public class Component extends ExtensibleElement {
 
     public void setCopyright(String copyright) {
         this.copyright = copyright;
+        invalidateFingerprint();
     }
 
     /**
@@ -438,6 +464,7 @@ public class Component extends ExtensibleElement {
      */
     public void setCpe(String cpe) {
         this.cpe = cpe;
+        invalidateFingerprint();
     }
 
     public String getPurl() {
@@ -446,10 +473,12 @@ public class Component extends ExtensibleElement {
 
     public void setPurl(String purl) {
         this.purl = purl;
+        invalidateFingerprint();
     }
 
     public void setPurl(PackageURL purl) {
         this.purl = purl.canonicalize();
+        invalidateFingerprint();
     }
 
     public Swid getSwid() {
@@ -458,6 +487,7 @@ public class Component extends ExtensibleElement {
 
     public void setSwid(Swid swid) {
         this.swid = swid;
+        invalidateFingerprint();
     }
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -469,6 +499,7 @@ public class Component extends ExtensibleElement {
 
     public void setModified(Boolean modified) {
         this.modified = modified;
+        invalidateFingerprint();
     }
 
     public Pedigree getPedigree() {
@@ -477,6 +508,7 @@ public class Component extends ExtensibleElement {
 
     public void setPedigree(Pedigree pedigree) {
         this.pedigree = pedigree;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "externalReferences")
@@ -492,10 +524,12 @@ public class Component extends ExtensibleElement {
             externalReferences = new ArrayList<>();
         }
         externalReferences.add(externalReference);
+        invalidateFingerprint();
     }
 
     public void setExternalReferences(List<ExternalReference> externalReferences) {
         this.externalReferences = externalReferences;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "properties")
@@ -507,6 +541,7 @@ public class Component extends ExtensibleElement {
 
     public void setProperties(List<Property> properties) {
         this.properties = properties;
+        invalidateFingerprint();
     }
 
     public void addProperty(Property property) {
@@ -514,6 +549,7 @@ public class Component extends ExtensibleElement {
             this.properties = new ArrayList<>();
         }
         this.properties.add(property);
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "components")
@@ -525,6 +561,7 @@ public class Component extends ExtensibleElement {
 
     public void setComponents(List<Component> components) {
         this.components = components;
+        invalidateFingerprint();
     }
 
     public void addComponent(Component component) {
@@ -532,6 +569,44 @@ public class Component extends ExtensibleElement {
             this.components = new ArrayList<>();
         }
         this.components.add(component);
+        invalidateFingerprint();
+    }
+
+    /**
+     * Returns the fingerprint of the content of this component and its nested components, for comparing
+     * components without deep comparisons. The fingerprint is computed on first use, bottom-up, and cached in
+     * this component and its nested components. The setters of a component discard its own cached fingerprint;
+     * a change made through a returned list, or below a component, must still be invalidated with
+     * {@link #invalidateFingerprint()} on the components it is nested in.
+     * @return the fingerprint
+     * @see Fingerprint#ofTree(Component)
+     * @since 13.2.0
+     */
+    @JsonIgnore
+    public Fingerprint getFingerprint() {
+        Fingerprint fingerprint = this.fingerprint;
+        if (fingerprint == null) {
+            fingerprint = Fingerprint.ofTree(this);
+            this.fingerprint = fingerprint;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Discards the cached fingerprint of this component, so that it is computed again on next use.
+     * @since 13.2.0
+     */
+    public void invalidateFingerprint() {
+        this.fingerprint = null;
+    }
+
+    /**
+     * Caches the hash code and the fingerprint of this component, once its nested objects are frozen.
+     */
+    void freeze() {
+        fingerprint = Fingerprint.ofTree(this);
+        frozenHashCode = hashCode();
+        frozen = true;
     }
 
     public Evidence getEvidence() {
@@ -540,6 +615,7 @@ public class Component extends ExtensibleElement {
 
     public void setEvidence(Evidence evidence) {
         this.evidence = evidence;
+        invalidateFingerprint();
     }
 
     public Type getType() {
@@ -548,15 +624,16 @@ public class Component extends ExtensibleElement {
 
     public void setType(Type type) {
         this.type = type;
+        invalidateFingerprint();
     }
 
     public ReleaseNotes getReleaseNotes() { return releaseNotes; }
 
-    public void setReleaseNotes(ReleaseNotes releaseNotes) { this.releaseNotes = releaseNotes; }
+    public void setReleaseNotes(ReleaseNotes releaseNotes) { this.releaseNotes = releaseNotes; invalidateFingerprint(); }
 
     public Signature getSignature() { return signature; }
 
-    public void setSignature(Signature signature) { this.signature = signature; }
+    public void setSignature(Signature signature) { this.signature = signature; invalidateFingerprint(); }
 
     public ModelCard getModelCard() {
         return modelCard;
@@ -564,6 +641,7 @@ public class Component extends ExtensibleElement {
 
     public void setModelCard(final ModelCard modelCard) {
         this.modelCard = modelCard;
+        invalidateFingerprint();
     }
 
     @JsonProperty("data")
@@ -575,6 +653,7 @@ public class Component extends ExtensibleElement {
 
     public void setData(final List<ComponentData> data) {
         this.data = data;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(useWrapping = false)
@@ -585,6 +664,7 @@ public class Component extends ExtensibleElement {
 
     public void setOmniborId(final List<String> omniborId) {
         this.omniborId = omniborId;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(useWrapping = false)
@@ -595,6 +675,7 @@ public class Component extends ExtensibleElement {
 
     public void setSwhid(final List<String> swhid) {
         this.swhid = swhid;
+        invalidateFingerprint();
     }
 
     public CryptoProperties getCryptoProperties() {
@@ -603,6 +684,7 @@ public class Component extends ExtensibleElement {
 
     public void setCryptoProperties(final CryptoProperties cryptoProperties) {
         this.cryptoProperties = cryptoProperties;
+        invalidateFingerprint();
     }
 
     public List<String> getProvides() {
@@ -611,6 +693,7 @@ public class Component extends ExtensibleElement {
 
     public void setProvides(final List<String> provides) {
         this.provides = provides;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "patentAssertions")
@@ -622,6 +705,7 @@ public class Component extends ExtensibleElement {
 
     public void setPatentAssertions(List<PatentAssertion> patentAssertions) {
         this.patentAssertions = patentAssertions;
+        invalidateFingerprint();
     }
 
     public Tags getTags() {
@@ -630,6 +714,7 @@ public class Component extends ExtensibleElement {
 
     public void setTags(final Tags tags) {
         this.tags = tags;
+        invalidateFingerprint();
     }
 
     /**
@@ -653,6 +738,7 @@ public class Component extends ExtensibleElement {
     @JsonSetter("authors")
     public void setAuthors(final List<OrganizationalContact> authors) {
         this.authors = authors;
+        invalidateFingerprint();
     }
 
     public OrganizationalEntity getManufacturer() {
@@ -661,6 +747,7 @@ public class Component extends ExtensibleElement {
 
     public void setManufacturer(final OrganizationalEntity manufacturer) {
         this.manufacturer = manufacturer;
+        invalidateFingerprint();
     }
 
     /**
@@ -703,6 +790,9 @@ public class Component extends ExtensibleElement {
 
     @Override
     public int hashCode() {
+        if (frozen) {
+            return frozenHashCode;
+        }
         return Objects.hash(author, publisher, group, name, version, description, scope, hashes, licenses, copyright,
             cpe, purl, omniborId, swhid, swid, modified, components, evidence, releaseNotes, type, modelCard, data,
             isExternal, versionRange, patentAssertions, tags);
@@ -713,6 +803,7 @@ public class Component extends ExtensibleElement {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Component component = (Component) o;
+        if (frozen && component.frozen && frozenHashCode != component.frozenHashCode) return false;
         return modified == component.modified &&
                 Objects.equals(supplier, component.supplier) &&
                 Objects.equals(author, component.author) &&
@@ -23,7 +23,6 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -50,9 +49,18 @@ public class Dependency extends BomReference {
         this.dependencies = dependencies;
     }
 
+    /**
+     * Adds a dependency unless there is one with the same ref. The list created by this method detects
+     * duplicates without scanning itself; a list set through {@link #setDependencies(List)} is scanned.
+     * @param dependency the dependency
+     */
     public void addDependency(final Dependency dependency) {
         if (dependencies == null) {
-            dependencies = new ArrayList<>();
+            dependencies = new DependsOnList();
+        }
+        if (dependencies instanceof DependsOnList) {
+            ((DependsOnList) dependencies).addIfAbsent(dependency);
+            return;
         }
         boolean found = dependencies.stream().anyMatch(d -> d.getRef().equals(dependency.getRef()));
         if (!found) {
@@ -0,0 +1,112 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Accumulates the edges of a dependency graph and builds the {@link DependencyList} of a BOM, for tools
+ * that discover the dependencies of each component one by one. Adding an edge takes constant time, and
+ * duplicate edges are ignored:
+ * <pre>
+ * DependencyListBuilder builder = new DependencyListBuilder();
+ * builder.addDependency("app", "lib");
+ * builder.addDependency("lib", "core");
+ * builder.addRef("core");
+ * bom.setDependencies(builder.build());
+ * </pre>
+ * The dependencies are listed in the order their refs are first added, and the refs each one depends on in
+ * the order they are first added to it. This is the list that the same calls to {@link Bom#addDependency(Dependency)}
+ * and {@link Dependency#addDependency(Dependency)} would produce, so it is serialized the same way.
+ * @since 13.2.0
+ */
+public class DependencyListBuilder {
+
+    private final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+
+    /**
+     * Adds a ref to the graph, without dependencies unless some are added to it.
+     * @param ref the ref
+     * @return this builder
+     */
+    public DependencyListBuilder addRef(final String ref) {
+        refs(ref);
+        return this;
+    }
+
+    /**
+     * Adds an edge to the graph. The ref it depends on is not added as a dependency of its own.
+     * @param ref the ref of the dependent
+     * @param dependsOn the ref it depends on
+     * @return this builder
+     */
+    public DependencyListBuilder addDependency(final String ref, final String dependsOn) {
+        refs(ref).add(dependsOn);
+        return this;
+    }
+
+    /**
+     * Adds edges from a ref to each of the refs it depends on.
+     * @param ref the ref of the dependent
+     * @param dependsOn the refs it depends on
+     * @return this builder
+     */
+    public DependencyListBuilder addDependencies(final String ref, final Collection<String> dependsOn) {
+        refs(ref).addAll(dependsOn);
+        return this;
+    }
+
+    private Set<String> refs(final String ref) {
+        return dependencies.computeIfAbsent(ref, r -> new LinkedHashSet<>());
+    }
+
+    /**
+     * Returns the number of refs added.
+     * @return the number of dependencies the built list has
+     */
+    public int size() {
+        return dependencies.size();
+    }
+
+    /**
+     * Builds the dependencies. The builder may be used further, which does not affect the lists already built.
+     * @return a new list with a dependency for each ref added
+     */
+    public DependencyList build() {
+        final List<Dependency> list = new ArrayList<>(dependencies.size());
+        for (final Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+            final Dependency dependency = new Dependency(entry.getKey());
+            if (!entry.getValue().isEmpty()) {
+                final List<Dependency> dependsOn = new ArrayList<>(entry.getValue().size());
+                for (final String ref : entry.getValue()) {
+                    dependsOn.add(new Dependency(ref));
+                }
+                dependency.setDependencies(dependsOn);
+            }
+            list.add(dependency);
+        }
+        return new DependencyList(list);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The list of the dependencies of a {@link Dependency} created by {@link Dependency#addDependency(Dependency)},
+ * which keeps count of the refs it holds, so that duplicates are detected without scanning it. Every change
+ * goes through {@link #set(int, Dependency)}, {@link #add(int, Dependency)} or {@link #remove(int)}, including
+ * those made through iterators and sublists, so the counts are always current. The ref of a dependency held
+ * by the list must not change, just as it must not while the dependency is held by a set.
+ */
+final class DependsOnList extends AbstractList<Dependency> implements RandomAccess {
+
+    private final List<Dependency> elements = new ArrayList<>();
+
+    private final Map<String, Integer> refCounts = new HashMap<>();
+
+    /**
+     * Adds a dependency unless the list holds one with the same ref.
+     * @param dependency the dependency
+     * @return true if the dependency was added
+     */
+    boolean addIfAbsent(final Dependency dependency) {
+        if (refCounts.containsKey(dependency.getRef())) {
+            return false;
+        }
+        add(dependency);
+        return true;
+    }
+
+    @Override
+    public Dependency get(final int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public Dependency set(final int index, final Dependency dependency) {
+        final Dependency previous = elements.set(index, dependency);
+        unindex(previous);
+        index(dependency);
+        return previous;
+    }
+
+    @Override
+    public void add(final int index, final Dependency dependency) {
+        elements.add(index, dependency);
+        index(dependency);
+        modCount++;
+    }
+
+    @Override
+    public Dependency remove(final int index) {
+        final Dependency previous = elements.remove(index);
+        unindex(previous);
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+        refCounts.clear();
+        modCount++;
+    }
+
+    private void index(final Dependency dependency) {
+        if (dependency != null) {
+            refCounts.merge(dependency.getRef(), 1, Integer::sum);
+        }
+    }
+
+    private void unindex(final Dependency dependency) {
+        if (dependency != null) {
+            refCounts.computeIfPresent(dependency.getRef(), (ref, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+}
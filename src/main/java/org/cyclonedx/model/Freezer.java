@@ -0,0 +1,165 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.model;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Freezes the object graph of a BOM: walks the model objects reachable from it, replaces their collections
+ * with unmodifiable copies, and lets components and services cache their hash codes once their nested
+ * objects are frozen. The walk is iterative, so that deeply nested BOMs do not overflow the stack.
+ */
+final class Freezer {
+
+    private static final String MODEL_PACKAGE = "org.cyclonedx.model";
+
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final Deque<Object> pending = new ArrayDeque<>();
+
+    /**
+     * Marks an object whose fields have all been frozen, below it on the stack.
+     */
+    private static final class Exit {
+        private final Object object;
+
+        private Exit(final Object object) {
+            this.object = object;
+        }
+    }
+
+    private Freezer() {
+    }
+
+    static void freeze(final Bom bom) {
+        final Freezer freezer = new Freezer();
+        freezer.push(bom);
+        freezer.run();
+    }
+
+    private void push(final Object object) {
+        if (object != null && isModelObject(object) && visited.add(object)) {
+            pending.push(object);
+        }
+    }
+
+    private void run() {
+        while (!pending.isEmpty()) {
+            final Object object = pending.pop();
+            if (object instanceof Exit) {
+                exit(((Exit) object).object);
+                continue;
+            }
+            pending.push(new Exit(object));
+            for (final Field field : fields(object.getClass())) {
+                freezeField(object, field);
+            }
+        }
+    }
+
+    private static void exit(final Object object) {
+        if (object instanceof Component) {
+            ((Component) object).freeze();
+        } else if (object instanceof Service) {
+            ((Service) object).freeze();
+        }
+    }
+
+    private void freezeField(final Object object, final Field field) {
+        try {
+            final Object value = field.get(object);
+            final Object frozen = freezeValue(value);
+            if (frozen != value && !Modifier.isFinal(field.getModifiers()) && field.getType().isInstance(frozen)) {
+                field.set(object, frozen);
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to freeze " + field, e);
+        }
+    }
+
+    private Object freezeValue(final Object value) {
+        if (value instanceof FrozenDependencyList) {
+            return value;
+        }
+        if (value instanceof DependencyList) {
+            final DependencyList dependencies = (DependencyList) value;
+            dependencies.forEach(this::push);
+            return new FrozenDependencyList(dependencies);
+        }
+        if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            list.forEach(this::push);
+            return list.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(list.toArray()));
+        }
+        if (value instanceof Set) {
+            final Set<?> set = (Set<?>) value;
+            set.forEach(this::push);
+            return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+        }
+        if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            map.values().forEach(this::push);
+            return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+        }
+        push(value);
+        return value;
+    }
+
+    private static boolean isModelObject(final Object object) {
+        final Package pkg = object.getClass().getPackage();
+        return pkg != null && (pkg.getName().equals(MODEL_PACKAGE) || pkg.getName().startsWith(MODEL_PACKAGE + "."))
+                && !(object instanceof Enum);
+    }
+
+    /**
+     * Returns the instance fields of a class and its superclasses that may hold model objects or collections.
+     */
+    private static List<Field> fields(final Class<?> type) {
+        return FIELDS.computeIfAbsent(type, t -> {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> c = t; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (final Field field : c.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || field.isSynthetic()
+                            || field.getType().isPrimitive() || field.getType() == String.class) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return fields;
+        });
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.model;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * The {@link DependencyList} of a frozen BOM, which rejects modifications. It remains a DependencyList so that
+ * it is serialized as such.
+ */
+final class FrozenDependencyList extends DependencyList {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A read-only view, whose iterators and sublists cannot modify this list either.
+     */
+    private final transient List<Dependency> view = new AbstractList<Dependency>() {
+        @Override
+        public Dependency get(final int index) {
+            return FrozenDependencyList.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return FrozenDependencyList.this.size();
+        }
+    };
+
+    FrozenDependencyList(final List<Dependency> dependencies) {
+        super(dependencies);
+    }
+
+    private static UnsupportedOperationException frozen() {
+        return new UnsupportedOperationException("The BOM is frozen");
+    }
+
+    @Override
+    public Iterator<Dependency> iterator() {
+        return view.iterator();
+    }
+
+    @Override
+    public ListIterator<Dependency> listIterator() {
+        return view.listIterator();
+    }
+
+    @Override
+    public ListIterator<Dependency> listIterator(final int index) {
+        return view.listIterator(index);
+    }
+
+    @Override
+    public List<Dependency> subList(final int fromIndex, final int toIndex) {
+        return view.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean add(final Dependency dependency) {
+        throw frozen();
+    }
+
+    @Override
+    public void add(final int index, final Dependency dependency) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends Dependency> c) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean addAll(final int index, final Collection<? extends Dependency> c) {
+        throw frozen();
+    }
+
+    @Override
+    public Dependency set(final int index, final Dependency dependency) {
+        throw frozen();
+    }
+
+    @Override
+    public Dependency remove(final int index) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super Dependency> filter) {
+        throw frozen();
+    }
+
+    @Override
+    public void replaceAll(final UnaryOperator<Dependency> operator) {
+        throw frozen();
+    }
+
+    @Override
+    public void sort(final Comparator<? super Dependency> c) {
+        throw frozen();
+    }
+
+    @Override
+    public void clear() {
+        throw frozen();
+    }
+
+    @Override
+    protected void removeRange(final int fromIndex, final int toIndex) {
+        throw frozen();
+    }
+}
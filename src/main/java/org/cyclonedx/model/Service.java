@@ -29,6 +29,7 @@ import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
 import org.cyclonedx.Version;
 import org.cyclonedx.model.component.Tags;
+import org.cyclonedx.util.Fingerprint;
 import org.cyclonedx.util.deserializer.ExternalReferencesDeserializer;
 import org.cyclonedx.util.deserializer.LicenseDeserializer;
 import org.cyclonedx.util.deserializer.StringListDeserializer;
@@ -96,6 +97,15 @@ public class Service extends ExtensibleElement {
     @VersionFilter(Version.VERSION_14)
     private Signature signature;
 
+    @JsonIgnore
+    private Fingerprint fingerprint;
+
+    @JsonIgnore
+    private boolean frozen;
+
+    @JsonIgnore
+    private int frozenHashCode;
+
     public String getBomRef() {
         return bomRef;
     }
@@ -110,6 +120,7 @@ public class Service extends ExtensibleElement {
 
     public void setProvider(OrganizationalEntity provider) {
         this.provider = provider;
+        invalidateFingerprint();
     }
 
     public String getGroup() {
@@ -118,6 +129,7 @@ public class Service extends ExtensibleElement {
 
     public void setGroup(String group) {
         this.group = group;
+        invalidateFingerprint();
     }
 
     public String getName() {
@@ -126,6 +138,7 @@ public class Service extends ExtensibleElement {
 
     public void setName(String name) {
         this.name = name;
+        invalidateFingerprint();
     }
 
     public String getVersion() {
@@ -134,6 +147,7 @@ public class Service extends ExtensibleElement {
 
     public void setVersion(String version) {
         this.version = version;
+        invalidateFingerprint();
     }
 
     public String getDescription() {
@@ -142,6 +156,7 @@ public class Service extends ExtensibleElement {
 
     public void setDescription(String description) {
         this.description = description;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "endpoints")
@@ -156,10 +171,12 @@ public class Service extends ExtensibleElement {
             this.endpoints = new ArrayList<>();
         }
         this.endpoints.add(endpoint);
+        invalidateFingerprint();
     }
 
     public void setEndpoints(List<String> endpoints) {
         this.endpoints = endpoints;
+        invalidateFingerprint();
     }
 
     public Boolean getAuthenticated() {
@@ -168,6 +185,7 @@ public class Service extends ExtensibleElement {
 
     public void setAuthenticated(Boolean authenticated) {
         this.authenticated = authenticated;
+        invalidateFingerprint();
     }
 
     public Boolean getxTrustBoundary() {
@@ -189,10 +207,12 @@ public class Service extends ExtensibleElement {
             this.data = new ArrayList<>();
         }
         this.data.add(data);
+        invalidateFingerprint();
     }
 
     public void setData(List<ServiceData> data) {
         this.data = data;
+        invalidateFingerprint();
     }
 
     @Deprecated
@@ -204,6 +224,7 @@ public class Service extends ExtensibleElement {
     @JsonIgnore
     public void setLicense(LicenseChoice licenseChoice) {
         setLicenses(licenseChoice);
+        invalidateFingerprint();
     }
 
     @JsonDeserialize(using = LicenseDeserializer.class)
@@ -214,6 +235,7 @@ public class Service extends ExtensibleElement {
     @JacksonXmlElementWrapper (useWrapping = false)
     public void setLicenses(LicenseChoice licenses) {
         this.licenses = licenses;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "externalReferences")
@@ -228,10 +250,12 @@ public class Service extends ExtensibleElement {
             externalReferences = new ArrayList<>();
         }
         externalReferences.add(externalReference);
+        invalidateFingerprint();
     }
 
     public void setExternalReferences(List<ExternalReference> externalReferences) {
         this.externalReferences = externalReferences;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "properties")
@@ -242,6 +266,7 @@ public class Service extends ExtensibleElement {
 
     public void setProperties(List<Property> properties) {
         this.properties = properties;
+        invalidateFingerprint();
     }
 
     public void addProperty(Property property) {
@@ -249,6 +274,7 @@ public class Service extends ExtensibleElement {
             this.properties = new ArrayList<>();
         }
         this.properties.add(property);
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "services")
@@ -259,15 +285,53 @@ public class Service extends ExtensibleElement {
 
     public void setServices(List<Service> services) {
         this.services = services;
+        invalidateFingerprint();
+    }
+
+    /**
+     * Returns the fingerprint of the content of this service and its nested services, for comparing services
+     * without deep comparisons. The fingerprint is computed on first use, bottom-up, and cached in this service
+     * and its nested services. The setters of a service discard its own cached fingerprint; a change made
+     * through a returned list, or below a service, must still be invalidated with
+     * {@link #invalidateFingerprint()} on the services it is nested in.
+     * @return the fingerprint
+     * @see Fingerprint#ofTree(Service)
+     * @since 13.2.0
+     */
+    @JsonIgnore
+    public Fingerprint getFingerprint() {
+        Fingerprint fingerprint = this.fingerprint;
+        if (fingerprint == null) {
+            fingerprint = Fingerprint.ofTree(this);
+            this.fingerprint = fingerprint;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Discards the cached fingerprint of this service, so that it is computed again on next use.
+     * @since 13.2.0
+     */
+    public void invalidateFingerprint() {
+        this.fingerprint = null;
+    }
+
+    /**
+     * Caches the hash code and the fingerprint of this service, once its nested objects are frozen.
+     */
+    void freeze() {
+        fingerprint = Fingerprint.ofTree(this);
+        frozenHashCode = hashCode();
+        frozen = true;
     }
 
     public ReleaseNotes getReleaseNotes() { return releaseNotes; }
 
-    public void setReleaseNotes(ReleaseNotes releaseNotes) { this.releaseNotes = releaseNotes; }
+    public void setReleaseNotes(ReleaseNotes releaseNotes) { this.releaseNotes = releaseNotes; invalidateFingerprint(); }
 
     public Signature getSignature() { return signature; }
 
-    public void setSignature(Signature signature) { this.signature = signature; }
+    public void setSignature(Signature signature) { this.signature = signature; invalidateFingerprint(); }
 
     public Tags getTags() {
         return tags;
@@ -275,6 +339,7 @@ public class Service extends ExtensibleElement {
 
     public void setTags(final Tags tags) {
         this.tags = tags;
+        invalidateFingerprint();
     }
 
     @JacksonXmlElementWrapper(localName = "patentAssertions")
@@ -286,6 +351,7 @@ public class Service extends ExtensibleElement {
 
     public void setPatentAssertions(List<PatentAssertion> patentAssertions) {
         this.patentAssertions = patentAssertions;
+        invalidateFingerprint();
     }
 
     public String getTrustZone() {
@@ -294,6 +360,7 @@ public class Service extends ExtensibleElement {
 
     public void setTrustZone(final String trustZone) {
         this.trustZone = trustZone;
+        invalidateFingerprint();
     }
 
     @Override
@@ -305,6 +372,9 @@ public class Service extends ExtensibleElement {
             return false;
         }
         Service service = (Service) object;
+        if (frozen && service.frozen && frozenHashCode != service.frozenHashCode) {
+            return false;
+        }
         return Objects.equals(bomRef, service.bomRef) && Objects.equals(provider, service.provider) &&
             Objects.equals(group, service.group) && Objects.equals(name, service.name) &&
             Objects.equals(version, service.version) &&
@@ -323,6 +393,9 @@ public class Service extends ExtensibleElement {
 
     @Override
     public int hashCode() {
+        if (frozen) {
+            return frozenHashCode;
+        }
         return Objects.hash(bomRef, provider, group, name, version, description, endpoints, authenticated, signature,
             xTrustBoundary, trustZone, data, licenses, externalReferences, properties, tags, services, releaseNotes);
     }
@@ -0,0 +1,280 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.cyclonedx.Format;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.util.BomMapperFactory;
+import org.cyclonedx.util.StringPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * AsyncJsonParser parses a CycloneDX JSON document that arrives in chunks, without blocking and without
+ * buffering the document. It is built on Jackson's non-blocking parser, and is meant for non-blocking
+ * servers that receive a BOM as a sequence of buffers:
+ * <pre>
+ * AsyncJsonParser parser = new AsyncJsonParser();
+ * // for each chunk of the request body, as it arrives
+ * parser.feed(chunk);
+ * // once the body is complete
+ * parser.endOfInput();
+ * parser.getResult().thenAccept(bom -&gt; ...);
+ * </pre>
+ * Each top-level component is bound as soon as it is complete, and may be passed to a listener before the
+ * rest of the document has arrived. The other parts of the document are kept as compact token buffers and
+ * bound when the input ends, with the same deserializers as {@link JsonParser}.
+ * <p>
+ * An instance parses a single document and is not thread-safe: chunks must be fed by one thread at a
+ * time, in order. The listener is called on the thread feeding the chunk that completes a component.
+ * @since 13.2.0
+ */
+public class AsyncJsonParser {
+
+    private static final String COMPONENTS = "components";
+
+    private final ParseOptions options;
+
+    private final ObjectMapper mapper;
+
+    private final ObjectReader bomReader;
+
+    private final ObjectReader componentReader;
+
+    private final Consumer<Component> componentListener;
+
+    private final boolean streamComponents;
+
+    private final com.fasterxml.jackson.core.JsonParser parser;
+
+    private final ByteBufferFeeder feeder;
+
+    private final CompletableFuture<Bom> result = new CompletableFuture<>();
+
+    private final TokenBuffer document;
+
+    private final List<Component> components = new ArrayList<>();
+
+    private TokenBuffer component;
+
+    private int documentDepth;
+
+    private int componentDepth;
+
+    private boolean inComponents;
+
+    private boolean componentsPending;
+
+    private boolean hasComponents;
+
+    private boolean documentComplete;
+
+    public AsyncJsonParser() throws ParseException {
+        this(ParseOptions.DEFAULT, null);
+    }
+
+    public AsyncJsonParser(final ParseOptions options) throws ParseException {
+        this(options, null);
+    }
+
+    /**
+     * Constructs a parser.
+     * @param options the parse options
+     * @param componentListener called with each top-level component once it is bound, or null
+     * @throws ParseException if the parser cannot be created
+     */
+    public AsyncJsonParser(final ParseOptions options, final Consumer<Component> componentListener) throws ParseException {
+        this.options = options;
+        this.mapper = BomMapperFactory.getReadMapper(Format.JSON, options);
+        final StringPool stringPool = options.stringPoolForParse();
+        final ObjectReader reader = BomMapperFactory.getReader(Format.JSON, options);
+        this.bomReader = stringPool != null ? reader.withAttribute(StringPool.class, stringPool) : reader;
+        this.componentReader = bomReader.forType(Component.class);
+        this.componentListener = componentListener;
+        final Set<String> bomProperties = options.getIncludedBomProperties();
+        this.streamComponents = bomProperties == null || bomProperties.contains(COMPONENTS);
+        try {
+            this.parser = mapper.getFactory().createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new ParseException("Unable to create non-blocking parser", e);
+        }
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        this.document = new TokenBuffer(parser);
+    }
+
+    /**
+     * Parses the next chunk of the document. The remaining bytes of the buffer are consumed before this
+     * method returns, so the buffer may be reused afterwards.
+     * @param chunk the next bytes of the document
+     * @throws ParseException if the document is not a valid BOM; the result is completed exceptionally as well
+     */
+    public void feed(final ByteBuffer chunk) throws ParseException {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            feeder.feedInput(chunk);
+            drain();
+            chunk.position(chunk.limit());
+        } catch (ParseException | IOException | RuntimeException e) {
+            throw fail(e);
+        }
+    }
+
+    /**
+     * Parses the next chunk of the document.
+     * @param data the array holding the chunk
+     * @param offset the offset of the chunk in the array
+     * @param length the length of the chunk
+     * @throws ParseException if the document is not a valid BOM; the result is completed exceptionally as well
+     */
+    public void feed(final byte[] data, final int offset, final int length) throws ParseException {
+        feed(ByteBuffer.wrap(data, offset, length));
+    }
+
+    /**
+     * Signals that the whole document has been fed, and binds the BOM.
+     * @throws ParseException if the document is incomplete or is not a valid BOM; the result is completed
+     * exceptionally as well
+     */
+    public void endOfInput() throws ParseException {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            feeder.endOfInput();
+            drain();
+            if (!documentComplete) {
+                throw new ParseException("Unexpected end of input");
+            }
+            final Bom bom;
+            try (com.fasterxml.jackson.core.JsonParser documentParser = document.asParser(mapper)) {
+                bom = bomReader.readValue(documentParser);
+            }
+            if (hasComponents) {
+                bom.setComponents(components);
+            }
+            options.index(bom);
+            parser.close();
+            result.complete(bom);
+        } catch (ParseException | IOException | RuntimeException e) {
+            throw fail(e);
+        }
+    }
+
+    /**
+     * Returns the result of the parse, which completes when {@link #endOfInput()} is called or when the
+     * document turns out not to be a valid BOM.
+     * @return the future parsed BOM
+     */
+    public CompletableFuture<Bom> getResult() {
+        return result;
+    }
+
+    private void drain() throws IOException, ParseException {
+        JsonToken token;
+        // Keep reading after the document is complete, so that trailing whitespace is consumed from the
+        // feeder; the parser skips whitespace itself, so any token it returns is trailing content
+        while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            if (documentComplete) {
+                throw new ParseException("Unexpected content after the end of the BOM");
+            } else if (inComponents) {
+                onComponentsToken(token);
+            } else {
+                onDocumentToken(token);
+            }
+        }
+    }
+
+    private void onDocumentToken(final JsonToken token) throws IOException, ParseException {
+        if (documentDepth == 0 && token != JsonToken.START_OBJECT) {
+            throw new ParseException("The specified BOM is not a JSON object");
+        }
+        if (componentsPending) {
+            componentsPending = false;
+            if (token == JsonToken.START_ARRAY) {
+                inComponents = true;
+                hasComponents = true;
+                return;
+            }
+            document.writeFieldName(COMPONENTS);
+        } else if (streamComponents && documentDepth == 1 && token == JsonToken.FIELD_NAME
+                && COMPONENTS.equals(parser.currentName())) {
+            componentsPending = true;
+            return;
+        }
+        document.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            documentDepth++;
+        } else if (token.isStructEnd() && --documentDepth == 0) {
+            documentComplete = true;
+        }
+    }
+
+    private void onComponentsToken(final JsonToken token) throws IOException {
+        if (componentDepth == 0) {
+            if (token == JsonToken.END_ARRAY) {
+                inComponents = false;
+                return;
+            }
+            component = new TokenBuffer(parser);
+        }
+        component.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            componentDepth++;
+        } else if (token.isStructEnd() ? --componentDepth == 0 : componentDepth == 0) {
+            // Every entry is bound like the blocking parsers do: null is bound to null, and other
+            // values that are not objects fail to bind
+            final Component bound;
+            try (com.fasterxml.jackson.core.JsonParser componentParser = component.asParser(mapper)) {
+                bound = componentReader.readValue(componentParser);
+            }
+            component = null;
+            components.add(bound);
+            if (componentListener != null && bound != null) {
+                componentListener.accept(bound);
+            }
+        }
+    }
+
+    private ParseException fail(final Exception e) {
+        final ParseException exception = e instanceof ParseException
+                ? (ParseException) e : new ParseException("Unable to parse BOM from stream", e);
+        result.completeExceptionally(exception);
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // the parse has already failed
+        }
+        return exception;
+    }
+}
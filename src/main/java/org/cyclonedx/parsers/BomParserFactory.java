@@ -18,31 +18,48 @@
  */
 package org.cyclonedx.parsers;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
 import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.parsers.FormatDetection.Confidence;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.Arrays;
+import java.nio.file.Path;
 
 public class BomParserFactory {
 
+    /**
+     * Protocol Buffers BOMs start with the spec_version field (field 1, length-delimited).
+     */
+    private static final byte PROTOBUF_SPEC_VERSION_TAG = 0x0A;
+
+    /**
+     * The number of bytes inspected by {@link #detect(byte[])}. The root element of an XML BOM and the
+     * bomFormat and specVersion properties of a JSON BOM are expected to occur within this prefix.
+     */
+    private static final int DETECTION_PREFIX_LENGTH = 8192;
+
+    private static final byte[] XML_NAMESPACE_PREFIX = "http://cyclonedx.org/schema/bom/".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] BOM_ELEMENT = {'b', 'o', 'm'};
+
+    private static final byte[] COMMENT_END = {'-', '-', '>'};
+
+    private static final byte[] TAG_END = {'>'};
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private BomParserFactory() {}
 
     public static Parser createParser(final File file) throws ParseException {
-        try (final InputStream fis = Files.newInputStream(file.toPath())) {
-            final byte[] prefix = new byte[4]; // potential 3-byte UTF-8 byte-order mark + 1 content byte
-            int actualPrefixLength = 0;
-            while (actualPrefixLength < prefix.length) {
-                final int read = fis.read(prefix, actualPrefixLength, prefix.length - actualPrefixLength);
-                if (read == -1) {
-                    break;
-                }
-                actualPrefixLength += read;
-            }
-            return createParser(Arrays.copyOf(prefix, actualPrefixLength));
+        try {
+            return createParser(detect(file.toPath()));
         } catch (IOException e) {
             throw new ParseException("An error occurred creating parser from file", e);
         }
@@ -53,28 +70,249 @@ public class BomParserFactory {
         if (bytes.length - offset < 1) {
             throw new ParseException("Cannot create parser from empty byte array.");
         }
+        return createParser(detect(bytes));
+    }
 
-        if (bytes[offset] == (byte) '{') {
+    /**
+     * Returns the parser for a detected format. A Protocol Buffers document is only recognized by the
+     * spec_version it starts with, as its leading tag byte is also a line feed.
+     */
+    private static Parser createParser(final FormatDetection detection) throws ParseException {
+        if (detection.getFormat() == Format.JSON) {
             return new JsonParser();
-        } else if (bytes[offset] == (byte) '<') {
+        } else if (detection.getFormat() == Format.XML) {
             return new XmlParser();
+        } else if (detection.getFormat() == Format.PROTOBUF && detection.getVersion() != null) {
+            if (!isProtobufAvailable()) {
+                throw new ParseException("The specified BOM is in the Protocol Buffers format, which requires com.google.protobuf:protobuf-java on the classpath");
+            }
+            return new ProtobufParser();
         } else {
-            throw new ParseException("The specified BOM is not in a supported format. Supported formats are XML and JSON");
+            throw new ParseException("The specified BOM is not in a supported format. Supported formats are XML, JSON and Protocol Buffers");
         }
     }
 
-    public static boolean looksLikeCycloneDX(final byte[] bytes) {
-        final int offset = hasUtf8ByteOrderMark(bytes) ? 3 : 0;
-        final String bomString = new String(bytes, offset, bytes.length - offset, StandardCharsets.UTF_8);
-        if (bomString.startsWith("<?xml") && bomString.contains("<bom") &&
-            bomString.contains("http://cyclonedx.org/schema/bom")) {
+    private static boolean isProtobufAvailable() {
+        try {
+            Class.forName("com.google.protobuf.CodedInputStream", false, BomParserFactory.class.getClassLoader());
             return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether the beginning of the document identifies it as a CycloneDX BOM.
+     * Only the first few kilobytes are inspected, see {@link #detect(byte[])}.
+     * @param bytes the document
+     * @return true if the document identifies itself as a CycloneDX BOM
+     */
+    public static boolean looksLikeCycloneDX(final byte[] bytes) {
+        return detect(bytes).isCycloneDX();
+    }
+
+    /**
+     * Detects the format and spec version of a document by inspecting its first few kilobytes.
+     * The document is not decoded into a String; XML documents are scanned for the root element and
+     * the CycloneDX namespace, JSON documents are tokenized up to the bomFormat and specVersion properties
+     * without descending into other values, and Protocol Buffers documents are identified by their leading
+     * spec_version field.
+     * @param bytes the document
+     * @return the detected format, version and confidence
+     * @since 13.2.0
+     */
+    public static FormatDetection detect(final byte[] bytes) {
+        return detect(bytes, Math.min(bytes.length, DETECTION_PREFIX_LENGTH));
+    }
+
+    /**
+     * Detects the format and spec version of the document read from a stream, see {@link #detect(byte[])}.
+     * The stream is marked and reset, so that it can be parsed afterwards.
+     * @param inputStream a stream supporting mark and reset, such as a {@link java.io.BufferedInputStream}
+     * @return the detected format, version and confidence
+     * @throws IOException if the stream cannot be read or reset
+     * @throws IllegalArgumentException if the stream does not support mark and reset
+     * @since 13.2.0
+     */
+    public static FormatDetection detect(final InputStream inputStream) throws IOException {
+        if (!inputStream.markSupported()) {
+            throw new IllegalArgumentException("The InputStream must support mark and reset");
         }
-        else {
-            return bomString.startsWith("{") && bomString.contains("bomFormat") && bomString.contains("CycloneDX");
+        inputStream.mark(DETECTION_PREFIX_LENGTH);
+        try {
+            final byte[] prefix = new byte[DETECTION_PREFIX_LENGTH];
+            return detect(prefix, readPrefix(inputStream, prefix));
+        } finally {
+            inputStream.reset();
         }
     }
 
+    /**
+     * Detects the format and spec version of a file, see {@link #detect(byte[])}.
+     * Only the beginning of the file is read.
+     * @param path the file
+     * @return the detected format, version and confidence
+     * @throws IOException if the file cannot be read
+     * @since 13.2.0
+     */
+    public static FormatDetection detect(final Path path) throws IOException {
+        try (final InputStream inputStream = Files.newInputStream(path)) {
+            final byte[] prefix = new byte[DETECTION_PREFIX_LENGTH];
+            return detect(prefix, readPrefix(inputStream, prefix));
+        }
+    }
+
+    private static int readPrefix(final InputStream inputStream, final byte[] prefix) throws IOException {
+        int length = 0;
+        while (length < prefix.length) {
+            final int read = inputStream.read(prefix, length, prefix.length - length);
+            if (read == -1) {
+                break;
+            }
+            length += read;
+        }
+        return length;
+    }
+
+    private static FormatDetection detect(final byte[] bytes, final int length) {
+        // the tag of the spec_version field is also a line feed, so only a supported version identifies the format
+        final FormatDetection protobuf = length > 0 && bytes[0] == PROTOBUF_SPEC_VERSION_TAG
+                ? detectProtobuf(bytes, length) : null;
+        if (protobuf != null && protobuf.getVersion() != null) {
+            return protobuf;
+        }
+        int offset = length >= 3 && hasUtf8ByteOrderMark(bytes) ? 3 : 0;
+        while (offset < length && isWhitespace(bytes[offset])) {
+            offset++;
+        }
+        if (offset < length && bytes[offset] == (byte) '{') {
+            return detectJson(bytes, offset, length);
+        } else if (offset < length && bytes[offset] == (byte) '<') {
+            return detectXml(bytes, offset, length);
+        } else if (offset < length && protobuf != null) {
+            return protobuf;
+        }
+        return FormatDetection.UNKNOWN;
+    }
+
+    private static FormatDetection detectJson(final byte[] bytes, final int offset, final int length) {
+        String bomFormat = null;
+        String specVersion = null;
+        try (com.fasterxml.jackson.core.JsonParser parser = JSON_FACTORY.createParser(bytes, offset, length - offset)) {
+            parser.nextToken();
+            while ((bomFormat == null || specVersion == null) && parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.currentName();
+                final JsonToken value = parser.nextToken();
+                if ("bomFormat".equals(name) && value == JsonToken.VALUE_STRING) {
+                    bomFormat = parser.getText();
+                } else if ("specVersion".equals(name) && value == JsonToken.VALUE_STRING) {
+                    specVersion = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            // the prefix ends within the document, or the document is malformed
+        }
+        if (!"CycloneDX".equals(bomFormat)) {
+            return new FormatDetection(Format.JSON, null, Confidence.LOW);
+        }
+        final Version version = supportedVersion(specVersion, Format.JSON);
+        return new FormatDetection(Format.JSON, version, version != null ? Confidence.HIGH : Confidence.MEDIUM);
+    }
+
+    private static FormatDetection detectXml(final byte[] bytes, final int offset, final int length) {
+        final int root = findRootElement(bytes, offset, length);
+        if (root < 0 || !isBomElement(bytes, root, length)) {
+            return new FormatDetection(Format.XML, null, Confidence.LOW);
+        }
+        final int namespace = indexOf(bytes, XML_NAMESPACE_PREFIX, root, length);
+        if (namespace < 0) {
+            return new FormatDetection(Format.XML, null, Confidence.LOW);
+        }
+        final int start = namespace + XML_NAMESPACE_PREFIX.length;
+        int end = start;
+        while (end < length && bytes[end] != (byte) '"' && bytes[end] != (byte) '\'' && end - start < 4) {
+            end++;
+        }
+        final Version version = supportedVersion(
+                new String(bytes, start, end - start, StandardCharsets.US_ASCII), Format.XML);
+        return new FormatDetection(Format.XML, version, version != null ? Confidence.HIGH : Confidence.MEDIUM);
+    }
+
+    private static FormatDetection detectProtobuf(final byte[] bytes, final int length) {
+        // a short spec_version string has a single byte length
+        final int size = length > 1 ? bytes[1] : -1;
+        if (size > 0 && 2 + size <= length) {
+            final Version version = supportedVersion(
+                    new String(bytes, 2, size, StandardCharsets.US_ASCII), Format.PROTOBUF);
+            if (version != null) {
+                return new FormatDetection(Format.PROTOBUF, version, Confidence.HIGH);
+            }
+        }
+        return new FormatDetection(Format.PROTOBUF, null, Confidence.LOW);
+    }
+
+    private static Version supportedVersion(final String versionString, final Format format) {
+        final Version version = Version.fromVersionString(versionString);
+        return version != null && version.getFormats().contains(format) ? version : null;
+    }
+
+    /**
+     * Returns the position of the name of the root element, skipping the XML declaration,
+     * processing instructions, comments and the document type declaration.
+     */
+    private static int findRootElement(final byte[] bytes, final int offset, final int length) {
+        int i = offset;
+        while (i + 1 < length) {
+            if (bytes[i] != (byte) '<') {
+                i++;
+            } else if (bytes[i + 1] == (byte) '?' || bytes[i + 1] == (byte) '!') {
+                final boolean comment = i + 3 < length && bytes[i + 2] == (byte) '-' && bytes[i + 3] == (byte) '-';
+                final int end = comment ? indexOf(bytes, COMMENT_END, i + 4, length) : indexOf(bytes, TAG_END, i + 2, length);
+                if (end < 0) {
+                    return -1;
+                }
+                i = end;
+            } else {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the element name starting at the position is bom, with or without a prefix.
+     */
+    private static boolean isBomElement(final byte[] bytes, final int start, final int length) {
+        int end = start;
+        int localName = start;
+        while (end < length && !isWhitespace(bytes[end]) && bytes[end] != (byte) '>' && bytes[end] != (byte) '/') {
+            if (bytes[end] == (byte) ':') {
+                localName = end + 1;
+            }
+            end++;
+        }
+        return end - localName == BOM_ELEMENT.length && indexOf(bytes, BOM_ELEMENT, localName, end) == localName;
+    }
+
+    private static int indexOf(final byte[] bytes, final byte[] target, final int from, final int to) {
+        outer:
+        for (int i = from; i <= to - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
     private static boolean hasUtf8ByteOrderMark(byte[] bytes) {
         return bytes.length >= 3
                 && bytes[0] == (byte) 0xEF
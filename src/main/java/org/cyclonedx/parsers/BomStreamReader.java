@@ -0,0 +1,174 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+
+import java.io.Closeable;
+
+/**
+ * BomStreamReader is a pull-style reader that walks a CycloneDX BOM one top-level element at a time
+ * instead of materializing the whole {@link org.cyclonedx.model.Bom}. Heap use is therefore bounded by
+ * the largest single element (e.g. one component including its nested components) rather than by the
+ * size of the document.
+ * <p>
+ * Typical usage:
+ * <pre>
+ * try (BomStreamReader reader = new JsonBomStreamReader(inputStream)) {
+ *     BomStreamReader.Element element;
+ *     while ((element = reader.next()) != null) {
+ *         if (element == BomStreamReader.Element.COMPONENT) {
+ *             process(reader.getComponent());
+ *         }
+ *     }
+ * }
+ * </pre>
+ * Top-level sections other than metadata, components, services, dependencies and vulnerabilities are
+ * skipped without being deserialized.
+ *
+ * @since 13.2.0
+ */
+public abstract class BomStreamReader implements Closeable {
+
+    /**
+     * The kinds of elements a {@link BomStreamReader} yields.
+     */
+    public enum Element {
+        METADATA,
+        COMPONENT,
+        SERVICE,
+        DEPENDENCY,
+        VULNERABILITY
+    }
+
+    private Element element;
+
+    private Object value;
+
+    private Metadata metadata;
+
+    protected String specVersion;
+
+    protected String serialNumber;
+
+    protected Integer version;
+
+    /**
+     * Advances to the next top-level element of the BOM.
+     * @return the kind of element read, or null once the end of the document has been reached
+     * @throws ParseException when errors are encountered
+     */
+    public Element next() throws ParseException {
+        final Object next = readNext();
+        if (next == null) {
+            element = null;
+            value = null;
+        } else if (next instanceof Metadata) {
+            element = Element.METADATA;
+            metadata = (Metadata) next;
+        } else if (next instanceof Component) {
+            element = Element.COMPONENT;
+        } else if (next instanceof Service) {
+            element = Element.SERVICE;
+        } else if (next instanceof Dependency) {
+            element = Element.DEPENDENCY;
+        } else {
+            element = Element.VULNERABILITY;
+        }
+        value = next;
+        return element;
+    }
+
+    /**
+     * Reads the next element from the underlying document.
+     * @return a Metadata, Component, Service, Dependency or Vulnerability, or null at the end of the document
+     * @throws ParseException when errors are encountered
+     */
+    protected abstract Object readNext() throws ParseException;
+
+    /**
+     * Returns the kind of the element most recently returned by {@link #next()}.
+     * @return the current element kind, or null if there is none
+     */
+    public Element getElement() {
+        return element;
+    }
+
+    /**
+     * Returns the object most recently read by {@link #next()}.
+     * @return the current element, or null if there is none
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the BOM metadata. Metadata is emitted once; it remains available here after
+     * the reader has moved on to subsequent elements.
+     * @return the metadata, or null if it has not (yet) been read
+     */
+    public Metadata getMetadata() {
+        return metadata;
+    }
+
+    public Component getComponent() {
+        return element == Element.COMPONENT ? (Component) value : null;
+    }
+
+    public Service getService() {
+        return element == Element.SERVICE ? (Service) value : null;
+    }
+
+    public Dependency getDependency() {
+        return element == Element.DEPENDENCY ? (Dependency) value : null;
+    }
+
+    public Vulnerability getVulnerability() {
+        return element == Element.VULNERABILITY ? (Vulnerability) value : null;
+    }
+
+    /**
+     * Returns the CycloneDX spec version of the BOM, if it has been encountered so far.
+     * @return the spec version, or null
+     */
+    public String getSpecVersion() {
+        return specVersion;
+    }
+
+    /**
+     * Returns the serial number of the BOM, if it has been encountered so far.
+     * @return the serial number, or null
+     */
+    public String getSerialNumber() {
+        return serialNumber;
+    }
+
+    /**
+     * Returns the version of the BOM, if it has been encountered so far.
+     * @return the BOM version, or null
+     */
+    public Integer getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+
+/**
+ * The outcome of sniffing the beginning of a document with {@link BomParserFactory#detect(byte[])}:
+ * the format of the document, the CycloneDX spec version it declares and how certain the detection is.
+ * @since 13.2.0
+ */
+public class FormatDetection {
+
+    /**
+     * How certain the detection is.
+     */
+    public enum Confidence {
+        /**
+         * The document is not a CycloneDX BOM in a supported format.
+         */
+        NONE,
+        /**
+         * The document is in a supported format, but nothing identifies it as a CycloneDX BOM.
+         */
+        LOW,
+        /**
+         * The document identifies itself as a CycloneDX BOM, but its spec version was not found.
+         */
+        MEDIUM,
+        /**
+         * The document identifies itself as a CycloneDX BOM of a known spec version.
+         */
+        HIGH
+    }
+
+    static final FormatDetection UNKNOWN = new FormatDetection(null, null, Confidence.NONE);
+
+    private final Format format;
+
+    private final Version version;
+
+    private final Confidence confidence;
+
+    public FormatDetection(final Format format, final Version version, final Confidence confidence) {
+        this.format = format;
+        this.version = version;
+        this.confidence = confidence;
+    }
+
+    /**
+     * Returns the format of the document.
+     * @return the format, or null if the document is not in a supported format
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the spec version declared by the document.
+     * @return the version, or null if it was not found in the inspected prefix
+     */
+    public Version getVersion() {
+        return version;
+    }
+
+    public Confidence getConfidence() {
+        return confidence;
+    }
+
+    /**
+     * Returns whether the document identifies itself as a CycloneDX BOM.
+     * @return true if the confidence is at least {@link Confidence#MEDIUM}
+     */
+    public boolean isCycloneDX() {
+        return confidence.compareTo(Confidence.MEDIUM) >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "FormatDetection{format=" + format +
+                ", version=" + (version != null ? version.getVersionString() : null) +
+                ", confidence=" + confidence + "}";
+    }
+}
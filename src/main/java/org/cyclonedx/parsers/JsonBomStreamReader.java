@@ -0,0 +1,204 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import org.cyclonedx.Format;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+import org.cyclonedx.util.BomMapperFactory;
+import org.cyclonedx.util.deserializer.VulnerabilityDeserializer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * JsonBomStreamReader is a {@link BomStreamReader} for CycloneDX JSON documents built on top of
+ * Jackson's token stream. Each element is bound with the same deserializers used by {@link JsonParser}.
+ * @since 13.2.0
+ */
+public class JsonBomStreamReader extends BomStreamReader {
+
+    private final ObjectMapper mapper = BomMapperFactory.getReadMapper(Format.JSON);
+
+    private final VulnerabilityDeserializer vulnerabilityDeserializer = new VulnerabilityDeserializer();
+
+    private final com.fasterxml.jackson.core.JsonParser parser;
+
+    private DeserializationContext context;
+
+    private Class<?> section;
+
+    private boolean started;
+
+    private boolean finished;
+
+    public JsonBomStreamReader(final File file) throws ParseException {
+        try {
+            this.parser = mapper.createParser(file);
+        } catch (IOException e) {
+            throw new ParseException("Unable to parse BOM from File", e);
+        }
+    }
+
+    public JsonBomStreamReader(final byte[] bomBytes) throws ParseException {
+        try {
+            this.parser = mapper.createParser(bomBytes);
+        } catch (IOException e) {
+            throw new ParseException("Unable to parse BOM from byte array", e);
+        }
+    }
+
+    public JsonBomStreamReader(final InputStream inputStream) throws ParseException {
+        try {
+            this.parser = mapper.createParser(inputStream);
+        } catch (IOException e) {
+            throw new ParseException("Unable to parse BOM from InputStream", e);
+        }
+    }
+
+    public JsonBomStreamReader(final Reader reader) throws ParseException {
+        try {
+            // NB: Jackson does not strip a UTF-8 BOM from char-based input, but it DOES do that
+            // for byte-based input, hence the manual handling here.
+            final PushbackReader pushbackReader = new PushbackReader(reader);
+            final int firstChar = pushbackReader.read();
+            if (firstChar != -1 && firstChar != '\uFEFF') {
+                pushbackReader.unread(firstChar);
+            }
+            this.parser = mapper.createParser(pushbackReader);
+        } catch (IOException e) {
+            throw new ParseException("Unable to parse BOM from Reader", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object readNext() throws ParseException {
+        try {
+            if (!started) {
+                start();
+            }
+            while (!finished) {
+                if (section != null) {
+                    final JsonToken token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY || token == null) {
+                        section = null;
+                        continue;
+                    }
+                    final Object element = readElement(section);
+                    if (element != null) {
+                        return element;
+                    }
+                    continue;
+                }
+
+                final JsonToken token = parser.nextToken();
+                if (token != JsonToken.FIELD_NAME) {
+                    finished = true;
+                    break;
+                }
+                final String name = parser.currentName();
+                final JsonToken valueToken = parser.nextToken();
+                switch (name) {
+                    case "specVersion":
+                        specVersion = parser.getValueAsString();
+                        break;
+                    case "serialNumber":
+                        serialNumber = parser.getValueAsString();
+                        break;
+                    case "version":
+                        version = parser.getValueAsInt();
+                        break;
+                    case "metadata":
+                        if (valueToken == JsonToken.START_OBJECT) {
+                            return mapper.readValue(parser, Metadata.class);
+                        }
+                        parser.skipChildren();
+                        break;
+                    case "components":
+                        enterSection(valueToken, Component.class);
+                        break;
+                    case "services":
+                        enterSection(valueToken, Service.class);
+                        break;
+                    case "dependencies":
+                        enterSection(valueToken, Dependency.class);
+                        break;
+                    case "vulnerabilities":
+                        enterSection(valueToken, Vulnerability.class);
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+            return null;
+        } catch (IOException | RuntimeException e) {
+            throw new ParseException("Unable to parse BOM from stream", e);
+        }
+    }
+
+    private void start() throws IOException, ParseException {
+        started = true;
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ParseException("The specified BOM is not a JSON object");
+        }
+        context = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(mapper.getDeserializationConfig(), parser, mapper.getInjectableValues());
+    }
+
+    private void enterSection(final JsonToken token, final Class<?> type) throws IOException {
+        if (token == JsonToken.START_ARRAY) {
+            section = type;
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private Object readElement(final Class<?> type) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (type == Vulnerability.class) {
+            // VulnerabilityDeserializer binds a single vulnerability object to a one-element list
+            final List<Vulnerability> vulnerabilities = vulnerabilityDeserializer.deserialize(parser, context);
+            return vulnerabilities == null || vulnerabilities.isEmpty() ? null : vulnerabilities.get(0);
+        }
+        return mapper.readValue(parser, type);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -20,12 +20,15 @@ package org.cyclonedx.parsers;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.networknt.schema.Error;
 import org.cyclonedx.CycloneDxSchema;
 import org.cyclonedx.Format;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.model.Bom;
+import org.cyclonedx.util.BomMapperFactory;
+import org.cyclonedx.util.StringPool;
 
 import java.io.File;
 import java.io.IOException;
@@ -45,8 +48,38 @@ public class JsonParser extends CycloneDxSchema implements Parser {
 
     private final ObjectMapper mapper;
 
+    private final ObjectReader bomReader;
+
+    private final ParseOptions options;
+
     public JsonParser() {
-        mapper = new ObjectMapper();
+        this(ParseOptions.DEFAULT);
+    }
+
+    /**
+     * Constructs a parser that binds BOMs according to the specified options.
+     * @param options the parse options
+     * @since 13.2.0
+     */
+    public JsonParser(final ParseOptions options) {
+        mapper = BomMapperFactory.getReadMapper(Format.JSON, options);
+        bomReader = BomMapperFactory.getReader(Format.JSON, options);
+        this.options = options;
+    }
+
+    /**
+     * Compiles the JSON schemas of the specified versions ahead of time, so that the first validation
+     * after startup does not pay for schema compilation. Compiled schemas are shared by all instances.
+     * @param versions the versions to compile; all versions supporting JSON if none are specified
+     * @throws IOException when errors are encountered
+     * @since 13.2.0
+     */
+    public static void preload(final Version... versions) throws IOException {
+        for (final Version version : versions.length == 0 ? Version.values() : versions) {
+            if (version.getFormats().contains(Format.JSON)) {
+                getCachedJsonSchema(version);
+            }
+        }
     }
 
     /**
@@ -54,7 +87,7 @@ public class JsonParser extends CycloneDxSchema implements Parser {
      */
     public Bom parse(final File file) throws ParseException {
         try {
-            return mapper.readValue(file, Bom.class);
+            return options.index(bomReader().readValue(file));
         } catch (IOException e) {
             throw new ParseException("Unable to parse BOM from File", e);
         }
@@ -65,7 +98,7 @@ public class JsonParser extends CycloneDxSchema implements Parser {
      */
     public Bom parse(final byte[] bomBytes) throws ParseException {
         try {
-            return mapper.readValue(bomBytes, Bom.class);
+            return options.index(bomReader().readValue(bomBytes));
         } catch (RuntimeException | IOException e) {
             throw new ParseException("Unable to parse BOM from byte array", e);
         }
@@ -76,7 +109,7 @@ public class JsonParser extends CycloneDxSchema implements Parser {
      */
     public Bom parse(final InputStream inputStream) throws ParseException {
         try {
-            return mapper.readValue(inputStream, Bom.class);
+            return options.index(bomReader().readValue(inputStream));
         } catch (IOException e) {
             throw new ParseException("Unable to parse BOM from InputStream", e);
         }
@@ -87,12 +120,107 @@ public class JsonParser extends CycloneDxSchema implements Parser {
      */
     public Bom parse(final Reader reader) throws ParseException {
         try {
-            return mapper.readValue(reader, Bom.class);
+            return options.index(bomReader().readValue(reader));
         } catch (IOException e) {
             throw new ParseException("Unable to parse BOM from Reader", e);
         }
     }
 
+    /**
+     * Parses a CycloneDX BOM and validates it against the specified schema version, reading the
+     * document only once.
+     * @param file a File to parse
+     * @param schemaVersion the schema version to validate against
+     * @return the parsed Bom along with any validation exceptions. The Bom is null if the document could not
+     * be bound, in which case the binding error is included in the exceptions
+     * @throws ParseException when the document cannot be read as JSON
+     * @since 13.2.0
+     */
+    public ParseResult parseAndValidate(final File file, final Version schemaVersion) throws ParseException {
+        try {
+            return parseAndValidate(mapper.readTree(file), schemaVersion);
+        } catch (IOException e) {
+            throw new ParseException("Unable to parse BOM from File", e);
+        }
+    }
+
+    /**
+     * Parses a CycloneDX BOM and validates it against the specified schema version, reading the
+     * document only once.
+     * @param bomBytes the byte array to parse
+     * @param schemaVersion the schema version to validate against
+     * @return the parsed Bom along with any validation exceptions. The Bom is null if the document could not
+     * be bound, in which case the binding error is included in the exceptions
+     * @throws ParseException when the document cannot be read as JSON
+     * @since 13.2.0
+     */
+    public ParseResult parseAndValidate(final byte[] bomBytes, final Version schemaVersion) throws ParseException {
+        try {
+            return parseAndValidate(mapper.readTree(bomBytes), schemaVersion);
+        } catch (RuntimeException | IOException e) {
+            throw new ParseException("Unable to parse BOM from byte array", e);
+        }
+    }
+
+    /**
+     * Parses a CycloneDX BOM and validates it against the specified schema version, reading the
+     * document only once.
+     * @param inputStream the InputStream from which to parse
+     * @param schemaVersion the schema version to validate against
+     * @return the parsed Bom along with any validation exceptions. The Bom is null if the document could not
+     * be bound, in which case the binding error is included in the exceptions
+     * @throws ParseException when the document cannot be read as JSON
+     * @since 13.2.0
+     */
+    public ParseResult parseAndValidate(final InputStream inputStream, final Version schemaVersion) throws ParseException {
+        try {
+            return parseAndValidate(mapper.readTree(inputStream), schemaVersion);
+        } catch (IOException e) {
+            throw new ParseException("Unable to parse BOM from InputStream", e);
+        }
+    }
+
+    /**
+     * Parses a CycloneDX BOM and validates it against the specified schema version, reading the
+     * document only once.
+     * @param reader the Reader from which to parse
+     * @param schemaVersion the schema version to validate against
+     * @return the parsed Bom along with any validation exceptions. The Bom is null if the document could not
+     * be bound, in which case the binding error is included in the exceptions
+     * @throws ParseException when the document cannot be read as JSON
+     * @since 13.2.0
+     */
+    public ParseResult parseAndValidate(final Reader reader, final Version schemaVersion) throws ParseException {
+        try {
+            final PushbackReader pushbackReader = new PushbackReader(reader);
+            final int firstChar = pushbackReader.read();
+            if (firstChar != -1 && firstChar != '\uFEFF') {
+                pushbackReader.unread(firstChar);
+            }
+            return parseAndValidate(mapper.readTree(pushbackReader), schemaVersion);
+        } catch (IOException e) {
+            throw new ParseException("Unable to parse BOM from Reader", e);
+        }
+    }
+
+    private ObjectReader bomReader() {
+        final StringPool stringPool = options.stringPoolForParse();
+        return stringPool != null ? bomReader.withAttribute(StringPool.class, stringPool) : bomReader;
+    }
+
+    private ParseResult parseAndValidate(final JsonNode bomJson, final Version schemaVersion) throws IOException {
+        final List<ParseException> exceptions = validate(bomJson, schemaVersion);
+        Bom bom = null;
+        try {
+            // Binding must go through a parser whose codec is the mapper, as the deserializers rely on it
+            bom = options.index(bomReader().readValue(mapper.treeAsTokens(bomJson)));
+        } catch (RuntimeException | IOException e) {
+            // A document violating the schema may not be bindable; report that alongside the validation errors
+            exceptions.add(new ParseException("Unable to bind BOM", e));
+        }
+        return new ParseResult(bom, exceptions);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -186,7 +314,7 @@ public class JsonParser extends CycloneDxSchema implements Parser {
             );
         }
 
-        List<Error> errors = getJsonSchema(schemaVersion, mapper).validate(mapper.readTree(bomJson.toString()));
+        List<Error> errors = getCachedJsonSchema(schemaVersion).validate(bomJson);
         for (Error error : errors) {
             final boolean hasLocation =
                     error.getInstanceLocation() != null
@@ -0,0 +1,257 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.util.BomIndex;
+import org.cyclonedx.util.StringPool;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Options controlling how {@link JsonParser} and {@link XmlParser} bind a BOM. Options are immutable;
+ * each {@code with} method returns a copy.
+ * <p>
+ * A projection limits parsing to the parts of the BOM a consumer needs. The properties outside of it are
+ * skipped in the token stream without being bound, and are null in the parsed BOM. Properties are named
+ * as in the JSON format:
+ * <ul>
+ *     <li>{@code "metadata"}, {@code "dependencies"}, ... select a property of the {@link org.cyclonedx.model.Bom}</li>
+ *     <li>{@code "components.purl"}, {@code "components.bom-ref"}, ... select a property of each
+ *     {@link org.cyclonedx.model.Component}, and imply {@code "components"}</li>
+ * </ul>
+ * Component properties are projected wherever a component occurs, including the metadata component and
+ * nested components. If no component property is selected, components are bound in full. The
+ * {@code bomFormat}, {@code specVersion}, {@code serialNumber} and {@code version} properties are always
+ * bound.
+ * <p>
+ * String deduplication makes the parser replace the strings it binds with canonical instances from a
+ * {@link StringPool}, which reduces the heap retained by BOMs kept in memory at a small cost in parse time.
+ * The pool is either created for each parse or shared by the caller across parses.
+ * <p>
+ * Indexing makes the parser build the {@link BomIndex} of the parsed BOM, for consumers resolving many
+ * bom-refs, such as those of the dependency graph.
+ * <pre>
+ * ParseOptions options = ParseOptions.DEFAULT.withIncludedPaths(
+ *         "metadata", "components.bom-ref", "components.purl", "components.version", "dependencies");
+ * Bom bom = new JsonParser(options).parse(file);
+ * </pre>
+ * @since 13.2.0
+ */
+public final class ParseOptions {
+
+    /**
+     * The default options, which bind the BOM in full.
+     */
+    public static final ParseOptions DEFAULT = new ParseOptions(null, false, null, false);
+
+    private static final String COMPONENTS = "components";
+
+    private final Set<String> includedPaths;
+
+    private final boolean stringDeduplication;
+
+    private final StringPool stringPool;
+
+    private final boolean indexed;
+
+    private ParseOptions(final Set<String> includedPaths, final boolean stringDeduplication, final StringPool stringPool,
+                         final boolean indexed) {
+        this.includedPaths = includedPaths;
+        this.stringDeduplication = stringDeduplication;
+        this.stringPool = stringPool;
+        this.indexed = indexed;
+    }
+
+    /**
+     * Returns options that bind only the specified property paths.
+     * @param paths the property paths to bind
+     * @return a copy of these options with the projection replaced
+     * @throws IllegalArgumentException if a path is not a Bom property or a Component property
+     */
+    public ParseOptions withIncludedPaths(final String... paths) {
+        final Set<String> included = new LinkedHashSet<>();
+        for (final String path : paths) {
+            final String[] segments = path.split("\\.", -1);
+            if (segments.length > 2 || segments[0].isEmpty()
+                    || (segments.length == 2 && (!COMPONENTS.equals(segments[0]) || segments[1].isEmpty()))) {
+                throw new IllegalArgumentException("Unsupported property path: " + path);
+            }
+            included.add(path);
+        }
+        return new ParseOptions(Collections.unmodifiableSet(included), stringDeduplication, stringPool, indexed);
+    }
+
+    /**
+     * Returns options that deduplicate strings with a new {@link StringPool} for each parse.
+     * @param stringDeduplication whether to deduplicate strings
+     * @return a copy of these options with string deduplication enabled or disabled
+     */
+    public ParseOptions withStringDeduplication(final boolean stringDeduplication) {
+        return new ParseOptions(includedPaths, stringDeduplication, null, indexed);
+    }
+
+    /**
+     * Returns options that deduplicate strings with the specified pool, which is shared by all parses.
+     * @param stringPool the pool, or null to disable string deduplication
+     * @return a copy of these options with the string pool replaced
+     */
+    public ParseOptions withStringPool(final StringPool stringPool) {
+        return new ParseOptions(includedPaths, stringPool != null, stringPool, indexed);
+    }
+
+    /**
+     * Returns options that build the {@link BomIndex} of the parsed BOM, available from {@link Bom#getIndex()}.
+     * @param indexed whether to index the parsed BOM
+     * @return a copy of these options with indexing enabled or disabled
+     */
+    public ParseOptions withIndex(final boolean indexed) {
+        return new ParseOptions(includedPaths, stringDeduplication, stringPool, indexed);
+    }
+
+    /**
+     * Returns the property paths to bind.
+     * @return the paths, or null if the BOM is bound in full
+     */
+    public Set<String> getIncludedPaths() {
+        return includedPaths;
+    }
+
+    /**
+     * Returns whether parsing is limited to a projection.
+     * @return true if some properties are skipped
+     */
+    public boolean isProjected() {
+        return includedPaths != null;
+    }
+
+    /**
+     * Returns whether parsing deduplicates strings.
+     * @return true if the parsed strings are canonicalized
+     */
+    public boolean isStringDeduplication() {
+        return stringDeduplication;
+    }
+
+    /**
+     * Returns the pool shared by all parses.
+     * @return the pool, or null if there is none
+     */
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
+    /**
+     * Returns whether the parsed BOM is indexed.
+     * @return true if the parser builds the {@link BomIndex} of the BOM
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    /**
+     * Indexes a parsed BOM if enabled.
+     * @param bom the parsed BOM
+     * @return the BOM
+     */
+    Bom index(final Bom bom) {
+        if (indexed && bom != null) {
+            bom.setIndex(BomIndex.of(bom));
+        }
+        return bom;
+    }
+
+    /**
+     * Returns the pool to use for a parse.
+     * @return the shared pool, a new pool if strings are deduplicated per parse, or null
+     */
+    StringPool stringPoolForParse() {
+        if (!stringDeduplication) {
+            return null;
+        }
+        return stringPool != null ? stringPool : new StringPool();
+    }
+
+    /**
+     * Returns the {@link org.cyclonedx.model.Bom} properties to bind.
+     * @return the property names, or null if all are bound
+     */
+    public Set<String> getIncludedBomProperties() {
+        if (includedPaths == null) {
+            return null;
+        }
+        final Set<String> properties = new LinkedHashSet<>(
+                Arrays.asList("bomFormat", "specVersion", "serialNumber", "version"));
+        for (final String path : includedPaths) {
+            final int dot = path.indexOf('.');
+            properties.add(dot < 0 ? path : path.substring(0, dot));
+        }
+        return properties;
+    }
+
+    /**
+     * Returns the {@link org.cyclonedx.model.Component} properties to bind.
+     * @return the property names, or null if all are bound
+     */
+    public Set<String> getIncludedComponentProperties() {
+        Set<String> properties = null;
+        if (includedPaths != null) {
+            for (final String path : includedPaths) {
+                if (path.startsWith(COMPONENTS + ".")) {
+                    if (properties == null) {
+                        properties = new LinkedHashSet<>();
+                    }
+                    properties.add(path.substring(COMPONENTS.length() + 1));
+                }
+            }
+        }
+        return properties;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ParseOptions)) {
+            return false;
+        }
+        final ParseOptions that = (ParseOptions) o;
+        return stringDeduplication == that.stringDeduplication
+                && indexed == that.indexed
+                && stringPool == that.stringPool
+                && Objects.equals(includedPaths, that.includedPaths);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(includedPaths, stringDeduplication, System.identityHashCode(stringPool), indexed);
+    }
+
+    @Override
+    public String toString() {
+        return "ParseOptions{includedPaths=" + includedPaths +
+                ", stringDeduplication=" + stringDeduplication +
+                ", indexed=" + indexed + "}";
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Bom;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of parsing and validating a CycloneDX BOM in a single pass: the parsed {@link Bom}
+ * together with the exceptions encountered during schema validation.
+ * @since 13.2.0
+ */
+public class ParseResult {
+
+    private final Bom bom;
+
+    private final List<ParseException> exceptions;
+
+    public ParseResult(final Bom bom, final List<ParseException> exceptions) {
+        this.bom = bom;
+        this.exceptions = exceptions != null ? Collections.unmodifiableList(exceptions) : Collections.emptyList();
+    }
+
+    public Bom getBom() {
+        return bom;
+    }
+
+    /**
+     * Returns the exceptions encountered during validation.
+     * @return a List of ParseException. If the size of the list is 0, validation was successful
+     */
+    public List<ParseException> getExceptions() {
+        return exceptions;
+    }
+
+    public boolean isValid() {
+        return exceptions.isEmpty();
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import org.cyclonedx.CycloneDxSchema;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.util.BomMapperFactory;
+import org.cyclonedx.util.ProtobufBomConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ProtobufParser is responsible for validating and parsing CycloneDX bill-of-material
+ * Protocol Buffers documents and returning a {@link Bom} object.
+ * <p>
+ * Messages are decoded with the descriptors of the bundled bom-1.x.proto schemas and bound through the
+ * same deserializers as {@link JsonParser}. The spec version is taken from the spec_version field of the
+ * message. Protocol Buffers is a binary format, so the {@link Reader} based methods always fail.
+ * This parser requires com.google.protobuf:protobuf-java on the classpath.
+ * @since 13.2.0
+ */
+@SuppressWarnings("unused")
+public class ProtobufParser extends CycloneDxSchema implements Parser {
+
+    private static final int SPEC_VERSION_FIELD_NUMBER = 1;
+
+    private final ObjectMapper mapper;
+
+    public ProtobufParser() {
+        mapper = BomMapperFactory.getReadMapper(Format.PROTOBUF);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Bom parse(final File file) throws ParseException {
+        try {
+            return parse(Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            throw new ParseException("Unable to parse BOM from File", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Bom parse(final byte[] bomBytes) throws ParseException {
+        try {
+            final Version version = detectVersion(bomBytes);
+            if (version == null) {
+                throw new ParseException("The specified BOM does not declare a supported spec version");
+            }
+            final ProtobufBomConverter converter = ProtobufBomConverter.forVersion(version);
+            final DynamicMessage message = DynamicMessage.parseFrom(converter.getBomDescriptor(), bomBytes);
+            return mapper.treeToValue(converter.toJsonNode(message), Bom.class);
+        } catch (RuntimeException | IOException e) {
+            throw new ParseException("Unable to parse BOM from byte array", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Bom parse(final InputStream inputStream) throws ParseException {
+        try {
+            return parse(readAllBytes(inputStream));
+        } catch (IOException e) {
+            throw new ParseException("Unable to parse BOM from InputStream", e);
+        }
+    }
+
+    /**
+     * Always fails, as Protocol Buffers documents are binary.
+     * @param reader the Reader from which to parse
+     * @return never returns
+     * @throws ParseException always
+     */
+    public Bom parse(final Reader reader) throws ParseException {
+        throw new ParseException("Unable to parse BOM from Reader: the " + Format.PROTOBUF + " format is binary");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<ParseException> validate(final File file) throws IOException {
+        return validate(file, CycloneDxSchema.VERSION_LATEST);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<ParseException> validate(final File file, final Version schemaVersion) throws IOException {
+        return validate(Files.readAllBytes(file.toPath()), schemaVersion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<ParseException> validate(final byte[] bomBytes) throws IOException {
+        return validate(bomBytes, CycloneDxSchema.VERSION_LATEST);
+    }
+
+    /**
+     * Validates a CycloneDX BOM conforms to a specific specification version. The message must decode with
+     * the protobuf schema of that version and declare the same spec version, and the decoded BOM is then
+     * validated against the JSON schema of that version.
+     * @param bomBytes the byte array to validate
+     * @param schemaVersion the schema version to validate against
+     * @return a List of ParseException. If the size of the list is 0, validation was successful
+     * @throws IOException when errors are encountered
+     */
+    public List<ParseException> validate(final byte[] bomBytes, final Version schemaVersion) throws IOException {
+        if (!schemaVersion.getFormats().contains(Format.PROTOBUF)) {
+            return Collections.singletonList(
+                    new ParseException("CycloneDX version " + schemaVersion.getVersionString() +
+                            " does not support the " + Format.PROTOBUF + " format"));
+        }
+        final ProtobufBomConverter converter = ProtobufBomConverter.forVersion(schemaVersion);
+        final DynamicMessage message;
+        try {
+            message = DynamicMessage.parseFrom(converter.getBomDescriptor(), bomBytes);
+        } catch (InvalidProtocolBufferException e) {
+            return Collections.singletonList(new ParseException("Unable to decode BOM", e));
+        }
+
+        final List<ParseException> exceptions = new ArrayList<>();
+        final Version declared = detectVersion(bomBytes);
+        if (declared != schemaVersion) {
+            exceptions.add(new ParseException("The BOM declares spec version " +
+                    (declared != null ? declared.getVersionString() : "none") +
+                    ", expected " + schemaVersion.getVersionString()));
+        }
+        exceptions.addAll(new JsonParser().validate(converter.toJsonNode(message), schemaVersion));
+        return exceptions;
+    }
+
+    /**
+     * Always reports an error, as Protocol Buffers documents are binary.
+     * @param reader the Reader from which to validate
+     * @return a List containing a single ParseException
+     */
+    public List<ParseException> validate(final Reader reader) {
+        return validate(reader, CycloneDxSchema.VERSION_LATEST);
+    }
+
+    /**
+     * Always reports an error, as Protocol Buffers documents are binary.
+     * @param reader the Reader from which to validate
+     * @param schemaVersion the schema version to validate against
+     * @return a List containing a single ParseException
+     */
+    public List<ParseException> validate(final Reader reader, final Version schemaVersion) {
+        return Collections.singletonList(
+                new ParseException("Unable to validate BOM from Reader: the " + Format.PROTOBUF + " format is binary"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<ParseException> validate(final InputStream inputStream) throws IOException {
+        return validate(inputStream, CycloneDxSchema.VERSION_LATEST);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public List<ParseException> validate(final InputStream inputStream, final Version schemaVersion) throws IOException {
+        return validate(readAllBytes(inputStream), schemaVersion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isValid(final File file) throws IOException {
+        return validate(file).isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isValid(final File file, final Version schemaVersion) throws IOException {
+        return validate(file, schemaVersion).isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isValid(final byte[] bomBytes) throws IOException {
+        return validate(bomBytes).isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isValid(final byte[] bomBytes, final Version schemaVersion) throws IOException {
+        return validate(bomBytes, schemaVersion).isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isValid(final Reader reader) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isValid(final Reader reader, final Version schemaVersion) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isValid(final InputStream inputStream) throws IOException {
+        return validate(inputStream).isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isValid(final InputStream inputStream, final Version schemaVersion) throws IOException {
+        return validate(inputStream, schemaVersion).isEmpty();
+    }
+
+    /**
+     * Reads the spec_version field, which is the same in all versions of the protobuf schema,
+     * without decoding the rest of the message.
+     */
+    private static Version detectVersion(final byte[] bomBytes) throws IOException {
+        final CodedInputStream input = CodedInputStream.newInstance(bomBytes);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == SPEC_VERSION_FIELD_NUMBER
+                    && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                final Version version = Version.fromVersionString(input.readStringRequireUtf8());
+                return version != null && version.getFormats().contains(Format.PROTOBUF) ? version : null;
+            }
+            input.skipField(tag);
+        }
+        return null;
+    }
+
+    private static byte[] readAllBytes(final InputStream inputStream) throws IOException {
+        return ByteString.readFrom(inputStream).toByteArray();
+    }
+}
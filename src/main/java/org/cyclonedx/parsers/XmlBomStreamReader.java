@@ -0,0 +1,227 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
+import org.cyclonedx.Format;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+import org.cyclonedx.util.BomMapperFactory;
+import org.cyclonedx.util.deserializer.VulnerabilityDeserializer;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * XmlBomStreamReader is a {@link BomStreamReader} for CycloneDX XML documents built on top of a
+ * hardened {@link XMLStreamReader}. Each element is bound with the same deserializers used by
+ * {@link XmlParser}, and the spec version is derived from the namespace of the root element.
+ * @since 13.2.0
+ */
+public class XmlBomStreamReader extends BomStreamReader {
+
+    private final XmlMapper mapper = (XmlMapper) BomMapperFactory.getReadMapper(Format.XML);
+
+    private final VulnerabilityDeserializer vulnerabilityDeserializer = new VulnerabilityDeserializer();
+
+    private final XMLStreamReader reader;
+
+    private final Closeable source;
+
+    private String section;
+
+    private Class<?> sectionType;
+
+    private boolean started;
+
+    private boolean finished;
+
+    public XmlBomStreamReader(final File file) throws ParseException {
+        try {
+            final InputStream inputStream = Files.newInputStream(file.toPath());
+            this.source = inputStream;
+            this.reader = XmlParser.createSecureXmlInputFactory().createXMLStreamReader(inputStream);
+        } catch (IOException | XMLStreamException e) {
+            throw new ParseException("Unable to parse BOM from File", e);
+        }
+    }
+
+    public XmlBomStreamReader(final byte[] bomBytes) throws ParseException {
+        this(new ByteArrayInputStream(bomBytes));
+    }
+
+    public XmlBomStreamReader(final InputStream inputStream) throws ParseException {
+        try {
+            this.source = inputStream;
+            this.reader = XmlParser.createSecureXmlInputFactory().createXMLStreamReader(inputStream);
+        } catch (XMLStreamException e) {
+            throw new ParseException("Unable to parse BOM from InputStream", e);
+        }
+    }
+
+    public XmlBomStreamReader(final Reader reader) throws ParseException {
+        try {
+            this.source = reader;
+            this.reader = XmlParser.createSecureXmlInputFactory().createXMLStreamReader(reader);
+        } catch (XMLStreamException e) {
+            throw new ParseException("Unable to parse BOM from Reader", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object readNext() throws ParseException {
+        try {
+            if (!started) {
+                start();
+            }
+            while (!finished) {
+                final int event = reader.nextTag();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (section != null) {
+                        section = null;
+                        sectionType = null;
+                    } else {
+                        finished = true;
+                    }
+                    continue;
+                }
+
+                final String name = reader.getLocalName();
+                if (section != null) {
+                    if (section.equals(name)) {
+                        final Object element = readElement(sectionType);
+                        if (element != null) {
+                            return element;
+                        }
+                    } else {
+                        skipElement();
+                    }
+                    continue;
+                }
+
+                switch (name) {
+                    case "metadata":
+                        return readElement(Metadata.class);
+                    case "components":
+                        enterSection("component", Component.class);
+                        break;
+                    case "services":
+                        enterSection("service", Service.class);
+                        break;
+                    case "dependencies":
+                        enterSection("dependency", Dependency.class);
+                        break;
+                    case "vulnerabilities":
+                        enterSection("vulnerability", Vulnerability.class);
+                        break;
+                    default:
+                        skipElement();
+                        break;
+                }
+            }
+            return null;
+        } catch (XMLStreamException | IOException | RuntimeException e) {
+            throw new ParseException("Unable to parse BOM from stream", e);
+        }
+    }
+
+    private void start() throws XMLStreamException, ParseException {
+        started = true;
+        if (reader.nextTag() != XMLStreamConstants.START_ELEMENT || !"bom".equals(reader.getLocalName())) {
+            throw new ParseException("The specified BOM does not have a bom root element");
+        }
+        specVersion = XmlParser.NAMESPACE_TO_VERSION_MAP.get(reader.getNamespaceURI());
+        for (int i = 0; specVersion == null && i < reader.getNamespaceCount(); i++) {
+            specVersion = XmlParser.NAMESPACE_TO_VERSION_MAP.get(reader.getNamespaceURI(i));
+        }
+        serialNumber = reader.getAttributeValue(null, "serialNumber");
+        final String versionAttribute = reader.getAttributeValue(null, "version");
+        if (versionAttribute != null) {
+            try {
+                version = Integer.valueOf(versionAttribute.trim());
+            } catch (NumberFormatException e) {
+                throw new ParseException("Invalid BOM version: " + versionAttribute, e);
+            }
+        }
+    }
+
+    private void enterSection(final String elementName, final Class<?> type) {
+        section = elementName;
+        sectionType = type;
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private Object readElement(final Class<?> type) throws IOException {
+        // Binding stops at the END_ELEMENT of the element, leaving the reader in place for the next one
+        final FromXmlParser parser = mapper.getFactory().createParser(reader);
+        if (type == Vulnerability.class) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            final DeserializationContext context = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                    .createInstance(mapper.getDeserializationConfig(), parser, mapper.getInjectableValues());
+            // VulnerabilityDeserializer binds a single vulnerability object to a one-element list
+            final List<Vulnerability> vulnerabilities = vulnerabilityDeserializer.deserialize(parser, context);
+            return vulnerabilities == null || vulnerabilities.isEmpty() ? null : vulnerabilities.get(0);
+        }
+        return mapper.readValue(parser, type);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            source.close();
+        }
+    }
+}
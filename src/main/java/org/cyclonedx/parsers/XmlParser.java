@@ -18,17 +18,15 @@
  */
 package org.cyclonedx.parsers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import org.cyclonedx.CycloneDxSchema;
+import org.cyclonedx.Format;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.model.Bom;
+import org.cyclonedx.util.BomMapperFactory;
+import org.cyclonedx.util.StringPool;
 import org.cyclonedx.util.XmlFactoryUtils;
-import org.w3c.dom.Document;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -36,10 +34,12 @@ import org.xml.sax.SAXParseException;
 import org.xml.sax.XMLReader;
 
 import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
 import javax.xml.transform.sax.SAXSource;
 import javax.xml.transform.stream.StreamSource;
@@ -57,6 +57,8 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * XmlParser is responsible for validating and parsing CycloneDX bill-of-material
@@ -66,13 +68,27 @@ import java.util.Map;
 @SuppressWarnings("unused")
 public class XmlParser extends CycloneDxSchema implements Parser {
 
-    private final ObjectMapper mapper;
+    private final XmlMapper mapper;
+
+    private final ParseOptions options;
 
     public XmlParser() {
-        mapper = new XmlMapper();
+        this(ParseOptions.DEFAULT);
+    }
+
+    /**
+     * Constructs a parser that binds BOMs according to the specified options.
+     * @param options the parse options
+     * @since 13.2.0
+     */
+    public XmlParser(final ParseOptions options) {
+        mapper = (XmlMapper) BomMapperFactory.getReadMapper(Format.XML, options);
+        this.options = options;
     }
 
-    private static final Map<String, String> NAMESPACE_TO_VERSION_MAP = new HashMap<>();
+    static final Map<String, String> NAMESPACE_TO_VERSION_MAP = new HashMap<>();
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createSecureXmlInputFactory();
 
     static {
         for (Version version : Version.values()) {
@@ -81,14 +97,40 @@ public class XmlParser extends CycloneDxSchema implements Parser {
     }
 
     /**
-     * {@inheritDoc}
+     * Compiles the XML schemas of the specified versions ahead of time and in parallel, so that
+     * validation does not pay for XSD compilation. Compiled schemas are shared by all instances.
+     * @param versions the versions to compile; all versions if none are specified
+     * @throws SAXException when a schema cannot be compiled
+     * @since 13.2.0
      */
-    public Bom parse(final File file) throws ParseException {
+    public static void preload(final Version... versions) throws SAXException {
+        final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (final Version version : versions.length == 0 ? Version.values() : versions) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    getCachedXmlSchema(version);
+                } catch (SAXException e) {
+                    throw new CompletionException(e);
+                }
+            }));
+        }
         try {
-            final String schemaVersion = identifySchemaVersion(new InputSource(Files.newInputStream(file.toPath())));
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SAXException) {
+                throw (SAXException) e.getCause();
+            }
+            throw e;
+        }
+    }
 
-            return injectSchemaVersion(mapper.readValue(file, Bom.class), schemaVersion);
-        } catch (IOException | ParserConfigurationException | SAXException e) {
+    /**
+     * {@inheritDoc}
+     */
+    public Bom parse(final File file) throws ParseException {
+        try (final InputStream inputStream = Files.newInputStream(file.toPath())) {
+            return parse(XML_INPUT_FACTORY.createXMLStreamReader(inputStream));
+        } catch (IOException | XMLStreamException e) {
             throw new ParseException(e);
         }
     }
@@ -98,10 +140,8 @@ public class XmlParser extends CycloneDxSchema implements Parser {
      */
     public Bom parse(final byte[] bomBytes) throws ParseException {
         try {
-            final String schemaVersion = identifySchemaVersion(new InputSource(new ByteArrayInputStream(bomBytes)));
-
-            return injectSchemaVersion(mapper.readValue(bomBytes, Bom.class), schemaVersion);
-        } catch (IOException | ParserConfigurationException | SAXException e) {
+            return parse(XML_INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(bomBytes)));
+        } catch (XMLStreamException e) {
             throw new ParseException(e);
         }
     }
@@ -110,9 +150,9 @@ public class XmlParser extends CycloneDxSchema implements Parser {
      * {@inheritDoc}
      */
     public Bom parse(final InputStream inputStream) throws ParseException {
-        try {
-            return mapper.readValue(inputStream, Bom.class);
-        } catch (IOException e) {
+        try (final InputStream in = inputStream) {
+            return parse(XML_INPUT_FACTORY.createXMLStreamReader(in));
+        } catch (IOException | XMLStreamException e) {
             throw new ParseException(e);
         }
     }
@@ -121,10 +161,36 @@ public class XmlParser extends CycloneDxSchema implements Parser {
      * {@inheritDoc}
      */
     public Bom parse(final Reader reader) throws ParseException {
+        try (final Reader in = reader) {
+            return parse(XML_INPUT_FACTORY.createXMLStreamReader(in));
+        } catch (IOException | XMLStreamException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    /**
+     * Identifies the schema version from the root element and then binds the remainder of the
+     * document from the same reader, so the input is only read once.
+     * @param reader the XMLStreamReader positioned at the start of the document
+     * @return a Bom object
+     * @throws ParseException when errors are encountered
+     */
+    private Bom parse(final XMLStreamReader reader) throws ParseException {
         try {
-            return mapper.readValue(reader, Bom.class);
-        } catch (IOException e) {
+            final String schemaVersion = identifySchemaVersion(reader);
+            final StringPool stringPool = options.stringPoolForParse();
+            final Bom bom = stringPool == null ? mapper.readValue(reader, Bom.class)
+                    : mapper.readerFor(Bom.class).withAttribute(StringPool.class, stringPool)
+                            .readValue(mapper.getFactory().createParser(reader));
+            return options.index(injectSchemaVersion(bom, schemaVersion));
+        } catch (IOException | XMLStreamException e) {
             throw new ParseException(e);
+        } finally {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // throw it away
+            }
         }
     }
 
@@ -274,8 +340,8 @@ public class XmlParser extends CycloneDxSchema implements Parser {
             reader.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
             reader.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
         } catch (SAXException e) {
-            // same compensation as in createSecureDocument: disallow DOCTYPE declarations
-            // entirely when the JAXP 1.5 properties are unsupported
+            // JAXP 1.5 secure-processing properties are unsupported (e.g. Xerces 2.x found on the
+            // classpath): disallow DOCTYPE declarations entirely to prevent XXE
             reader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
         }
         return reader;
@@ -337,66 +403,45 @@ public class XmlParser extends CycloneDxSchema implements Parser {
         return validate(inputStream, schemaVersion).isEmpty();
     }
 
-    private String identifySchemaVersion(final InputSource in)
-        throws ParserConfigurationException, IOException, SAXException
-    {
-
-        List<String> namespaces = extractAllNamespaceDeclarations(in);
-
-        for (String namespaceUri : namespaces) {
-            String versionString = NAMESPACE_TO_VERSION_MAP.get(namespaceUri);
-            if (versionString != null) {
-                return versionString;
+    /**
+     * Advances the reader to the root element and resolves the schema version from its namespace,
+     * falling back to the other namespaces declared on the root element.
+     * @param reader the XMLStreamReader positioned at the start of the document
+     * @return the schema version, or null if none of the namespaces is a CycloneDX BOM namespace
+     * @throws XMLStreamException when the document is malformed or declares a DOCTYPE
+     */
+    private String identifySchemaVersion(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+            if (reader.getEventType() == XMLStreamConstants.DTD) {
+                // CycloneDX BOMs never carry a DOCTYPE; rejecting it outright rules out XXE
+                throw new XMLStreamException("DOCTYPE is disallowed in CycloneDX BOMs", reader.getLocation());
             }
+            reader.next();
         }
-        return null;
-    }
-
-    private List<String> extractAllNamespaceDeclarations(final InputSource in)
-        throws ParserConfigurationException, IOException, SAXException
-    {
-        Document doc = createSecureDocument(in);
-
-        // Extract all namespaces, including the default namespace
-        List<String>namespaces = new ArrayList<>();
-        extractNamespaces(doc.getDocumentElement(), namespaces);
-
-        return namespaces;
-    }
-
-    private void extractNamespaces(Node node, List<String> namespaces) {
-        if (node.getNodeType() == Node.ELEMENT_NODE) {
-            NamedNodeMap attributes = node.getAttributes();
-            for (int i = 0; i < attributes.getLength(); i++) {
-                Node attr = attributes.item(i);
-                if (attr.getNodeName().equals("xmlns")) {
-                    namespaces.add(attr.getNodeValue());
-                }
-            }
+        final String versionString = NAMESPACE_TO_VERSION_MAP.get(reader.getNamespaceURI());
+        if (versionString != null) {
+            return versionString;
         }
-        NodeList children = node.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++) {
-            extractNamespaces(children.item(i), namespaces);
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            final String declared = NAMESPACE_TO_VERSION_MAP.get(reader.getNamespaceURI(i));
+            if (declared != null) {
+                return declared;
+            }
         }
+        return null;
     }
 
-    private Document createSecureDocument(InputSource in) throws ParserConfigurationException, IOException, SAXException
-    {
-        //https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html#xpathexpression
-        DocumentBuilderFactory df = XmlFactoryUtils.newDocumentBuilderFactory();
-        try {
-            df.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-            df.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-        } catch (IllegalArgumentException e) {
-            // JAXP 1.5 secure-processing attributes are not supported by outdated
-            // DocumentBuilderFactory implementations (e.g. Xerces 2.x found on the classpath).
-            // Secure processing alone does not prevent XXE there, so compensate by disallowing
-            // DOCTYPE declarations entirely; if that is unsupported too, fail rather than
-            // parse insecurely
-            df.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        }
-        df.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        DocumentBuilder builder = df.newDocumentBuilder();
-        return builder.parse(in);
+    /**
+     * Creates a StAX input factory with DTD processing and external entity resolution disabled.
+     *
+     * @return a new hardened {@link XMLInputFactory}
+     */
+    static XMLInputFactory createSecureXmlInputFactory() {
+        //https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html#java
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
     }
 }
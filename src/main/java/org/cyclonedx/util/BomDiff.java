@@ -0,0 +1,545 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The differences between two BOMs, such as those of consecutive releases of a product: the components that
+ * were added, removed or changed, the dependencies that were added or removed, and the vulnerabilities that
+ * were added, removed or changed.
+ * <p>
+ * Components are compared wherever they occur, including the metadata component and nested components. A
+ * component of one BOM is matched with a component of the other with the same bom-ref, else with the same
+ * purl, else with the same purl except for the version, or the same type, group and name if it has no purl.
+ * Matched components are compared by {@link Fingerprint}, so that unchanged components are skipped without
+ * deep comparisons, and the differences of the changed components are classified. Dependencies are compared
+ * through the matched components, so that replacing a component by a new version of it, with a new bom-ref,
+ * does not change the dependencies. Vulnerabilities are matched by id and source, else by bom-ref, and
+ * compared by fingerprint as well.
+ * <p>
+ * Computing a diff takes time linear in the size of the BOMs, which are not modified.
+ * @since 13.2.0
+ */
+public final class BomDiff {
+
+    /**
+     * A kind of difference between matched components.
+     */
+    public enum Change {
+        /**
+         * The version differs.
+         */
+        VERSION,
+        /**
+         * The licenses differ.
+         */
+        LICENSES,
+        /**
+         * The hashes differ, regardless of their order.
+         */
+        HASHES,
+        /**
+         * Any other property differs, except the bom-ref and the nested components.
+         */
+        OTHER
+    }
+
+    private static final ObjectWriter OTHER_CONTENT_WRITER;
+
+    private static final ObjectWriter VULNERABILITY_WRITER;
+
+    static {
+        final ObjectMapper mapper = Fingerprint.contentMapper();
+        mapper.addMixIn(Component.class, OtherContent.class);
+        OTHER_CONTENT_WRITER = mapper.writerFor(Component.class);
+        VULNERABILITY_WRITER = Fingerprint.contentMapper().writerFor(Vulnerability.class);
+    }
+
+    private final List<Component> addedComponents;
+
+    private final List<Component> removedComponents;
+
+    private final List<ComponentChange> changedComponents;
+
+    private final List<Edge> addedDependencies;
+
+    private final List<Edge> removedDependencies;
+
+    private final List<Vulnerability> addedVulnerabilities;
+
+    private final List<Vulnerability> removedVulnerabilities;
+
+    private final List<VulnerabilityChange> changedVulnerabilities;
+
+    private BomDiff(final Builder builder) {
+        this.addedComponents = Collections.unmodifiableList(builder.addedComponents);
+        this.removedComponents = Collections.unmodifiableList(builder.removedComponents);
+        this.changedComponents = Collections.unmodifiableList(builder.changedComponents);
+        this.addedDependencies = Collections.unmodifiableList(builder.addedDependencies);
+        this.removedDependencies = Collections.unmodifiableList(builder.removedDependencies);
+        this.addedVulnerabilities = Collections.unmodifiableList(builder.addedVulnerabilities);
+        this.removedVulnerabilities = Collections.unmodifiableList(builder.removedVulnerabilities);
+        this.changedVulnerabilities = Collections.unmodifiableList(builder.changedVulnerabilities);
+    }
+
+    /**
+     * Computes the differences between two BOMs.
+     * @param from the earlier BOM
+     * @param to the later BOM
+     * @return the differences
+     */
+    public static BomDiff of(final Bom from, final Bom to) {
+        final Builder builder = new Builder();
+        builder.diffComponents(flatten(from), flatten(to));
+        builder.diffDependencies(from, to);
+        builder.diffVulnerabilities(from.getVulnerabilities(), to.getVulnerabilities());
+        return new BomDiff(builder);
+    }
+
+    /**
+     * Returns the components of the later BOM without a match in the earlier BOM.
+     * @return the added components
+     */
+    public List<Component> getAddedComponents() {
+        return addedComponents;
+    }
+
+    /**
+     * Returns the components of the earlier BOM without a match in the later BOM.
+     * @return the removed components
+     */
+    public List<Component> getRemovedComponents() {
+        return removedComponents;
+    }
+
+    /**
+     * Returns the matched components whose content differs.
+     * @return the changed components
+     */
+    public List<ComponentChange> getChangedComponents() {
+        return changedComponents;
+    }
+
+    /**
+     * Returns the dependencies of the later BOM that the earlier BOM does not have, with the bom-refs of the
+     * later BOM.
+     * @return the added dependencies
+     */
+    public List<Edge> getAddedDependencies() {
+        return addedDependencies;
+    }
+
+    /**
+     * Returns the dependencies of the earlier BOM that the later BOM does not have, with the bom-refs of the
+     * earlier BOM.
+     * @return the removed dependencies
+     */
+    public List<Edge> getRemovedDependencies() {
+        return removedDependencies;
+    }
+
+    public List<Vulnerability> getAddedVulnerabilities() {
+        return addedVulnerabilities;
+    }
+
+    public List<Vulnerability> getRemovedVulnerabilities() {
+        return removedVulnerabilities;
+    }
+
+    public List<VulnerabilityChange> getChangedVulnerabilities() {
+        return changedVulnerabilities;
+    }
+
+    /**
+     * Returns whether the BOMs have the same components, dependencies and vulnerabilities.
+     * @return true if there is no difference
+     */
+    public boolean isEmpty() {
+        return addedComponents.isEmpty() && removedComponents.isEmpty() && changedComponents.isEmpty()
+                && addedDependencies.isEmpty() && removedDependencies.isEmpty()
+                && addedVulnerabilities.isEmpty() && removedVulnerabilities.isEmpty()
+                && changedVulnerabilities.isEmpty();
+    }
+
+    private static List<Component> flatten(final Bom bom) {
+        final List<Component> components = new ArrayList<>();
+        final Deque<Component> pending = new ArrayDeque<>();
+        if (bom.getMetadata() != null && bom.getMetadata().getComponent() != null) {
+            pending.add(bom.getMetadata().getComponent());
+        }
+        if (bom.getComponents() != null) {
+            pending.addAll(bom.getComponents());
+        }
+        while (!pending.isEmpty()) {
+            final Component component = pending.pollFirst();
+            if (component == null) {
+                continue;
+            }
+            components.add(component);
+            if (component.getComponents() != null) {
+                final List<Component> children = component.getComponents();
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    pending.addFirst(children.get(i));
+                }
+            }
+        }
+        return components;
+    }
+
+    /**
+     * Returns the purl without its version, or the type, group and name of a component without a purl.
+     */
+    private static String versionlessKey(final Component component) {
+        final String purl = component.getPurl();
+        if (purl == null) {
+            return component.getName() == null ? null
+                    : component.getType() + "|" + component.getGroup() + "|" + component.getName();
+        }
+        final int at = purl.indexOf('@', purl.lastIndexOf('/') + 1);
+        if (at < 0) {
+            return purl;
+        }
+        int end = purl.indexOf('?', at);
+        if (end < 0) {
+            end = purl.indexOf('#', at);
+        }
+        return end < 0 ? purl.substring(0, at) : purl.substring(0, at) + purl.substring(end);
+    }
+
+    /**
+     * A component of the earlier BOM matched with a component of the later BOM whose content differs.
+     */
+    public static final class ComponentChange {
+
+        private final Component from;
+
+        private final Component to;
+
+        private final Set<Change> changes;
+
+        private ComponentChange(final Component from, final Component to, final Set<Change> changes) {
+            this.from = from;
+            this.to = to;
+            this.changes = Collections.unmodifiableSet(changes);
+        }
+
+        public Component getFrom() {
+            return from;
+        }
+
+        public Component getTo() {
+            return to;
+        }
+
+        /**
+         * Returns the kinds of differences.
+         * @return a non-empty set of changes
+         */
+        public Set<Change> getChanges() {
+            return changes;
+        }
+
+        @Override
+        public String toString() {
+            return "ComponentChange{from=" + from.getBomRef() + ", to=" + to.getBomRef() + ", changes=" + changes + "}";
+        }
+    }
+
+    /**
+     * A vulnerability of the earlier BOM matched with a different vulnerability of the later BOM.
+     */
+    public static final class VulnerabilityChange {
+
+        private final Vulnerability from;
+
+        private final Vulnerability to;
+
+        private VulnerabilityChange(final Vulnerability from, final Vulnerability to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        public Vulnerability getFrom() {
+            return from;
+        }
+
+        public Vulnerability getTo() {
+            return to;
+        }
+    }
+
+    /**
+     * A dependency of a bom-ref on another.
+     */
+    public static final class Edge {
+
+        private final String ref;
+
+        private final String dependsOn;
+
+        public Edge(final String ref, final String dependsOn) {
+            this.ref = ref;
+            this.dependsOn = dependsOn;
+        }
+
+        public String getRef() {
+            return ref;
+        }
+
+        public String getDependsOn() {
+            return dependsOn;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Edge)) {
+                return false;
+            }
+            final Edge edge = (Edge) o;
+            return Objects.equals(ref, edge.ref) && Objects.equals(dependsOn, edge.dependsOn);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ref, dependsOn);
+        }
+
+        @Override
+        public String toString() {
+            return ref + " -> " + dependsOn;
+        }
+    }
+
+    @JsonIgnoreProperties({"bom-ref", "components", "version", "licenses", "hashes", "purl"})
+    private abstract static class OtherContent {
+    }
+
+    private static final class Builder {
+
+        private final List<Component> addedComponents = new ArrayList<>();
+
+        private final List<Component> removedComponents = new ArrayList<>();
+
+        private final List<ComponentChange> changedComponents = new ArrayList<>();
+
+        private final List<Edge> addedDependencies = new ArrayList<>();
+
+        private final List<Edge> removedDependencies = new ArrayList<>();
+
+        private final List<Vulnerability> addedVulnerabilities = new ArrayList<>();
+
+        private final List<Vulnerability> removedVulnerabilities = new ArrayList<>();
+
+        private final List<VulnerabilityChange> changedVulnerabilities = new ArrayList<>();
+
+        /**
+         * The bom-refs of the earlier BOM mapped to those of the matched components of the later BOM.
+         */
+        private final Map<String, String> refs = new HashMap<>();
+
+        private void diffComponents(final List<Component> from, final List<Component> to) {
+            final Map<Component, Component> matches = new IdentityHashMap<>();
+            final Set<Component> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+            match(from, to, matches, matched, Component::getBomRef);
+            match(from, to, matches, matched, Component::getPurl);
+            match(from, to, matches, matched, BomDiff::versionlessKey);
+
+            for (final Component component : from) {
+                final Component match = matches.get(component);
+                if (match == null) {
+                    removedComponents.add(component);
+                    continue;
+                }
+                if (component.getBomRef() != null && match.getBomRef() != null) {
+                    refs.put(component.getBomRef(), match.getBomRef());
+                }
+                if (!Fingerprint.of(component).equals(Fingerprint.of(match))) {
+                    final Set<Change> changes = changes(component, match);
+                    if (!changes.isEmpty()) {
+                        changedComponents.add(new ComponentChange(component, match, changes));
+                    }
+                }
+            }
+            for (final Component component : to) {
+                if (!matched.contains(component)) {
+                    addedComponents.add(component);
+                }
+            }
+        }
+
+        /**
+         * Matches the components not matched yet that have the same key, in order.
+         */
+        private static void match(final List<Component> from, final List<Component> to,
+                                  final Map<Component, Component> matches, final Set<Component> matched,
+                                  final Function<Component, String> key) {
+            final Map<String, Deque<Component>> candidates = new HashMap<>();
+            for (final Component component : to) {
+                final String k = matched.contains(component) ? null : key.apply(component);
+                if (k != null) {
+                    candidates.computeIfAbsent(k, x -> new ArrayDeque<>(1)).add(component);
+                }
+            }
+            if (candidates.isEmpty()) {
+                return;
+            }
+            for (final Component component : from) {
+                final String k = matches.containsKey(component) ? null : key.apply(component);
+                final Deque<Component> queue = k != null ? candidates.get(k) : null;
+                if (queue != null && !queue.isEmpty()) {
+                    final Component match = queue.poll();
+                    matches.put(component, match);
+                    matched.add(match);
+                }
+            }
+        }
+
+        private static Set<Change> changes(final Component from, final Component to) {
+            final Set<Change> changes = EnumSet.noneOf(Change.class);
+            if (!Objects.equals(from.getVersion(), to.getVersion())) {
+                changes.add(Change.VERSION);
+            }
+            if (!Objects.equals(from.getLicenses(), to.getLicenses())) {
+                changes.add(Change.LICENSES);
+            }
+            if (!hashes(from).equals(hashes(to))) {
+                changes.add(Change.HASHES);
+            }
+            if (!Objects.equals(versionlessKey(from), versionlessKey(to))
+                    || !Fingerprint.of(OTHER_CONTENT_WRITER, from).equals(Fingerprint.of(OTHER_CONTENT_WRITER, to))) {
+                changes.add(Change.OTHER);
+            }
+            return changes;
+        }
+
+        private static Set<Hash> hashes(final Component component) {
+            return component.getHashes() == null ? Collections.emptySet() : new HashSet<>(component.getHashes());
+        }
+
+        private void diffDependencies(final Bom from, final Bom to) {
+            final Set<Edge> fromEdges = edges(from.getDependencies());
+            final Set<Edge> toEdges = edges(to.getDependencies());
+            final Set<Edge> mappedFromEdges = new HashSet<>(fromEdges.size() * 4 / 3 + 1);
+            for (final Edge edge : fromEdges) {
+                final Edge mapped = new Edge(map(edge.getRef()), map(edge.getDependsOn()));
+                mappedFromEdges.add(mapped);
+                if (!toEdges.contains(mapped)) {
+                    removedDependencies.add(edge);
+                }
+            }
+            for (final Edge edge : toEdges) {
+                if (!mappedFromEdges.contains(edge)) {
+                    addedDependencies.add(edge);
+                }
+            }
+        }
+
+        private String map(final String ref) {
+            final String mapped = refs.get(ref);
+            return mapped != null ? mapped : ref;
+        }
+
+        private static Set<Edge> edges(final List<Dependency> dependencies) {
+            final Set<Edge> edges = new LinkedHashSet<>();
+            if (dependencies == null) {
+                return edges;
+            }
+            final Deque<Dependency> pending = new ArrayDeque<>();
+            for (final Dependency root : dependencies) {
+                pending.push(root);
+                while (!pending.isEmpty()) {
+                    final Dependency dependency = pending.pop();
+                    if (dependency.getDependencies() == null) {
+                        continue;
+                    }
+                    for (final Dependency child : dependency.getDependencies()) {
+                        edges.add(new Edge(dependency.getRef(), child.getRef()));
+                        if (child.getDependencies() != null && !child.getDependencies().isEmpty()) {
+                            pending.push(child);
+                        }
+                    }
+                }
+            }
+            return edges;
+        }
+
+        private void diffVulnerabilities(final List<Vulnerability> from, final List<Vulnerability> to) {
+            final Map<Object, Vulnerability> remaining = new LinkedHashMap<>();
+            final List<Vulnerability> duplicates = new ArrayList<>();
+            if (to != null) {
+                for (final Vulnerability vulnerability : to) {
+                    if (remaining.putIfAbsent(key(vulnerability), vulnerability) != null) {
+                        duplicates.add(vulnerability);
+                    }
+                }
+            }
+            if (from != null) {
+                for (final Vulnerability vulnerability : from) {
+                    final Vulnerability match = remaining.remove(key(vulnerability));
+                    if (match == null) {
+                        removedVulnerabilities.add(vulnerability);
+                    } else if (!Fingerprint.of(VULNERABILITY_WRITER, vulnerability)
+                            .equals(Fingerprint.of(VULNERABILITY_WRITER, match))) {
+                        changedVulnerabilities.add(new VulnerabilityChange(vulnerability, match));
+                    }
+                }
+            }
+            addedVulnerabilities.addAll(remaining.values());
+            addedVulnerabilities.addAll(duplicates);
+        }
+
+        private static Object key(final Vulnerability vulnerability) {
+            if (vulnerability.getId() != null) {
+                final Vulnerability.Source source = vulnerability.getSource();
+                return "id:" + vulnerability.getId() + "|" + (source != null ? source.getName() : null);
+            }
+            if (vulnerability.getBomRef() != null) {
+                return "ref:" + vulnerability.getBomRef();
+            }
+            return vulnerability;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the objects of a BOM by bom-ref: the metadata component, the components, the services and
+ * the vulnerabilities, including nested components and services. The index is built in a single pass over
+ * the BOM, after which each lookup takes constant time, whereas {@link ObjectLocator} searches the BOM.
+ * <p>
+ * When a bom-ref is used more than once, the index holds the object {@link ObjectLocator} would find: the
+ * first in the order above, nested objects following their parent. The index reflects the BOM when it was
+ * built and is not updated when the BOM is modified.
+ * @since 13.2.0
+ */
+public final class BomIndex {
+
+    /**
+     * The kinds of objects identified by a bom-ref.
+     */
+    public enum Kind {
+        METADATA_COMPONENT,
+        COMPONENT,
+        SERVICE,
+        VULNERABILITY
+    }
+
+    /**
+     * An object of the BOM, with the components or services it is nested in.
+     */
+    public static final class Entry {
+
+        private final Object object;
+
+        private final Kind kind;
+
+        private final Entry parent;
+
+        private Entry(final Object object, final Kind kind, final Entry parent) {
+            this.object = object;
+            this.kind = kind;
+            this.parent = parent;
+        }
+
+        public Object getObject() {
+            return object;
+        }
+
+        /**
+         * Returns the kind of the object. Components nested in the metadata component are of kind
+         * {@link Kind#COMPONENT}, see {@link #isInMetadata()}.
+         * @return the kind of the object
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the component or service the object is nested in.
+         * @return the parent, or null if the object is not nested
+         */
+        public Entry getParent() {
+            return parent;
+        }
+
+        /**
+         * Returns the components or services the object is nested in.
+         * @return the objects enclosing the object, from its parent to the top-level one
+         */
+        public List<Object> getParents() {
+            final List<Object> parents = new ArrayList<>();
+            for (Entry entry = parent; entry != null; entry = entry.parent) {
+                parents.add(entry.object);
+            }
+            return parents;
+        }
+
+        /**
+         * Returns whether the object is the metadata component or is nested in it.
+         * @return true if the top-level enclosing object is the metadata component
+         */
+        public boolean isInMetadata() {
+            Entry root = this;
+            while (root.parent != null) {
+                root = root.parent;
+            }
+            return root.kind == Kind.METADATA_COMPONENT;
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private BomIndex() {
+    }
+
+    /**
+     * Builds the index of a BOM.
+     * @param bom the BOM to index
+     * @return the index
+     */
+    public static BomIndex of(final Bom bom) {
+        final BomIndex index = new BomIndex();
+        if (bom.getMetadata() != null && bom.getMetadata().getComponent() != null) {
+            index.addComponents(Collections.singletonList(bom.getMetadata().getComponent()), Kind.METADATA_COMPONENT, null);
+        }
+        index.addComponents(bom.getComponents(), Kind.COMPONENT, null);
+        index.addServices(bom.getServices(), null);
+        if (bom.getVulnerabilities() != null) {
+            for (final Vulnerability vulnerability : bom.getVulnerabilities()) {
+                index.add(vulnerability.getBomRef(), new Entry(vulnerability, Kind.VULNERABILITY, null));
+            }
+        }
+        return index;
+    }
+
+    private void addComponents(final List<Component> components, final Kind kind, final Entry parent) {
+        if (components == null) return;
+        for (final Component component : components) {
+            final Entry entry = new Entry(component, kind, parent);
+            add(component.getBomRef(), entry);
+            addComponents(component.getComponents(), Kind.COMPONENT, entry);
+        }
+    }
+
+    private void addServices(final List<Service> services, final Entry parent) {
+        if (services == null) return;
+        for (final Service service : services) {
+            final Entry entry = new Entry(service, Kind.SERVICE, parent);
+            add(service.getBomRef(), entry);
+            addServices(service.getServices(), entry);
+        }
+    }
+
+    private void add(final String bomRef, final Entry entry) {
+        if (bomRef != null) {
+            entries.putIfAbsent(bomRef, entry);
+        }
+    }
+
+    /**
+     * Returns the object with the specified bom-ref.
+     * @param bomRef the bom-ref
+     * @return the entry of the object, or null if there is none
+     */
+    public Entry get(final String bomRef) {
+        return bomRef != null ? entries.get(bomRef) : null;
+    }
+
+    public boolean contains(final String bomRef) {
+        return get(bomRef) != null;
+    }
+
+    /**
+     * Returns the component with the specified bom-ref, which may be the metadata component.
+     * @param bomRef the bom-ref
+     * @return the component, or null if the bom-ref does not identify a component
+     */
+    public Component getComponent(final String bomRef) {
+        final Entry entry = get(bomRef);
+        return entry != null && entry.object instanceof Component ? (Component) entry.object : null;
+    }
+
+    public Service getService(final String bomRef) {
+        final Entry entry = get(bomRef);
+        return entry != null && entry.kind == Kind.SERVICE ? (Service) entry.object : null;
+    }
+
+    public Vulnerability getVulnerability(final String bomRef) {
+        final Entry entry = get(bomRef);
+        return entry != null && entry.kind == Kind.VULNERABILITY ? (Vulnerability) entry.object : null;
+    }
+
+    /**
+     * Returns the number of bom-refs indexed.
+     * @return the number of distinct bom-refs
+     */
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.xml.util.DefaultXmlPrettyPrinter;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.BomReference;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.parsers.ParseOptions;
+import org.cyclonedx.util.deserializer.PooledStringDeserializer;
+import org.cyclonedx.util.deserializer.ProjectionDeserializerModifier;
+import org.cyclonedx.util.introspector.VersionJsonAnnotationIntrospector;
+import org.cyclonedx.util.introspector.VersionXmlAnnotationIntrospector;
+import org.cyclonedx.util.mixin.MixInBomReference;
+import org.cyclonedx.util.serializer.AuthorsBeanSerializerModifier;
+import org.cyclonedx.util.serializer.ComponentWrapperSerializer;
+import org.cyclonedx.util.serializer.CustomSerializerModifier;
+import org.cyclonedx.util.serializer.DependencySerializer;
+import org.cyclonedx.util.serializer.EvidenceSerializer;
+import org.cyclonedx.util.serializer.ExternalReferenceSerializer;
+import org.cyclonedx.util.serializer.HashSerializer;
+import org.cyclonedx.util.serializer.InputTypeSerializer;
+import org.cyclonedx.util.serializer.LicenseChoiceSerializer;
+import org.cyclonedx.util.serializer.LifecycleSerializer;
+import org.cyclonedx.util.serializer.MetadataSerializer;
+import org.cyclonedx.util.serializer.OutputTypeSerializer;
+import org.cyclonedx.util.serializer.SignatorySerializer;
+import org.cyclonedx.util.serializer.TrimStringSerializer;
+import org.cyclonedx.util.serializer.VulnerabilitySerializer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the Jackson mappers used to read and write BOMs. Configuring a mapper and warming up its
+ * serializer caches is far more expensive than (de)serializing a small BOM, so a single, fully configured
+ * mapper is built per {@link Version} and {@link Format} and shared by all generators and parsers.
+ * <p>
+ * Reading does not depend on the spec version, so there is one reading mapper per format, and one per
+ * set of {@link ParseOptions} for parsers that project the BOM or deduplicate strings. Only the most
+ * recently used of the latter are kept, so parsers should share their options rather than vary them
+ * per document. The
+ * {@link Format#PROTOBUF} format is bound through its JSON representation and uses the JSON mappers.
+ * <p>
+ * The {@link ObjectReader}s and {@link ObjectWriter}s returned are immutable and thread-safe. The
+ * {@link ObjectMapper}s are shared as well and must not be reconfigured.
+ *
+ * @since 13.2.0
+ */
+public final class BomMapperFactory
+{
+    private static final Map<Format, Readers> READERS = new ConcurrentHashMap<>();
+
+    /**
+     * The number of option-specific readers kept. Projections may be chosen per request, so the least
+     * recently used readers are evicted rather than kept for the lifetime of the JVM.
+     */
+    private static final int MAX_OPTION_READERS = 32;
+
+    private static final Map<List<Object>, Readers> OPTION_READERS =
+            new LinkedHashMap<List<Object>, Readers>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<List<Object>, Readers> eldest) {
+                    return size() > MAX_OPTION_READERS;
+                }
+            };
+
+    private static final Map<String, Writers> WRITERS = new ConcurrentHashMap<>();
+
+    private BomMapperFactory() {
+    }
+
+    /**
+     * Returns the shared mapper used to read BOMs of the specified format.
+     * @param format the format
+     * @return an {@link XmlMapper} for the XML format, a plain {@link ObjectMapper} otherwise
+     */
+    public static ObjectMapper getReadMapper(final Format format) {
+        return readers(format).mapper;
+    }
+
+    /**
+     * Returns a reader of {@link Bom} objects in the specified format.
+     * @param format the format
+     * @return an immutable ObjectReader
+     */
+    public static ObjectReader getReader(final Format format) {
+        return readers(format).reader;
+    }
+
+    /**
+     * Returns the shared mapper used to read BOMs of the specified format with the specified options.
+     * @param format the format
+     * @param options the parse options
+     * @return an {@link XmlMapper} for the XML format, a plain {@link ObjectMapper} otherwise
+     */
+    public static ObjectMapper getReadMapper(final Format format, final ParseOptions options) {
+        return readers(format, options).mapper;
+    }
+
+    /**
+     * Returns a reader of {@link Bom} objects in the specified format with the specified options.
+     * @param format the format
+     * @param options the parse options
+     * @return an immutable ObjectReader
+     */
+    public static ObjectReader getReader(final Format format, final ParseOptions options) {
+        return readers(format, options).reader;
+    }
+
+    /**
+     * Returns the shared mapper used to write BOMs of the specified version and format.
+     * @param version the CycloneDX version
+     * @param format the format
+     * @return a mapper with all version-specific serializers registered
+     */
+    public static ObjectMapper getWriteMapper(final Version version, final Format format) {
+        return writers(version, format).mapper;
+    }
+
+    /**
+     * Returns a writer for BOMs of the specified version and format.
+     * @param version the CycloneDX version
+     * @param format the format
+     * @param prettyPrint whether the output is indented
+     * @return an immutable ObjectWriter
+     */
+    public static ObjectWriter getWriter(final Version version, final Format format, final boolean prettyPrint) {
+        final Writers writers = writers(version, format);
+        return prettyPrint ? writers.prettyWriter : writers.writer;
+    }
+
+    /**
+     * Returns a writer of the specified mapper, indented like the writers returned by
+     * {@link #getWriter(Version, Format, boolean)}. Meant for generators whose mapper is not the shared one.
+     * @param mapper the mapper
+     * @param format the format the mapper writes
+     * @param prettyPrint whether the output is indented
+     * @return an immutable ObjectWriter
+     * @since 13.2.0
+     */
+    public static ObjectWriter getWriter(final ObjectMapper mapper, final Format format, final boolean prettyPrint) {
+        if (!prettyPrint) {
+            return mapper.writer();
+        }
+        return format == Format.XML ? mapper.writer(new DefaultXmlPrettyPrinter()) : mapper.writer(jsonPrettyPrinter());
+    }
+
+    /**
+     * Registers the serializers shared by the JSON and XML formats.
+     * @param mapper the mapper to configure
+     * @param version the CycloneDX version to write
+     * @param isXml whether the mapper writes XML
+     */
+    public static void registerSerializers(final ObjectMapper mapper, final Version version, final boolean isXml) {
+        SimpleModule licenseModule = new SimpleModule();
+        licenseModule.addSerializer(new LicenseChoiceSerializer(isXml, version));
+        mapper.registerModule(licenseModule);
+
+        SimpleModule lifecycleModule = new SimpleModule();
+        lifecycleModule.addSerializer(new LifecycleSerializer(isXml, version));
+        mapper.registerModule(lifecycleModule);
+
+        SimpleModule metadataModule = new SimpleModule();
+        metadataModule.addSerializer(new MetadataSerializer(isXml, version));
+        mapper.registerModule(metadataModule);
+
+        SimpleModule vulnerabilityModule = new SimpleModule();
+        vulnerabilityModule.addSerializer(new VulnerabilitySerializer(isXml, version));
+        mapper.registerModule(vulnerabilityModule);
+
+        SimpleModule inputTypeModule = new SimpleModule();
+        inputTypeModule.addSerializer(new InputTypeSerializer(isXml, version));
+        mapper.registerModule(inputTypeModule);
+
+        SimpleModule outputTypeModule = new SimpleModule();
+        outputTypeModule.addSerializer(new OutputTypeSerializer(isXml, version));
+        mapper.registerModule(outputTypeModule);
+
+        SimpleModule evidenceModule = new SimpleModule();
+        evidenceModule.addSerializer(new EvidenceSerializer(isXml, version));
+        mapper.registerModule(evidenceModule);
+
+        SimpleModule signatoryModule = new SimpleModule();
+        signatoryModule.addSerializer(new SignatorySerializer(isXml));
+        mapper.registerModule(signatoryModule);
+
+        SimpleModule externalSerializer = new SimpleModule();
+        externalSerializer.addSerializer(new ExternalReferenceSerializer(version));
+        mapper.registerModule(externalSerializer);
+
+        SimpleModule hash1Module = new SimpleModule();
+        hash1Module.addSerializer(new HashSerializer(version));
+        mapper.registerModule(hash1Module);
+
+        SimpleModule authorsModule = new SimpleModule();
+        authorsModule.setSerializerModifier(new AuthorsBeanSerializerModifier(version));
+        mapper.registerModule(authorsModule);
+
+        SimpleModule propertiesModule = new SimpleModule();
+        propertiesModule.setSerializerModifier(new CustomSerializerModifier(isXml, version));
+        mapper.registerModule(propertiesModule);
+    }
+
+    private static Readers readers(final Format format) {
+        return READERS.computeIfAbsent(format == Format.XML ? Format.XML : Format.JSON, f ->
+                new Readers(f == Format.XML ? new XmlMapper() : new ObjectMapper()));
+    }
+
+    private static Readers readers(final Format format, final ParseOptions options) {
+        if (!options.isProjected() && !options.isStringDeduplication()) {
+            return readers(format);
+        }
+        final boolean isXml = format == Format.XML;
+        // The string pool itself is set per parse, so readers only depend on whether there is one
+        final List<Object> key = Arrays.asList(isXml, options.getIncludedPaths(), options.isStringDeduplication());
+        synchronized (OPTION_READERS) {
+            final Readers readers = OPTION_READERS.get(key);
+            if (readers != null) {
+                return readers;
+            }
+        }
+        // Built outside of the lock; two threads may race to build the same readers, which is harmless
+        final Readers readers = createReaders(isXml, options);
+        synchronized (OPTION_READERS) {
+            final Readers existing = OPTION_READERS.putIfAbsent(key, readers);
+            return existing != null ? existing : readers;
+        }
+    }
+
+    private static Readers createReaders(final boolean isXml, final ParseOptions options) {
+        final ObjectMapper mapper = isXml ? new XmlMapper() : new ObjectMapper();
+        if (options.isProjected()) {
+            final Map<Class<?>, Set<String>> included = new HashMap<>();
+            included.put(Bom.class, options.getIncludedBomProperties());
+            final Set<String> componentProperties = options.getIncludedComponentProperties();
+            if (componentProperties != null) {
+                included.put(Component.class, componentProperties);
+            }
+            SimpleModule projectionModule = new SimpleModule();
+            projectionModule.setDeserializerModifier(new ProjectionDeserializerModifier(included));
+            mapper.registerModule(projectionModule);
+        }
+        if (options.isStringDeduplication()) {
+            SimpleModule stringModule = new SimpleModule();
+            stringModule.addDeserializer(String.class, new PooledStringDeserializer());
+            mapper.registerModule(stringModule);
+        }
+        return new Readers(mapper);
+    }
+
+    private static Writers writers(final Version version, final Format format) {
+        final Format mapperFormat = format == Format.XML ? Format.XML : Format.JSON;
+        return WRITERS.computeIfAbsent(version.name() + ":" + mapperFormat, key ->
+                mapperFormat == Format.XML ? createXmlWriters(version) : createJsonWriters(version));
+    }
+
+    private static Writers createJsonWriters(final Version version) {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.setAnnotationIntrospector(new VersionJsonAnnotationIntrospector(version));
+
+        registerSerializers(mapper, version, false);
+
+        SimpleModule stringModule = new SimpleModule();
+        stringModule.addSerializer(new TrimStringSerializer());
+        mapper.registerModule(stringModule);
+
+        SimpleModule depModule = new SimpleModule();
+        depModule.addSerializer(new DependencySerializer(false, null));
+        mapper.registerModule(depModule);
+
+        SimpleModule componentWrapperModule = new SimpleModule();
+        componentWrapperModule.addSerializer(new ComponentWrapperSerializer(mapper));
+        mapper.registerModule(componentWrapperModule);
+
+        mapper.addMixIn(BomReference.class, MixInBomReference.class);
+
+        return new Writers(mapper, mapper.writer(jsonPrettyPrinter()));
+    }
+
+    private static DefaultPrettyPrinter jsonPrettyPrinter() {
+        final DefaultPrettyPrinter prettyPrinter = new DefaultPrettyPrinter();
+        prettyPrinter.indentArraysWith(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE);
+        return prettyPrinter;
+    }
+
+    private static Writers createXmlWriters(final Version version) {
+        final XmlMapper mapper = new XmlMapper();
+        mapper.setAnnotationIntrospector(new VersionXmlAnnotationIntrospector(version));
+
+        if (version != Version.VERSION_10) {
+            SimpleModule depModule = new SimpleModule();
+            depModule.addSerializer(new DependencySerializer(version == Version.VERSION_11, null));
+            mapper.registerModule(depModule);
+        }
+        registerSerializers(mapper, version, true);
+
+        return new Writers(mapper, mapper.writer(new DefaultXmlPrettyPrinter()));
+    }
+
+    private static final class Readers
+    {
+        private final ObjectMapper mapper;
+
+        private final ObjectReader reader;
+
+        private Readers(final ObjectMapper mapper) {
+            this.mapper = mapper;
+            this.reader = mapper.readerFor(Bom.class);
+        }
+    }
+
+    private static final class Writers
+    {
+        private final ObjectMapper mapper;
+
+        private final ObjectWriter writer;
+
+        private final ObjectWriter prettyWriter;
+
+        private Writers(final ObjectMapper mapper, final ObjectWriter prettyWriter) {
+            this.mapper = mapper;
+            this.writer = mapper.writer();
+            this.prettyWriter = prettyWriter;
+        }
+    }
+}
@@ -0,0 +1,515 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.BomReference;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Composition;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.DependencyListBuilder;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Merges BOMs, such as those of the modules of a product, into a single BOM. The components, services,
+ * vulnerabilities, compositions and dependencies of the input BOMs are merged; their other properties are not.
+ * <p>
+ * With the {@link Strategy#FLAT flat} strategy, the metadata component and the components of each input BOM
+ * are added to the components of the merged BOM, and a component that has the same identity as one already
+ * merged is dropped. The components nested in a dropped component take its place. With the
+ * {@link Strategy#HIERARCHICAL hierarchical} strategy, nothing is dropped: the components of each input BOM
+ * are nested in its metadata component, which is added to the components of the merged BOM.
+ * <p>
+ * The bom-refs of each input BOM are rewritten where they collide with those already merged, by prefixing
+ * them with the bom-ref of the metadata component of the input BOM, or with {@code bom-N} for the Nth input
+ * BOM if it has none. With the hierarchical strategy, all bom-refs but those of the metadata components are
+ * prefixed. The references to rewritten or dropped bom-refs in the dependencies, the compositions and the
+ * affects of the vulnerabilities of the input BOM are rewritten accordingly, and the dependencies of all input
+ * BOMs are unioned. If a subject is specified, it is the metadata component of the merged BOM, and depends on
+ * the metadata component of each input BOM.
+ * <p>
+ * Duplicates are found through hash indexes, so merging takes time and memory linear in the size of the input
+ * BOMs. The input BOMs are consumed: their objects are moved to the merged BOM and modified in place, and
+ * the input BOMs must not be used afterwards. The work specific to each input BOM can be run in parallel.
+ * <pre>
+ * BomMerger merger = new BomMerger(BomMerger.Strategy.FLAT);
+ * merger.setParallelism(ForkJoinPool.commonPool());
+ * Bom product = merger.merge(productComponent, moduleBoms);
+ * </pre>
+ * @since 13.2.0
+ */
+public final class BomMerger {
+
+    /**
+     * How the components of the input BOMs are merged.
+     */
+    public enum Strategy {
+        /**
+         * Adds all components to the top level and drops duplicates.
+         */
+        FLAT,
+        /**
+         * Nests the components of each input BOM in its metadata component, without dropping duplicates.
+         */
+        HIERARCHICAL
+    }
+
+    /**
+     * A property identifying a component with the flat strategy. Components sharing any of the enabled
+     * identities are duplicates.
+     */
+    public enum Identity {
+        /**
+         * The bom-ref, which is also the identity of services.
+         */
+        BOM_REF,
+        /**
+         * The package URL.
+         */
+        PURL,
+        /**
+         * Any of the hashes, compared by algorithm and case-insensitive value.
+         */
+        HASH
+    }
+
+    private final Strategy strategy;
+
+    private Set<Identity> identities = EnumSet.of(Identity.PURL, Identity.HASH);
+
+    private ForkJoinPool parallelPool;
+
+    public BomMerger(final Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Sets the identities by which the flat strategy finds duplicate components. The default is the purl
+     * and the hashes, so that components of different input BOMs with the same bom-ref are both kept.
+     * @param identities the identities, or an empty set to keep all components
+     */
+    public void setIdentities(final Set<Identity> identities) {
+        this.identities = identities.isEmpty() ? EnumSet.noneOf(Identity.class) : EnumSet.copyOf(identities);
+    }
+
+    /**
+     * Enables parallel processing of the input BOMs. Identity keys are computed and references are
+     * rewritten by tasks of the pool, one per input BOM, while duplicates are resolved in the order of the
+     * input BOMs, so that the result does not depend on the pool.
+     * @param pool the pool running the tasks, such as {@link ForkJoinPool#commonPool()}, or null to merge
+     *             sequentially, which is the default
+     */
+    public void setParallelism(final ForkJoinPool pool) {
+        this.parallelPool = pool;
+    }
+
+    /**
+     * Merges BOMs.
+     * @param boms the BOMs to merge, which are consumed
+     * @return the merged BOM
+     */
+    public Bom merge(final List<Bom> boms) {
+        return merge(null, boms);
+    }
+
+    /**
+     * Merges BOMs into the BOM of a subject.
+     * @param subject the metadata component of the merged BOM, or null
+     * @param boms the BOMs to merge, which are consumed
+     * @return the merged BOM
+     */
+    public Bom merge(final Component subject, final List<Bom> boms) {
+        final Merge merge = new Merge();
+        final List<Input> inputs = new ArrayList<>(boms.size());
+        for (final Bom bom : boms) {
+            inputs.add(new Input(bom, inputs.size()));
+        }
+        if (subject != null && subject.getBomRef() != null) {
+            merge.usedRefs.add(subject.getBomRef());
+        }
+
+        final boolean deduplicate = strategy == Strategy.FLAT && !identities.isEmpty();
+        if (deduplicate) {
+            forEachInput(inputs, this::computeKeys);
+        }
+        for (final Input input : inputs) {
+            merge.add(input, deduplicate);
+        }
+        forEachInput(inputs, Input::rewriteReferences);
+
+        final DependencyListBuilder dependencies = new DependencyListBuilder();
+        for (final Input input : inputs) {
+            if (subject != null && subject.getBomRef() != null && input.subjectRef != null) {
+                dependencies.addDependency(subject.getBomRef(), input.subjectRef);
+            }
+            for (final Dependency dependency : input.dependencies) {
+                dependencies.addRef(dependency.getRef());
+                for (final Dependency dependsOn : dependency.getDependencies()) {
+                    dependencies.addDependency(dependency.getRef(), dependsOn.getRef());
+                }
+            }
+        }
+
+        final Bom result = new Bom();
+        if (subject != null) {
+            final Metadata metadata = new Metadata();
+            metadata.setComponent(subject);
+            result.setMetadata(metadata);
+        }
+        result.setComponents(nullIfEmpty(merge.components));
+        result.setServices(nullIfEmpty(merge.services));
+        result.setVulnerabilities(nullIfEmpty(merge.vulnerabilities));
+        result.setCompositions(nullIfEmpty(merge.compositions));
+        if (dependencies.size() > 0) {
+            result.setDependencies(dependencies.build());
+        }
+        return result;
+    }
+
+    private static <T> List<T> nullIfEmpty(final List<T> list) {
+        return list.isEmpty() ? null : list;
+    }
+
+    private void forEachInput(final List<Input> inputs, final Consumer<Input> action) {
+        if (parallelPool == null || inputs.size() < 2) {
+            inputs.forEach(action);
+            return;
+        }
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(inputs.size());
+        for (final Input input : inputs) {
+            tasks.add(parallelPool.submit(() -> action.accept(input)));
+        }
+        for (final ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+    private void computeKeys(final Input input) {
+        final Deque<Component> pending = new ArrayDeque<>(input.roots());
+        while (!pending.isEmpty()) {
+            final Component component = pending.pop();
+            final List<String> keys = new ArrayList<>(2);
+            if (identities.contains(Identity.BOM_REF) && component.getBomRef() != null) {
+                keys.add("ref:" + component.getBomRef());
+            }
+            if (identities.contains(Identity.PURL) && component.getPurl() != null) {
+                keys.add("purl:" + component.getPurl());
+            }
+            if (identities.contains(Identity.HASH) && component.getHashes() != null) {
+                for (final Hash hash : component.getHashes()) {
+                    if (hash.getAlgorithm() != null && hash.getValue() != null) {
+                        keys.add("hash:" + hash.getAlgorithm() + ":" + hash.getValue().toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            input.keys.put(component, keys);
+            if (component.getComponents() != null) {
+                pending.addAll(component.getComponents());
+            }
+        }
+    }
+
+    /**
+     * The state of the merge, which is updated by one input BOM at a time, in order.
+     */
+    private final class Merge {
+
+        private final Set<String> usedRefs = new HashSet<>();
+
+        private final Map<String, Component> componentsByKey = new HashMap<>();
+
+        private final Map<String, Service> servicesByRef = new HashMap<>();
+
+        private final List<Component> components = new ArrayList<>();
+
+        private final List<Service> services = new ArrayList<>();
+
+        private final List<Vulnerability> vulnerabilities = new ArrayList<>();
+
+        private final List<Composition> compositions = new ArrayList<>();
+
+        private void add(final Input input, final boolean deduplicate) {
+            final Bom bom = input.bom;
+            final Component metadataComponent = bom.getMetadata() != null ? bom.getMetadata().getComponent() : null;
+            if (strategy == Strategy.HIERARCHICAL && metadataComponent != null) {
+                rename(metadataComponent.getBomRef(), input, true, metadataComponent::setBomRef);
+                final List<Component> children = new ArrayList<>();
+                addComponents(metadataComponent.getComponents(), input, false, children);
+                addComponents(bom.getComponents(), input, false, children);
+                metadataComponent.setComponents(children.isEmpty() ? null : children);
+                components.add(metadataComponent);
+            } else {
+                if (metadataComponent != null) {
+                    addComponent(metadataComponent, input, deduplicate, components);
+                }
+                addComponents(bom.getComponents(), input, deduplicate, components);
+            }
+            if (metadataComponent != null) {
+                input.subjectRef = input.map(metadataComponent.getBomRef());
+            }
+            addServices(bom.getServices(), input, services);
+            if (bom.getVulnerabilities() != null) {
+                for (final Vulnerability vulnerability : bom.getVulnerabilities()) {
+                    rename(vulnerability.getBomRef(), input, strategy == Strategy.FLAT, vulnerability::setBomRef);
+                    vulnerabilities.add(vulnerability);
+                }
+            }
+            if (bom.getCompositions() != null) {
+                for (final Composition composition : bom.getCompositions()) {
+                    rename(composition.getBomRef(), input, strategy == Strategy.FLAT, composition::setBomRef);
+                    compositions.add(composition);
+                }
+            }
+        }
+
+        private void addComponents(final List<Component> list, final Input input, final boolean deduplicate,
+                                   final List<Component> destination) {
+            if (list != null) {
+                for (final Component component : list) {
+                    addComponent(component, input, deduplicate, destination);
+                }
+            }
+        }
+
+        private void addComponent(final Component component, final Input input, final boolean deduplicate,
+                                  final List<Component> destination) {
+            if (component == null) {
+                return;
+            }
+            final List<String> keys = deduplicate ? input.keys.get(component) : Collections.emptyList();
+            for (final String key : keys) {
+                final Component match = componentsByKey.get(key);
+                if (match != null) {
+                    if (component.getBomRef() != null) {
+                        if (match.getBomRef() == null) {
+                            // The kept component takes over the bom-ref the dropped one is referenced by
+                            match.setBomRef(allocate(component.getBomRef(), input, true));
+                        }
+                        input.refs.put(component.getBomRef(), match.getBomRef());
+                    }
+                    addComponents(component.getComponents(), input, true, destination);
+                    return;
+                }
+            }
+            rename(component.getBomRef(), input, strategy == Strategy.FLAT, component::setBomRef);
+            for (final String key : keys) {
+                componentsByKey.putIfAbsent(key, component);
+            }
+            destination.add(component);
+            if (component.getComponents() != null) {
+                final List<Component> children = new ArrayList<>(component.getComponents().size());
+                addComponents(component.getComponents(), input, deduplicate, children);
+                component.setComponents(children);
+            }
+        }
+
+        private void addServices(final List<Service> list, final Input input, final List<Service> destination) {
+            if (list == null) {
+                return;
+            }
+            final boolean deduplicate = strategy == Strategy.FLAT && identities.contains(Identity.BOM_REF);
+            for (final Service service : list) {
+                final Service match = deduplicate && service.getBomRef() != null
+                        ? servicesByRef.get(service.getBomRef()) : null;
+                if (match != null) {
+                    // References to the dropped service are to the kept one, which may have been renamed
+                    input.refs.put(service.getBomRef(), match.getBomRef());
+                    addServices(service.getServices(), input, destination);
+                    continue;
+                }
+                final String ref = service.getBomRef();
+                rename(ref, input, strategy == Strategy.FLAT, service::setBomRef);
+                if (ref != null) {
+                    servicesByRef.putIfAbsent(ref, service);
+                }
+                destination.add(service);
+                if (service.getServices() != null) {
+                    final List<Service> children = new ArrayList<>(service.getServices().size());
+                    addServices(service.getServices(), input, children);
+                    service.setServices(children);
+                }
+            }
+        }
+
+        /**
+         * Allocates a bom-ref that is unique in the merged BOM.
+         * @param ref the bom-ref in the input BOM, or null
+         * @param input the input BOM
+         * @param onCollision whether to keep the bom-ref unless it is already used, or to prefix it anyway
+         * @param setter sets the allocated bom-ref if it differs
+         */
+        private void rename(final String ref, final Input input, final boolean onCollision,
+                            final Consumer<String> setter) {
+            if (ref == null) {
+                return;
+            }
+            final String allocated = allocate(ref, input, onCollision);
+            if (!allocated.equals(ref)) {
+                input.refs.putIfAbsent(ref, allocated);
+                setter.accept(allocated);
+            }
+        }
+
+        /**
+         * Allocates a bom-ref that is unique in the merged BOM and marks it as used.
+         * @param ref the bom-ref in the input BOM
+         * @param input the input BOM
+         * @param onCollision whether to keep the bom-ref unless it is already used, or to prefix it anyway
+         * @return the allocated bom-ref
+         */
+        private String allocate(final String ref, final Input input, final boolean onCollision) {
+            String allocated = onCollision && !usedRefs.contains(ref) ? ref : input.namespace + ":" + ref;
+            for (int i = 2; usedRefs.contains(allocated); i++) {
+                allocated = input.namespace + ":" + ref + "-" + i;
+            }
+            usedRefs.add(allocated);
+            return allocated;
+        }
+    }
+
+    /**
+     * An input BOM, with the bom-refs it had that are rewritten in the merged BOM.
+     */
+    private static final class Input {
+
+        private final Bom bom;
+
+        private final String namespace;
+
+        private final Map<String, String> refs = new HashMap<>();
+
+        private final Map<Component, List<String>> keys = new IdentityHashMap<>();
+
+        private String subjectRef;
+
+        private List<Dependency> dependencies = Collections.emptyList();
+
+        private Input(final Bom bom, final int index) {
+            this.bom = bom;
+            final Component metadataComponent = bom.getMetadata() != null ? bom.getMetadata().getComponent() : null;
+            this.namespace = metadataComponent != null && metadataComponent.getBomRef() != null
+                    ? metadataComponent.getBomRef() : "bom-" + (index + 1);
+        }
+
+        private List<Component> roots() {
+            final List<Component> roots = new ArrayList<>();
+            if (bom.getMetadata() != null && bom.getMetadata().getComponent() != null) {
+                roots.add(bom.getMetadata().getComponent());
+            }
+            if (bom.getComponents() != null) {
+                for (final Component component : bom.getComponents()) {
+                    if (component != null) {
+                        roots.add(component);
+                    }
+                }
+            }
+            return roots;
+        }
+
+        private String map(final String ref) {
+            final String mapped = ref != null ? refs.get(ref) : null;
+            return mapped != null ? mapped : ref;
+        }
+
+        private List<BomReference> map(final List<BomReference> references) {
+            if (references == null) {
+                return null;
+            }
+            final List<BomReference> mapped = new ArrayList<>(references.size());
+            for (final BomReference reference : references) {
+                mapped.add(reference != null ? new BomReference(map(reference.getRef())) : null);
+            }
+            return mapped;
+        }
+
+        /**
+         * Rewrites the references of the input BOM, and flattens its dependencies to one level.
+         */
+        private void rewriteReferences() {
+            if (refs.isEmpty() && bom.getDependencies() == null) {
+                return;
+            }
+            if (bom.getDependencies() != null) {
+                dependencies = new ArrayList<>(bom.getDependencies().size());
+                final Deque<Dependency> pending = new ArrayDeque<>();
+                for (final Dependency root : bom.getDependencies()) {
+                    pending.push(root);
+                    while (!pending.isEmpty()) {
+                        final Dependency dependency = pending.pop();
+                        if (dependency.getRef() == null) {
+                            continue;
+                        }
+                        final Dependency mapped = new Dependency(map(dependency.getRef()));
+                        final List<Dependency> dependsOn = new ArrayList<>();
+                        if (dependency.getDependencies() != null) {
+                            for (final Dependency child : dependency.getDependencies()) {
+                                if (child.getRef() != null) {
+                                    dependsOn.add(new Dependency(map(child.getRef())));
+                                }
+                                if (child.getDependencies() != null && !child.getDependencies().isEmpty()) {
+                                    pending.push(child);
+                                }
+                            }
+                        }
+                        mapped.setDependencies(dependsOn);
+                        dependencies.add(mapped);
+                    }
+                }
+            }
+            if (refs.isEmpty()) {
+                return;
+            }
+            if (bom.getVulnerabilities() != null) {
+                for (final Vulnerability vulnerability : bom.getVulnerabilities()) {
+                    if (vulnerability.getAffects() != null) {
+                        for (final Vulnerability.Affect affect : vulnerability.getAffects()) {
+                            affect.setRef(map(affect.getRef()));
+                        }
+                    }
+                }
+            }
+            if (bom.getCompositions() != null) {
+                for (final Composition composition : bom.getCompositions()) {
+                    composition.setAssemblies(map(composition.getAssemblies()));
+                    composition.setDependencies(map(composition.getDependencies()));
+                    composition.setVulnerabilities(map(composition.getVulnerabilities()));
+                }
+            }
+        }
+    }
+}
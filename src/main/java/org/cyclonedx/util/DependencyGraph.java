@@ -0,0 +1,541 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Dependency;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable view of the dependency graph of a BOM, for answering questions such as what a component
+ * depends on transitively, or which components are affected by a vulnerable one.
+ * <p>
+ * Each bom-ref is interned as an int node id, numbered in the order the bom-refs first occur in the
+ * dependencies. Edges, from a bom-ref to each bom-ref it depends on, are stored in compressed sparse row
+ * arrays in both directions, so that a graph with millions of edges takes a few tens of megabytes, and
+ * traversals do not allocate per edge. Duplicate edges are dropped; the dependencies of a node keep the
+ * order in which they are first declared. Nested dependencies are edges from the enclosing dependency.
+ * <p>
+ * The graph reflects the dependencies when it was compiled and is not updated when the BOM is modified.
+ * Methods taking a bom-ref that is not in the graph return an empty result.
+ * @since 13.2.0
+ */
+public final class DependencyGraph {
+
+    private final String[] refs;
+
+    private final Map<String, Integer> ids;
+
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    private final int[] reverseOffsets;
+
+    private final int[] sources;
+
+    private volatile int[] componentOf;
+
+    private DependencyGraph(final String[] refs, final Map<String, Integer> ids, final int[] offsets,
+                            final int[] targets, final int[] reverseOffsets, final int[] sources) {
+        this.refs = refs;
+        this.ids = ids;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.reverseOffsets = reverseOffsets;
+        this.sources = sources;
+    }
+
+    /**
+     * Compiles the dependency graph of a BOM.
+     * @param bom the BOM
+     * @return the graph, which is empty if the BOM has no dependencies
+     */
+    public static DependencyGraph of(final Bom bom) {
+        return of(bom.getDependencies());
+    }
+
+    /**
+     * Compiles a dependency graph.
+     * @param dependencies the dependencies, possibly nested; may be null
+     * @return the graph
+     */
+    public static DependencyGraph of(final List<Dependency> dependencies) {
+        final Builder builder = new Builder();
+        if (dependencies != null) {
+            final Deque<Dependency> pending = new ArrayDeque<>();
+            for (final Dependency dependency : dependencies) {
+                pending.push(dependency);
+                while (!pending.isEmpty()) {
+                    final Dependency current = pending.pop();
+                    final int source = builder.intern(current.getRef());
+                    final List<Dependency> children = current.getDependencies();
+                    if (children == null) {
+                        continue;
+                    }
+                    for (final Dependency child : children) {
+                        final int target = builder.intern(child.getRef());
+                        if (source >= 0 && target >= 0) {
+                            builder.addEdge(source, target);
+                        }
+                        if (child.getDependencies() != null && !child.getDependencies().isEmpty()) {
+                            pending.push(child);
+                        }
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of nodes, that is of distinct bom-refs.
+     * @return the number of nodes
+     */
+    public int getNodeCount() {
+        return refs.length;
+    }
+
+    /**
+     * Returns the number of distinct edges.
+     * @return the number of edges
+     */
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Returns whether a bom-ref is in the graph, either depending on or depended on by another.
+     * @param ref the bom-ref
+     * @return true if the graph has a node for the bom-ref
+     */
+    public boolean contains(final String ref) {
+        return ref != null && ids.containsKey(ref);
+    }
+
+    /**
+     * Returns the node id of a bom-ref.
+     * @param ref the bom-ref
+     * @return the id, between 0 and {@link #getNodeCount()} excluded, or -1 if the bom-ref is not in the graph
+     */
+    public int getId(final String ref) {
+        final Integer id = ref != null ? ids.get(ref) : null;
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the bom-ref of a node.
+     * @param id the node id
+     * @return the bom-ref
+     * @throws IndexOutOfBoundsException if there is no such node
+     */
+    public String getRef(final int id) {
+        return refs[id];
+    }
+
+    /**
+     * Returns the ids of the nodes a node depends on directly.
+     * @param id the node id
+     * @return a new array of node ids
+     */
+    public int[] getDependencyIds(final int id) {
+        return Arrays.copyOfRange(targets, offsets[id], offsets[id + 1]);
+    }
+
+    /**
+     * Returns the ids of the nodes depending directly on a node.
+     * @param id the node id
+     * @return a new array of node ids
+     */
+    public int[] getDependentIds(final int id) {
+        return Arrays.copyOfRange(sources, reverseOffsets[id], reverseOffsets[id + 1]);
+    }
+
+    /**
+     * Returns the bom-refs a bom-ref depends on directly.
+     * @param ref the bom-ref
+     * @return the bom-refs, in the order they are declared
+     */
+    public List<String> getDependencies(final String ref) {
+        final int id = getId(ref);
+        return id < 0 ? Collections.emptyList() : toRefs(targets, offsets[id], offsets[id + 1]);
+    }
+
+    /**
+     * Returns the bom-refs depending directly on a bom-ref.
+     * @param ref the bom-ref
+     * @return the bom-refs
+     */
+    public List<String> getDependents(final String ref) {
+        final int id = getId(ref);
+        return id < 0 ? Collections.emptyList() : toRefs(sources, reverseOffsets[id], reverseOffsets[id + 1]);
+    }
+
+    /**
+     * Returns the bom-refs a bom-ref depends on directly or indirectly. The bom-ref itself is only included
+     * if it is part of a cycle.
+     * @param ref the bom-ref
+     * @return the bom-refs, in breadth-first order
+     */
+    public Set<String> getTransitiveDependencies(final String ref) {
+        return reachable(ref, offsets, targets);
+    }
+
+    /**
+     * Returns the bom-refs depending directly or indirectly on a bom-ref. The bom-ref itself is only included
+     * if it is part of a cycle.
+     * @param ref the bom-ref
+     * @return the bom-refs, in breadth-first order
+     */
+    public Set<String> getTransitiveDependents(final String ref) {
+        return reachable(ref, reverseOffsets, sources);
+    }
+
+    private Set<String> reachable(final String ref, final int[] rowOffsets, final int[] columns) {
+        final int start = getId(ref);
+        if (start < 0) {
+            return Collections.emptySet();
+        }
+        final boolean[] visited = new boolean[refs.length];
+        final int[] queue = new int[refs.length];
+        int head = 0;
+        int tail = 0;
+        final Set<String> result = new LinkedHashSet<>();
+        for (int node = start; ; node = queue[head++]) {
+            for (int e = rowOffsets[node]; e < rowOffsets[node + 1]; e++) {
+                final int next = columns[e];
+                if (!visited[next]) {
+                    visited[next] = true;
+                    queue[tail++] = next;
+                    result.add(refs[next]);
+                }
+            }
+            if (head == tail) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Returns the shortest chain of dependencies from one bom-ref to another.
+     * @param from the bom-ref to start from
+     * @param to the bom-ref to reach
+     * @return the bom-refs on the path, from {@code from} to {@code to} included, or an empty list if
+     * {@code to} cannot be reached
+     */
+    public List<String> getShortestPath(final String from, final String to) {
+        final int start = getId(from);
+        final int end = getId(to);
+        if (start < 0 || end < 0) {
+            return Collections.emptyList();
+        }
+        if (start == end) {
+            return Collections.singletonList(from);
+        }
+        final int[] previous = new int[refs.length];
+        Arrays.fill(previous, -1);
+        previous[start] = start;
+        final int[] queue = new int[refs.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            final int node = queue[head++];
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                final int next = targets[e];
+                if (previous[next] < 0) {
+                    previous[next] = node;
+                    if (next == end) {
+                        final List<String> path = new ArrayList<>();
+                        for (int n = end; n != start; n = previous[n]) {
+                            path.add(refs[n]);
+                        }
+                        path.add(from);
+                        Collections.reverse(path);
+                        return path;
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the bom-refs ordered so that each comes before the bom-refs it depends on. Reversing the
+     * order gives a build order.
+     * @return all bom-refs of the graph
+     * @throws IllegalStateException if the graph has cycles
+     */
+    public List<String> getTopologicalOrder() {
+        final int[] inDegree = new int[refs.length];
+        for (final int target : targets) {
+            inDegree[target]++;
+        }
+        final int[] order = new int[refs.length];
+        int tail = 0;
+        for (int node = 0; node < refs.length; node++) {
+            if (inDegree[node] == 0) {
+                order[tail++] = node;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            final int node = order[head];
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                if (--inDegree[targets[e]] == 0) {
+                    order[tail++] = targets[e];
+                }
+            }
+        }
+        if (tail < refs.length) {
+            throw new IllegalStateException("The dependency graph has cycles");
+        }
+        return toRefs(order, 0, tail);
+    }
+
+    /**
+     * Returns whether some bom-ref depends on itself, directly or indirectly.
+     * @return true if the graph has cycles
+     */
+    public boolean hasCycles() {
+        return !getCycles().isEmpty();
+    }
+
+    /**
+     * Returns the cycles of the graph, as the strongly connected components of more than one bom-ref or of a
+     * bom-ref depending on itself.
+     * @return the bom-refs of each cyclic component
+     */
+    public List<List<String>> getCycles() {
+        final List<List<String>> cycles = new ArrayList<>();
+        for (final List<String> component : getStronglyConnectedComponents()) {
+            if (component.size() > 1 || dependsOnItself(getId(component.get(0)))) {
+                cycles.add(component);
+            }
+        }
+        return cycles;
+    }
+
+    private boolean dependsOnItself(final int node) {
+        for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+            if (targets[e] == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the strongly connected components of the graph: the largest sets of bom-refs that all depend on
+     * each other. A bom-ref outside of any cycle is a component of its own. The components are ordered so that
+     * each comes after the components it depends on.
+     * @return the bom-refs of each component
+     */
+    public List<List<String>> getStronglyConnectedComponents() {
+        final int[] component = stronglyConnectedComponents();
+        int count = 0;
+        for (final int c : component) {
+            count = Math.max(count, c + 1);
+        }
+        final List<List<String>> components = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            components.add(new ArrayList<>(1));
+        }
+        for (int node = 0; node < component.length; node++) {
+            components.get(component[node]).add(refs[node]);
+        }
+        return components;
+    }
+
+    /**
+     * Assigns each node to its strongly connected component, with an iterative version of Tarjan's
+     * algorithm so that long dependency chains do not overflow the stack. Components are numbered in
+     * the order they are completed, which puts dependencies first.
+     */
+    private int[] stronglyConnectedComponents() {
+        int[] result = componentOf;
+        if (result != null) {
+            return result;
+        }
+        final int n = refs.length;
+        result = new int[n];
+        final int[] index = new int[n];
+        Arrays.fill(index, -1);
+        final int[] low = new int[n];
+        final boolean[] onStack = new boolean[n];
+        final int[] stack = new int[n];
+        final int[] callStack = new int[n];
+        final int[] nextEdge = new int[n];
+        int stackSize = 0;
+        int counter = 0;
+        int components = 0;
+        for (int root = 0; root < n; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            callStack[depth] = root;
+            nextEdge[depth++] = offsets[root];
+            index[root] = low[root] = counter++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            while (depth > 0) {
+                final int node = callStack[depth - 1];
+                if (nextEdge[depth - 1] < offsets[node + 1]) {
+                    final int next = targets[nextEdge[depth - 1]++];
+                    if (index[next] < 0) {
+                        index[next] = low[next] = counter++;
+                        stack[stackSize++] = next;
+                        onStack[next] = true;
+                        callStack[depth] = next;
+                        nextEdge[depth++] = offsets[next];
+                    } else if (onStack[next]) {
+                        low[node] = Math.min(low[node], index[next]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (low[node] == index[node]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        result[member] = components;
+                    } while (member != node);
+                    components++;
+                }
+                if (depth > 0) {
+                    final int parent = callStack[depth - 1];
+                    low[parent] = Math.min(low[parent], low[node]);
+                }
+            }
+        }
+        componentOf = result;
+        return result;
+    }
+
+    private List<String> toRefs(final int[] nodes, final int from, final int to) {
+        final List<String> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(refs[nodes[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Interns the bom-refs and collects the edges, which are then sorted into rows by a counting sort that
+     * keeps the order of each row.
+     */
+    private static final class Builder {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        private final List<String> refs = new ArrayList<>();
+
+        private int[] edgeSources = new int[16];
+
+        private int[] edgeTargets = new int[16];
+
+        private int edgeCount;
+
+        private int intern(final String ref) {
+            if (ref == null) {
+                return -1;
+            }
+            final Integer id = ids.get(ref);
+            if (id != null) {
+                return id;
+            }
+            ids.put(ref, refs.size());
+            refs.add(ref);
+            return refs.size() - 1;
+        }
+
+        private void addEdge(final int source, final int target) {
+            if (edgeCount == edgeSources.length) {
+                edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+                edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+            }
+            edgeSources[edgeCount] = source;
+            edgeTargets[edgeCount++] = target;
+        }
+
+        private DependencyGraph build() {
+            final int n = refs.size();
+            final int[] forward = sortIntoRows(n, edgeSources, edgeTargets, edgeCount);
+            // Drop duplicate edges in place, marking each target with the last row it was seen in
+            final int[] lastSource = new int[n];
+            Arrays.fill(lastSource, -1);
+            final int[] offsets = new int[n + 1];
+            int distinct = 0;
+            for (int node = 0; node < n; node++) {
+                offsets[node] = distinct;
+                for (int e = forward[node]; e < forward[node + 1]; e++) {
+                    final int target = forward[n + 1 + e];
+                    if (lastSource[target] != node) {
+                        lastSource[target] = node;
+                        forward[n + 1 + distinct++] = target;
+                    }
+                }
+            }
+            offsets[n] = distinct;
+            final int[] targets = Arrays.copyOfRange(forward, n + 1, n + 1 + distinct);
+
+            final int[] reverseSources = new int[distinct];
+            for (int node = 0; node < n; node++) {
+                for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                    reverseSources[e] = node;
+                }
+            }
+            final int[] reverse = sortIntoRows(n, targets, reverseSources, distinct);
+            final int[] reverseOffsets = Arrays.copyOf(reverse, n + 1);
+            final int[] sources = Arrays.copyOfRange(reverse, n + 1, n + 1 + distinct);
+            return new DependencyGraph(refs.toArray(new String[0]), ids, offsets, targets, reverseOffsets, sources);
+        }
+
+        /**
+         * Sorts edges by row with a stable counting sort.
+         * @return the row offsets followed by the columns, in a single array
+         */
+        private static int[] sortIntoRows(final int n, final int[] rows, final int[] columns, final int count) {
+            final int[] result = new int[n + 1 + count];
+            for (int e = 0; e < count; e++) {
+                result[rows[e] + 1]++;
+            }
+            for (int node = 0; node < n; node++) {
+                result[node + 1] += result[node];
+            }
+            final int[] position = Arrays.copyOf(result, n);
+            for (int e = 0; e < count; e++) {
+                result[n + 1 + position[rows[e]]++] = columns[e];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * A 128-bit fingerprint of the content of a component or a service, for comparing many of them without
+ * deep comparisons. Two components with the same content have the same fingerprint, and components with
+ * different contents have different fingerprints with overwhelming probability.
+ * <p>
+ * The content is everything that is serialized for the latest CycloneDX version, except the bom-ref, which
+ * identifies the component rather than describes it. The fingerprint of the content of a component alone,
+ * from {@link #of(Component)}, excludes its nested components; the fingerprint of a component tree, from
+ * {@link #ofTree(Component)} or the cached {@link Component#getFingerprint()}, combines it with the
+ * fingerprints of the nested components. Fingerprints are not meant to resist deliberate collisions.
+ * <p>
+ * Fingerprints suit deduplication and change detection, such as keys of a set of distinct components. They
+ * are not a replacement for {@link Component#equals(Object)}, which compares fewer properties.
+ * @since 13.2.0
+ */
+public final class Fingerprint {
+
+    private final long high;
+
+    private final long low;
+
+    private Fingerprint(final long high, final long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Computes the fingerprint of a component, excluding its bom-ref and its nested components.
+     * @param component the component
+     * @return the fingerprint
+     */
+    public static Fingerprint of(final Component component) {
+        return of(Writers.COMPONENT, component);
+    }
+
+    /**
+     * Computes the fingerprint of a service, excluding its bom-ref and its nested services.
+     * @param service the service
+     * @return the fingerprint
+     */
+    public static Fingerprint of(final Service service) {
+        return of(Writers.SERVICE, service);
+    }
+
+    /**
+     * Computes the fingerprint of a component and its nested components, excluding their bom-refs. The
+     * fingerprints of the nested components are those returned by {@link Component#getFingerprint()}, so
+     * they are cached.
+     * @param component the component
+     * @return the fingerprint
+     */
+    public static Fingerprint ofTree(final Component component) {
+        final Fingerprint content = of(component);
+        final List<Component> children = component.getComponents();
+        if (children == null || children.isEmpty()) {
+            return content;
+        }
+        final MessageDigest digest = newDigest();
+        content.update(digest);
+        for (final Component child : children) {
+            updateChild(digest, child != null ? child.getFingerprint() : null);
+        }
+        return of(digest);
+    }
+
+    /**
+     * Computes the fingerprint of a service and its nested services, excluding their bom-refs. The
+     * fingerprints of the nested services are those returned by {@link Service#getFingerprint()}, so they
+     * are cached.
+     * @param service the service
+     * @return the fingerprint
+     */
+    public static Fingerprint ofTree(final Service service) {
+        final Fingerprint content = of(service);
+        final List<Service> children = service.getServices();
+        if (children == null || children.isEmpty()) {
+            return content;
+        }
+        final MessageDigest digest = newDigest();
+        content.update(digest);
+        for (final Service child : children) {
+            updateChild(digest, child != null ? child.getFingerprint() : null);
+        }
+        return of(digest);
+    }
+
+    private static void updateChild(final MessageDigest digest, final Fingerprint child) {
+        if (child == null) {
+            digest.update((byte) 0);
+        } else {
+            digest.update((byte) 1);
+            child.update(digest);
+        }
+    }
+
+    private void update(final MessageDigest digest) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (high >>> shift));
+        }
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (low >>> shift));
+        }
+    }
+
+    /**
+     * Computes the fingerprint of a value as serialized by a writer.
+     * @param writer the writer
+     * @param value the value
+     * @return the fingerprint
+     */
+    static Fingerprint of(final ObjectWriter writer, final Object value) {
+        final MessageDigest digest = newDigest();
+        try {
+            writer.writeValue(new OutputStream() {
+                @Override
+                public void write(final int b) {
+                    digest.update((byte) b);
+                }
+
+                @Override
+                public void write(final byte[] b, final int off, final int len) {
+                    digest.update(b, off, len);
+                }
+            }, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return of(digest);
+    }
+
+    private static Fingerprint of(final MessageDigest digest) {
+        final byte[] bytes = digest.digest();
+        return new Fingerprint(toLong(bytes, 0), toLong(bytes, 8));
+    }
+
+    /**
+     * Returns a mapper writing the content of components and services, which can be configured further to
+     * fingerprint only part of it.
+     * @return a new mapper
+     */
+    static ObjectMapper contentMapper() {
+        final ObjectMapper mapper = BomMapperFactory.getWriteMapper(Version.VERSION_17, Format.JSON).copy();
+        mapper.addMixIn(Component.class, ComponentContent.class);
+        mapper.addMixIn(Service.class, ServiceContent.class);
+        return mapper;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is required to be supported by the platform", e);
+        }
+    }
+
+    private static long toLong(final byte[] bytes, final int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Fingerprint)) {
+            return false;
+        }
+        final Fingerprint that = (Fingerprint) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (low ^ (low >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    @JsonIgnoreProperties({"bom-ref", "components"})
+    private abstract static class ComponentContent {
+    }
+
+    @JsonIgnoreProperties({"bom-ref", "services"})
+    private abstract static class ServiceContent {
+    }
+
+    /**
+     * The writers, created on first use.
+     */
+    private static final class Writers {
+
+        private static final ObjectWriter COMPONENT;
+
+        private static final ObjectWriter SERVICE;
+
+        static {
+            final ObjectMapper mapper = contentMapper();
+            COMPONENT = mapper.writerFor(Component.class);
+            SERVICE = mapper.writerFor(Service.class);
+        }
+    }
+}
@@ -67,6 +67,16 @@ public class ObjectLocator {
 
         // TODO is BOM-Link
 
+        final BomIndex index = this.bom.getIndex();
+        if (index != null) {
+            final BomIndex.Entry entry = index.get(this.bomRef);
+            if (entry != null) {
+                this.isMetadataComponent = entry.isInMetadata();
+                this.object = entry.getObject();
+            }
+            return this;
+        }
+
         if (this.bom.getMetadata() != null && this.bom.getMetadata().getComponent() != null) {
             final Component c = findComponent(Collections.singletonList(this.bom.getMetadata().getComponent()), this.bomRef);
             if (c != null) {
@@ -0,0 +1,779 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import org.cyclonedx.CycloneDxSchema;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts between CycloneDX JSON trees and Protocol Buffers messages described by the bundled
+ * bom-1.x.proto schemas. The protobuf schemas mirror the JSON schemas closely, so the conversion is
+ * driven by the message descriptors: field names are mapped to their JSON counterparts and enum
+ * constants to the JSON enumeration values of the same version, with a handful of structural
+ * differences (dependencies, tools, timestamps) handled explicitly.
+ * <p>
+ * The JSON side is bound to and from the model using the same serializers and deserializers as the
+ * JSON format, so both formats share a single mapping to the {@link org.cyclonedx.model} classes.
+ *
+ * @since 13.2.0
+ */
+public final class ProtobufBomConverter {
+
+    private static final String DESCRIPTOR_SET = "bom.desc";
+
+    /**
+     * Fields whose JSON name is not the camel case form of the protobuf field name, keyed by
+     * message name and field name.
+     */
+    private static final Map<String, String> JSON_NAMES = new HashMap<>();
+
+    /**
+     * Oneof members whose message fields appear directly in the JSON object of the enclosing message.
+     */
+    private static final Set<String> INLINED_FIELDS = new HashSet<>(Arrays.asList(
+            "EnvironmentVars.property", "Asserter.organization", "Asserter.individual", "Datasets.dataset",
+            "LicenseChoice.expression_detailed", "PatentOrFamily.patent", "PatentOrFamily.patent_family",
+            "Extension.commonExtension", "Extension.customExtension"));
+
+    /**
+     * Inlined oneof members whose fields are prefixed with the name of the member in JSON,
+     * e.g. commonExtensionName.
+     */
+    private static final Set<String> PREFIXED_FIELDS = new HashSet<>(Arrays.asList(
+            "Extension.commonExtension", "Extension.customExtension"));
+
+    /**
+     * Fields holding a message with a oneof of messages, where JSON has the chosen message only.
+     */
+    private static final Set<String> INLINED_CHOICE_FIELDS = new HashSet<>(Collections.singletonList(
+            "Patent.patent_assignee"));
+
+    /**
+     * Timestamp fields that are plain dates in JSON.
+     */
+    private static final Set<String> DATE_FIELDS = new HashSet<>(Arrays.asList(
+            "Patent.filing_date", "Patent.grant_date", "Patent.patent_expiration_date",
+            "PriorityApplication.filing_date"));
+
+    /**
+     * Oneof members that are represented in JSON by a bare value instead of an object.
+     */
+    private static final Set<String> SCALAR_FIELDS = new HashSet<>(Arrays.asList(
+            "EnvironmentVars.value", "Asserter.ref"));
+
+    /**
+     * Messages that only wrap a repeated field and are represented in JSON by the array itself.
+     */
+    private static final Set<String> ARRAY_WRAPPERS = new HashSet<>(Arrays.asList(
+            "Pointers", "Expressions", "CertificateExtensions", "RelatedCryptographicAssets"));
+
+    /**
+     * Repeated fields that are represented in JSON by a single object.
+     */
+    private static final Set<String> SINGULAR_FIELDS = new HashSet<>(Arrays.asList(
+            "Bom.declarations", "Bom.definitions", "Component.evidence"));
+
+    /**
+     * Repeated fields that are represented in JSON by a single object up to and including a version.
+     */
+    private static final Map<String, Version> SINGULAR_FIELDS_UNTIL = Collections.singletonMap(
+            "Evidence.identity", Version.VERSION_15);
+
+    /**
+     * Singular fields that are represented in JSON by an array.
+     */
+    private static final Set<String> PLURAL_FIELDS = new HashSet<>(Collections.singletonList(
+            "Metadata.licenses"));
+
+    /**
+     * Enumeration values whose JSON form cannot be derived from the protobuf constant, keyed by the
+     * normalized constant.
+     */
+    private static final Map<String, String> JSON_ENUM_VALUES = new HashMap<>();
+
+    static {
+        JSON_NAMES.put("Hash.value", "content");
+        JSON_NAMES.put("AttachedText.value", "content");
+        JSON_NAMES.put("DataClassification.value", "classification");
+        JSON_NAMES.put("DataFlow.value", "classification");
+        JSON_NAMES.put("GraphicsCollection.graphic", "collection");
+        JSON_NAMES.put("CertificateState.predefined_state", "state");
+        JSON_NAMES.put("ProtocolProperties.cryptoRef", "cryptoRefArray");
+        JSON_NAMES.put("Dependency.dependencies", "dependsOn");
+        JSON_NAMES.put("LicenseExpressionDetailed.details", "expressionDetails");
+        JSON_NAMES.put("ProtocolProperties.ikev2TransformTypesDetailed", "ikev2TransformTypes");
+        JSON_ENUM_VALUES.put("KILOWATTHOURS", "kWh");
+        JSON_ENUM_VALUES.put("TONNESCO2EQUIVALENT", "tCO2eq");
+    }
+
+    private static final Map<Version, ProtobufBomConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+    private static volatile Map<String, Descriptors.FileDescriptor> fileDescriptors;
+
+    private final Version version;
+
+    private final Descriptor bomDescriptor;
+
+    private final Map<String, String> jsonEnumValues;
+
+    private final Map<Descriptor, Map<String, FieldDescriptor>> fieldsByJsonName = new ConcurrentHashMap<>();
+
+    private final Map<EnumDescriptor, Map<String, EnumValueDescriptor>> enumValuesByKey = new ConcurrentHashMap<>();
+
+    private ProtobufBomConverter(final Version version, final Descriptor bomDescriptor) throws IOException {
+        this.version = version;
+        this.bomDescriptor = bomDescriptor;
+        this.jsonEnumValues = loadJsonEnumValues(version);
+    }
+
+    /**
+     * Returns the converter for the specified version of the specification.
+     * @param version the CycloneDX version
+     * @return a ProtobufBomConverter
+     * @throws IOException when the bundled schemas cannot be loaded
+     * @throws IllegalArgumentException if the version does not support the protobuf format
+     */
+    public static ProtobufBomConverter forVersion(final Version version) throws IOException {
+        if (!version.getFormats().contains(Format.PROTOBUF)) {
+            throw new IllegalArgumentException(
+                    "CycloneDX version " + version.getVersionString() + " does not support the " + Format.PROTOBUF + " format");
+        }
+        ProtobufBomConverter converter = CONVERTERS.get(version);
+        if (converter == null) {
+            final Descriptors.FileDescriptor file = getFileDescriptors().get(packageName(version));
+            if (file == null) {
+                throw new IOException("The protobuf schema for CycloneDX " + version.getVersionString() + " is not available");
+            }
+            converter = new ProtobufBomConverter(version, file.findMessageTypeByName("Bom"));
+            final ProtobufBomConverter existing = CONVERTERS.putIfAbsent(version, converter);
+            if (existing != null) {
+                converter = existing;
+            }
+        }
+        return converter;
+    }
+
+    public Version getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the descriptor of the Bom message of this version.
+     * @return a Descriptor
+     */
+    public Descriptor getBomDescriptor() {
+        return bomDescriptor;
+    }
+
+    /**
+     * Converts a CycloneDX JSON tree to a Bom message. Fields unknown to the protobuf schema are ignored.
+     * @param bomJson the CycloneDX BOM as a JSON tree
+     * @return a Bom message
+     */
+    public DynamicMessage toMessage(final JsonNode bomJson) {
+        return toMessage(bomJson, bomDescriptor);
+    }
+
+    /**
+     * Converts a Bom message to a CycloneDX JSON tree.
+     * @param bom the Bom message
+     * @return a JSON tree that can be bound with the JSON deserializers
+     */
+    public ObjectNode toJsonNode(final Message bom) {
+        final ObjectNode node = (ObjectNode) toJson(bom);
+        node.put("bomFormat", "CycloneDX");
+        if (!node.has("specVersion")) {
+            node.put("specVersion", version.getVersionString());
+        }
+        return node;
+    }
+
+    // --- protobuf to JSON ---
+
+    private JsonNode toJson(final Message message) {
+        final JsonNodeFactory factory = JsonNodeFactory.instance;
+        final Descriptor descriptor = message.getDescriptorForType();
+        if (ARRAY_WRAPPERS.contains(descriptor.getName())) {
+            final FieldDescriptor field = descriptor.getFields().get(0);
+            final ArrayNode array = factory.arrayNode();
+            for (final Object item : (Iterable<?>) message.getField(field)) {
+                array.add(toJsonValue(field, item));
+            }
+            return array;
+        }
+        final ObjectNode node = factory.objectNode();
+        for (final FieldDescriptor field : descriptor.getFields()) {
+            if (field.isRepeated()) {
+                if (message.getRepeatedFieldCount(field) == 0) {
+                    continue;
+                }
+            } else if (!message.hasField(field) && !isImplicitEnumValue(field)) {
+                continue;
+            }
+            final String key = key(field);
+            final Object value = message.getField(field);
+            if (SCALAR_FIELDS.contains(key)) {
+                return toJsonValue(field, value);
+            } else if (INLINED_FIELDS.contains(key)) {
+                final ObjectNode inlined = (ObjectNode) toJson((Message) value);
+                if (PREFIXED_FIELDS.contains(key)) {
+                    inlined.properties().forEach(e -> node.set(prefixed(field, e.getKey()), e.getValue()));
+                } else {
+                    node.setAll(inlined);
+                }
+            } else if (isDependsOn(field)) {
+                final ArrayNode refs = node.putArray(jsonName(field));
+                final FieldDescriptor ref = field.getMessageType().findFieldByName("ref");
+                for (final Object dependency : (Iterable<?>) value) {
+                    refs.add((String) ((Message) dependency).getField(ref));
+                }
+            } else if (isToolChoice(field)) {
+                node.set(jsonName(field), toToolsJson((Message) value));
+            } else if (field.isRepeated() && isSingular(key)) {
+                node.set(jsonName(field), toJsonValue(field, message.getRepeatedField(field, 0)));
+            } else if (field.isRepeated()) {
+                final ArrayNode array = node.putArray(jsonName(field));
+                for (final Object item : (Iterable<?>) value) {
+                    array.add(toJsonValue(field, item));
+                }
+            } else if (PLURAL_FIELDS.contains(key)) {
+                node.putArray(jsonName(field)).add(toJsonValue(field, value));
+            } else {
+                node.set(jsonName(field), toJsonValue(field, value));
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Enumerations without presence tracking cannot distinguish their first constant from an unset
+     * value. Unless that constant explicitly denotes "unset", it is a legitimate value (e.g. "other").
+     */
+    private static boolean isImplicitEnumValue(final FieldDescriptor field) {
+        if (field.getJavaType() != FieldDescriptor.JavaType.ENUM || field.hasPresence() || field.isRepeated()) {
+            return false;
+        }
+        final String name = field.getEnumType().getValues().get(0).getName();
+        return !name.endsWith("_NULL") && !name.endsWith("_UNSPECIFIED");
+    }
+
+    private JsonNode toJsonValue(final FieldDescriptor field, final Object value) {
+        final JsonNodeFactory factory = JsonNodeFactory.instance;
+        switch (field.getJavaType()) {
+            case MESSAGE:
+                if (isTimestamp(field)) {
+                    final Message timestamp = (Message) value;
+                    final Descriptor type = timestamp.getDescriptorForType();
+                    final Instant instant = Instant.ofEpochSecond(
+                            (Long) timestamp.getField(type.findFieldByName("seconds")),
+                            (Integer) timestamp.getField(type.findFieldByName("nanos")));
+                    return factory.textNode(DATE_FIELDS.contains(key(field))
+                            ? instant.atOffset(ZoneOffset.UTC).toLocalDate().toString()
+                            : instant.toString());
+                }
+                if (INLINED_CHOICE_FIELDS.contains(key(field))) {
+                    for (final Map.Entry<FieldDescriptor, Object> choice : ((Message) value).getAllFields().entrySet()) {
+                        return toJsonValue(choice.getKey(), choice.getValue());
+                    }
+                }
+                return toJson((Message) value);
+            case ENUM:
+                return factory.textNode(toJsonEnumValue((EnumValueDescriptor) value));
+            case STRING:
+                return factory.textNode((String) value);
+            case BOOLEAN:
+                return factory.booleanNode((Boolean) value);
+            case INT:
+                return factory.numberNode((Integer) value);
+            case LONG:
+                return factory.numberNode((Long) value);
+            case FLOAT:
+                // Widen via the shortest decimal representation, so that e.g. 0.1f is not written as 0.10000000149011612
+                return factory.numberNode(Double.parseDouble(value.toString()));
+            case DOUBLE:
+                return factory.numberNode((Double) value);
+            default:
+                return factory.binaryNode(((ByteString) value).toByteArray());
+        }
+    }
+
+    /**
+     * From 1.5 onwards a single Tool message carries either the legacy tool fields, which map to the
+     * legacy array of tools, or the components and services of the newer tools object.
+     */
+    private JsonNode toToolsJson(final Message tools) {
+        final ObjectNode node = (ObjectNode) toJson(tools);
+        if (node.has("components") || node.has("services")) {
+            final ObjectNode choice = JsonNodeFactory.instance.objectNode();
+            if (node.has("components")) {
+                choice.set("components", node.get("components"));
+            }
+            if (node.has("services")) {
+                choice.set("services", node.get("services"));
+            }
+            return choice;
+        }
+        return JsonNodeFactory.instance.arrayNode().add(node);
+    }
+
+    private String toJsonEnumValue(final EnumValueDescriptor value) {
+        final String key = normalize(value.getName().substring(enumPrefix(value.getType()).length()));
+        String jsonValue = JSON_ENUM_VALUES.get(key);
+        if (jsonValue == null) {
+            jsonValue = jsonEnumValues.get(key);
+        }
+        return jsonValue != null ? jsonValue : value.getName().substring(enumPrefix(value.getType()).length())
+                .toLowerCase().replace('_', '-');
+    }
+
+    // --- JSON to protobuf ---
+
+    private DynamicMessage toMessage(final JsonNode node, final Descriptor descriptor) {
+        final DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+        if (ARRAY_WRAPPERS.contains(descriptor.getName())) {
+            addAll(builder, descriptor.getFields().get(0), node);
+            return builder.build();
+        }
+        if (!node.isObject()) {
+            for (final FieldDescriptor field : descriptor.getFields()) {
+                if (SCALAR_FIELDS.contains(key(field))) {
+                    set(builder, field, node);
+                    break;
+                }
+            }
+            return builder.build();
+        }
+
+        final Map<String, FieldDescriptor> fields = getFieldsByJsonName(descriptor);
+        Map<String, FieldDescriptor> inlinedFields = Collections.emptyMap();
+        final FieldDescriptor inlined = selectInlinedField(descriptor, node, fields);
+        if (inlined != null) {
+            if (PREFIXED_FIELDS.contains(key(inlined))) {
+                final ObjectNode unprefixed = JsonNodeFactory.instance.objectNode();
+                for (final String name : getFieldsByJsonName(inlined.getMessageType()).keySet()) {
+                    final JsonNode value = node.get(prefixed(inlined, name));
+                    if (value != null) {
+                        unprefixed.set(name, value);
+                    }
+                }
+                builder.setField(inlined, toMessage(unprefixed, inlined.getMessageType()));
+            } else {
+                builder.setField(inlined, toMessage(node, inlined.getMessageType()));
+                inlinedFields = getFieldsByJsonName(inlined.getMessageType());
+            }
+        }
+
+        for (final Map.Entry<String, JsonNode> entry : node.properties()) {
+            final JsonNode value = entry.getValue();
+            FieldDescriptor field = fields.get(entry.getKey());
+            if (field == null || value.isNull() || inlinedFields.containsKey(entry.getKey())) {
+                continue;
+            }
+            if (isLegacyIkev2TransformTypes(field) && containsObject(value)) {
+                field = descriptor.findFieldByName("ikev2TransformTypesDetailed");
+            }
+            if (isDependsOn(field)) {
+                final FieldDescriptor ref = field.getMessageType().findFieldByName("ref");
+                for (final JsonNode dependency : value) {
+                    builder.addRepeatedField(field,
+                            DynamicMessage.newBuilder(field.getMessageType()).setField(ref, dependency.asText()).build());
+                }
+            } else if (isToolChoice(field)) {
+                // Only a single legacy tool fits into the Tool message
+                final JsonNode tools = value.isArray() ? value.get(0) : value;
+                if (tools != null) {
+                    builder.setField(field, toMessage(tools, field.getMessageType()));
+                }
+            } else if (field.isRepeated()) {
+                addAll(builder, field, value);
+            } else if (value.isArray() && !isArrayWrapper(field)) {
+                // Singular fields that are arrays in JSON keep their first element
+                set(builder, field, value.get(0));
+            } else {
+                set(builder, field, value);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Selects the inlined oneof member that a JSON object represents, if its keys are not all
+     * fields of the message itself.
+     */
+    private FieldDescriptor selectInlinedField(final Descriptor descriptor, final JsonNode node,
+                                               final Map<String, FieldDescriptor> fields)
+    {
+        boolean hasUnknownKeys = false;
+        final Iterator<String> names = node.fieldNames();
+        while (names.hasNext() && !hasUnknownKeys) {
+            hasUnknownKeys = !fields.containsKey(names.next());
+        }
+        if (!hasUnknownKeys) {
+            return null;
+        }
+        final List<FieldDescriptor> candidates = new ArrayList<>();
+        for (final FieldDescriptor field : descriptor.getFields()) {
+            if (INLINED_FIELDS.contains(key(field))) {
+                candidates.add(field);
+            }
+        }
+        return selectBestMatch(candidates, node);
+    }
+
+    /**
+     * Selects the message field whose (possibly prefixed) JSON field names match most keys of the JSON object.
+     */
+    private FieldDescriptor selectBestMatch(final List<FieldDescriptor> candidates, final JsonNode node) {
+        FieldDescriptor selected = null;
+        int selectedMatches = 0;
+        for (final FieldDescriptor field : candidates) {
+            if (field.getJavaType() != FieldDescriptor.JavaType.MESSAGE) {
+                continue;
+            }
+            int matches = 0;
+            for (final String name : getFieldsByJsonName(field.getMessageType()).keySet()) {
+                if (node.has(PREFIXED_FIELDS.contains(key(field)) ? prefixed(field, name) : name)) {
+                    matches++;
+                }
+            }
+            if (matches > selectedMatches) {
+                selected = field;
+                selectedMatches = matches;
+            }
+        }
+        return selected;
+    }
+
+    private void addAll(final DynamicMessage.Builder builder, final FieldDescriptor field, final JsonNode value) {
+        if (value == null || value.isNull()) {
+            return;
+        }
+        if (!value.isArray()) {
+            // Repeated fields that are single objects in JSON
+            final Object converted = toFieldValue(field, value);
+            if (converted != null) {
+                builder.addRepeatedField(field, converted);
+            }
+            return;
+        }
+        for (final JsonNode item : value) {
+            final Object converted = item.isNull() ? null : toFieldValue(field, item);
+            if (converted != null) {
+                builder.addRepeatedField(field, converted);
+            }
+        }
+    }
+
+    private void set(final DynamicMessage.Builder builder, final FieldDescriptor field, final JsonNode value) {
+        final Object converted = value == null || value.isNull() ? null : toFieldValue(field, value);
+        if (converted != null) {
+            builder.setField(field, converted);
+        }
+    }
+
+    private Object toFieldValue(final FieldDescriptor field, final JsonNode value) {
+        switch (field.getJavaType()) {
+            case MESSAGE:
+                if (isTimestamp(field)) {
+                    final Instant instant = parseInstant(value.asText());
+                    if (instant == null) {
+                        return null;
+                    }
+                    final Descriptor type = field.getMessageType();
+                    return DynamicMessage.newBuilder(type)
+                            .setField(type.findFieldByName("seconds"), instant.getEpochSecond())
+                            .setField(type.findFieldByName("nanos"), instant.getNano())
+                            .build();
+                }
+                if (INLINED_CHOICE_FIELDS.contains(key(field))) {
+                    final FieldDescriptor choice = selectBestMatch(field.getMessageType().getFields(), value);
+                    final DynamicMessage.Builder builder = DynamicMessage.newBuilder(field.getMessageType());
+                    if (choice != null) {
+                        builder.setField(choice, toMessage(value, choice.getMessageType()));
+                    }
+                    return builder.build();
+                }
+                return toMessage(value, field.getMessageType());
+            case ENUM:
+                return getEnumValuesByKey(field.getEnumType()).get(normalize(value.asText()));
+            case STRING:
+                return value.isValueNode() ? value.asText() : value.toString();
+            case BOOLEAN:
+                return value.asBoolean();
+            case INT:
+                return value.asInt();
+            case LONG:
+                return value.asLong();
+            case FLOAT:
+                return (float) value.asDouble();
+            case DOUBLE:
+                return value.asDouble();
+            default:
+                return value.isTextual() ? ByteString.copyFrom(Base64.getDecoder().decode(value.asText())) : null;
+        }
+    }
+
+    private static Instant parseInstant(final String text) {
+        try {
+            return OffsetDateTime.parse(text).toInstant();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDate.parse(text).atStartOfDay().toInstant(ZoneOffset.UTC);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private Map<String, FieldDescriptor> getFieldsByJsonName(final Descriptor descriptor) {
+        return fieldsByJsonName.computeIfAbsent(descriptor, d -> {
+            final Map<String, FieldDescriptor> fields = new HashMap<>();
+            for (final FieldDescriptor field : d.getFields()) {
+                final String key = key(field);
+                if (!INLINED_FIELDS.contains(key) && !SCALAR_FIELDS.contains(key)) {
+                    fields.putIfAbsent(jsonName(field), field);
+                }
+            }
+            return fields;
+        });
+    }
+
+    private Map<String, EnumValueDescriptor> getEnumValuesByKey(final EnumDescriptor type) {
+        return enumValuesByKey.computeIfAbsent(type, t -> {
+            final String prefix = enumPrefix(t);
+            final Map<String, EnumValueDescriptor> values = new HashMap<>();
+            for (final EnumValueDescriptor value : t.getValues()) {
+                final String key = normalize(value.getName().substring(prefix.length()));
+                values.put(key, value);
+                final String alias = JSON_ENUM_VALUES.get(key);
+                if (alias != null) {
+                    values.put(normalize(alias), value);
+                }
+            }
+            return values;
+        });
+    }
+
+    private static boolean containsObject(final JsonNode node) {
+        for (final JsonNode child : node) {
+            if (child.isObject() || (child.isArray() && containsObject(child))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- naming ---
+
+    private static String key(final FieldDescriptor field) {
+        return field.getContainingType().getName() + "." + field.getName();
+    }
+
+    private static String jsonName(final FieldDescriptor field) {
+        final String jsonName = JSON_NAMES.get(key(field));
+        if (jsonName != null) {
+            return jsonName;
+        }
+        final String name = field.getName();
+        if ("bom_ref".equals(name)) {
+            return "bom-ref";
+        }
+        if (name.startsWith("x_")) {
+            return name.replace('_', '-');
+        }
+        return field.getJsonName();
+    }
+
+    private static String prefixed(final FieldDescriptor field, final String name) {
+        return jsonName(field) + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static boolean isArrayWrapper(final FieldDescriptor field) {
+        return field.getJavaType() == FieldDescriptor.JavaType.MESSAGE
+                && ARRAY_WRAPPERS.contains(field.getMessageType().getName());
+    }
+
+    private static boolean isDependsOn(final FieldDescriptor field) {
+        return "Dependency.dependencies".equals(key(field));
+    }
+
+    private boolean isSingular(final String key) {
+        final Version until = SINGULAR_FIELDS_UNTIL.get(key);
+        return SINGULAR_FIELDS.contains(key) || until != null && version.getVersion() <= until.getVersion();
+    }
+
+    /**
+     * Whether the field is a singular Tool, which stands for either the legacy array of tools or the
+     * newer object of tool components and services.
+     */
+    private static boolean isToolChoice(final FieldDescriptor field) {
+        return "tools".equals(field.getName()) && !field.isRepeated()
+                && field.getJavaType() == FieldDescriptor.JavaType.MESSAGE
+                && "Tool".equals(field.getMessageType().getName());
+    }
+
+    /**
+     * The deprecated ikev2TransformTypes of 1.7 only holds names; the detailed variant shares its JSON name.
+     */
+    private static boolean isLegacyIkev2TransformTypes(final FieldDescriptor field) {
+        return "ProtocolProperties.ikev2TransformTypes".equals(key(field))
+                && field.getContainingType().findFieldByName("ikev2TransformTypesDetailed") != null;
+    }
+
+    private static boolean isTimestamp(final FieldDescriptor field) {
+        return Timestamp.getDescriptor().getFullName().equals(field.getMessageType().getFullName());
+    }
+
+    /**
+     * Protobuf enum constants are prefixed with the (upper snake case) name of their enumeration,
+     * e.g. HASH_ALG_SHA_256. The prefix is the longest one shared by all constants.
+     */
+    private static String enumPrefix(final EnumDescriptor type) {
+        final List<EnumValueDescriptor> values = type.getValues();
+        String prefix = values.get(0).getName();
+        for (final EnumValueDescriptor value : values) {
+            while (!value.getName().startsWith(prefix)) {
+                prefix = prefix.substring(0, prefix.length() - 1);
+            }
+        }
+        return prefix.substring(0, prefix.lastIndexOf('_') + 1);
+    }
+
+    /**
+     * Reduces an enumeration value to its letters and digits, so that e.g. the JSON value SHA3-256 and
+     * the protobuf constant HASH_ALG_SHA_3_256 (without its prefix) compare equal.
+     */
+    private static String normalize(final String value) {
+        final StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toUpperCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String packageName(final Version version) {
+        return "cyclonedx.v" + version.getVersionString().replace('.', '_');
+    }
+
+    // --- schema loading ---
+
+    private static Map<String, Descriptors.FileDescriptor> getFileDescriptors() throws IOException {
+        Map<String, Descriptors.FileDescriptor> result = fileDescriptors;
+        if (result == null) {
+            synchronized (ProtobufBomConverter.class) {
+                result = fileDescriptors;
+                if (result == null) {
+                    result = loadFileDescriptors();
+                    fileDescriptors = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Descriptors.FileDescriptor> loadFileDescriptors() throws IOException {
+        final DescriptorProtos.FileDescriptorSet set;
+        try (InputStream in = ProtobufBomConverter.class.getClassLoader().getResourceAsStream(DESCRIPTOR_SET)) {
+            if (in == null) {
+                throw new IOException("The protobuf descriptor set " + DESCRIPTOR_SET + " is not available");
+            }
+            set = DescriptorProtos.FileDescriptorSet.parseFrom(in);
+        }
+        final Descriptors.FileDescriptor[] dependencies = { Timestamp.getDescriptor().getFile() };
+        final Map<String, Descriptors.FileDescriptor> result = new HashMap<>();
+        for (final DescriptorProtos.FileDescriptorProto proto : set.getFileList()) {
+            try {
+                final Descriptors.FileDescriptor file = Descriptors.FileDescriptor.buildFrom(proto, dependencies);
+                result.put(file.getPackage(), file);
+            } catch (Descriptors.DescriptorValidationException e) {
+                throw new IOException("Invalid protobuf schema " + proto.getName(), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collects the values of all enumerations declared in the JSON schema of the version, keyed by
+     * their normalized form.
+     */
+    private static Map<String, String> loadJsonEnumValues(final Version version) throws IOException {
+        final Map<String, String> values = new HashMap<>();
+        final String resource = "bom-" + version.getVersionString() + ".schema.json";
+        try (InputStream in = CycloneDxSchema.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in != null) {
+                collectEnumValues(new ObjectMapper().readTree(in), values);
+            }
+        }
+        return values;
+    }
+
+    private static void collectEnumValues(final JsonNode node, final Map<String, String> values) {
+        if (node.isObject()) {
+            final JsonNode enumNode = node.get("enum");
+            if (enumNode != null && enumNode.isArray()) {
+                for (final JsonNode value : enumNode) {
+                    if (value.isTextual()) {
+                        values.putIfAbsent(normalize(value.asText()), value.asText());
+                    }
+                }
+            }
+        }
+        for (final JsonNode child : node) {
+            collectEnumValues(child, values);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded pool of canonical strings. Parsers given a pool through
+ * {@link org.cyclonedx.parsers.ParseOptions} replace every string value they bind with the pooled instance
+ * of an equal string, so that values recurring across a BOM, such as license ids, hash algorithms, property
+ * names and supplier names, are retained only once.
+ * <p>
+ * The pool stops growing once it holds its maximum number of entries; strings not yet pooled are then
+ * returned as they are. Strings longer than the maximum length are never pooled, as long values are
+ * rarely repeated. A pool is thread-safe and may be shared by parsers to deduplicate strings across BOMs.
+ * @since 13.2.0
+ */
+public final class StringPool
+{
+    /**
+     * The default maximum number of strings in a pool.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 65536;
+
+    /**
+     * The default maximum length of pooled strings.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 256;
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    private final int maxEntries;
+
+    private final int maxLength;
+
+    /**
+     * Constructs a pool with the default limits.
+     */
+    public StringPool() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructs a pool.
+     * @param maxEntries the maximum number of strings held by the pool
+     * @param maxLength the maximum length of pooled strings
+     */
+    public StringPool(final int maxEntries, final int maxLength) {
+        if (maxEntries < 0 || maxLength < 0) {
+            throw new IllegalArgumentException("The limits of a string pool must not be negative");
+        }
+        this.maxEntries = maxEntries;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the canonical instance of a string, adding it to the pool if there is room.
+     * @param value the string
+     * @return the pooled string equal to the value, or the value itself
+     */
+    public String canonicalize(final String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        final String pooled = strings.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (strings.size() >= maxEntries) {
+            return value;
+        }
+        final String previous = strings.putIfAbsent(value, value);
+        return previous != null ? previous : value;
+    }
+
+    /**
+     * Returns the number of strings in the pool.
+     * @return the number of pooled strings
+     */
+    public int size() {
+        return strings.size();
+    }
+}
@@ -48,7 +48,8 @@ public class ComponentWrapperDeserializer extends JsonDeserializer<ComponentWrap
       throws IOException
   {
     final String location = parser.getCurrentName();
-    if (parser instanceof FromXmlParser) {
+    // an empty XML element is read as an empty wrapper below
+    if (parser instanceof FromXmlParser && parser.currentToken() == JsonToken.START_OBJECT) {
       switch (location) {
         case ANCESTORS:
           return parser.readValueAs(Ancestors.class);
@@ -1,8 +1,17 @@
 package org.cyclonedx.util.deserializer;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.cyclonedx.util.StringPool;
 
 public class DeserializerUtils
 {
@@ -14,4 +23,158 @@ public class DeserializerUtils
       return nodes.isArray() ? (ArrayNode) nodes : new ArrayNode(null).add(nodes);
     }
   }
+
+  /**
+   * Reads a single item of a collection. The parser is positioned on the first token of the item, which
+   * is the first field name when the item is an object whose start has already been consumed. The item
+   * must be consumed entirely.
+   *
+   * @param <T> the item type
+   * @since 13.2.0
+   */
+  public interface ItemReader<T>
+  {
+    T read(JsonParser parser) throws IOException;
+  }
+
+  /**
+   * Reads the items of a collection directly from the token stream, without buffering it as a tree.
+   * A JSON collection is an array. An XML collection is a wrapper element whose children are named after
+   * the item; they are reported as repeated fields, or as an array when read from a tree. An object whose
+   * first field is not the item name is read as a collection of one.
+   *
+   * @param parser the parser, positioned on the first token of the collection
+   * @param itemName the name of the items in XML
+   * @param reader reads each item
+   * @param <T> the item type
+   * @return the items, or null if the collection is a scalar such as an empty XML element
+   * @throws IOException if the items cannot be read
+   * @since 13.2.0
+   */
+  public static <T> List<T> readItems(final JsonParser parser, final String itemName, final ItemReader<T> reader)
+      throws IOException
+  {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_ARRAY) {
+      return readArray(parser, reader, new ArrayList<>());
+    }
+    if (token == JsonToken.START_OBJECT) {
+      token = parser.nextToken();
+    }
+    if (token == JsonToken.END_OBJECT) {
+      return new ArrayList<>();
+    }
+    if (token != JsonToken.FIELD_NAME) {
+      return null;
+    }
+
+    final List<T> items = new ArrayList<>();
+    if (!itemName.equals(parser.currentName())) {
+      items.add(reader.read(parser));
+      return items;
+    }
+    for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      final String name = parser.currentName();
+      final JsonToken value = parser.nextToken();
+      if (!itemName.equals(name)) {
+        parser.skipChildren();
+      } else if (value == JsonToken.START_ARRAY) {
+        readArray(parser, reader, items);
+      } else {
+        items.add(reader.read(parser));
+      }
+    }
+    return items;
+  }
+
+  private static <T> List<T> readArray(final JsonParser parser, final ItemReader<T> reader, final List<T> items)
+      throws IOException
+  {
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      items.add(reader.read(parser));
+    }
+    return items;
+  }
+
+  /**
+   * Returns the first field of the current object, consuming its start token if the parser is positioned
+   * on it. Objects are read with {@code for (JsonToken t = firstField(p); t == FIELD_NAME; t = p.nextToken())},
+   * consuming each value, which leaves the parser on the end of the object.
+   *
+   * @param parser the parser
+   * @return the current token after the start of the object
+   * @throws IOException if the next token cannot be read
+   * @since 13.2.0
+   */
+  public static JsonToken firstField(final JsonParser parser) throws IOException {
+    return parser.currentToken() == JsonToken.START_OBJECT ? parser.nextToken() : parser.currentToken();
+  }
+
+  /**
+   * Reads the current value as text, the same way as {@link JsonNode#asText()} does for the equivalent tree.
+   * Objects and arrays are skipped and read as an empty string.
+   *
+   * @param parser the parser, positioned on the value
+   * @return the text of the value
+   * @throws IOException if the value cannot be read
+   * @since 13.2.0
+   */
+  public static String asText(final JsonParser parser) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return "null";
+    }
+    if (token != null && token.isScalarValue()) {
+      return parser.getText();
+    }
+    parser.skipChildren();
+    return "";
+  }
+
+  /**
+   * Reads the current value as text if it is a string, the same way as {@link JsonNode#textValue()} does
+   * for the equivalent tree. Other values are skipped and read as null.
+   *
+   * @param parser the parser, positioned on the value
+   * @return the string, or null if the value is not a string
+   * @throws IOException if the value cannot be read
+   * @since 13.2.0
+   */
+  public static String textValue(final JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_STRING) {
+      return parser.getText();
+    }
+    parser.skipChildren();
+    return null;
+  }
+
+  /**
+   * Skips the remainder of a value after reading it failed part way, so that the parser can be used for
+   * the values that follow.
+   *
+   * @param parser the parser
+   * @param parent the parsing context enclosing the value, which is the parent of
+   *               {@link JsonParser#getParsingContext()} while positioned on the start token of the value
+   * @throws IOException if the remaining tokens cannot be read
+   * @since 13.2.0
+   */
+  public static void skipToEndOf(final JsonParser parser, final JsonStreamContext parent) throws IOException {
+    while (parser.getParsingContext() != parent && parser.nextToken() != null) {
+      // skip
+    }
+  }
+
+  /**
+   * Returns the canonical instance of a string if the deserialization has a {@link StringPool} set as its
+   * {@code StringPool.class} attribute.
+   *
+   * @param ctxt the deserialization context
+   * @param value the string
+   * @return the pooled string equal to the value, or the value itself
+   * @since 13.2.0
+   */
+  public static String canonicalize(final DeserializationContext ctxt, final String value) {
+    final Object pool = ctxt.getAttribute(StringPool.class);
+    return pool != null ? ((StringPool) pool).canonicalize(value) : value;
+  }
 }
@@ -19,9 +19,8 @@
 package org.cyclonedx.util.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import org.cyclonedx.model.ExtensibleType;
@@ -40,7 +39,6 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class ExtensionDeserializer extends StdDeserializer<Extension>
@@ -62,182 +60,194 @@ public class ExtensionDeserializer extends StdDeserializer<Extension>
         return processVulnerabilities(p);
       }
     }
+    // Unsupported extension, skipped and not deserialized
+    p.skipChildren();
     return null;
   }
 
   private Extension processVulnerabilities(final JsonParser parser) throws IOException {
-    TreeNode treeNode =  parser.readValueAsTree();
-    JsonNode vulnerabilityNode = (JsonNode) treeNode.get(Vulnerability10.NAME);
-    List<ExtensibleType> extensibleTypes = new ArrayList<>();
-    if (vulnerabilityNode != null) {
-      if (vulnerabilityNode.isArray() && !vulnerabilityNode.isEmpty()) {
-        for (JsonNode jn : vulnerabilityNode) {
-          Vulnerability10 vulnerability = processVulnerability(jn);
-          extensibleTypes.add(vulnerability);
-        }
-      } else {
-        Vulnerability10 vuln = processVulnerability(vulnerabilityNode);
-        extensibleTypes.add(vuln);
-      }
-    }
+    List<ExtensibleType> extensibleTypes = new ArrayList<>(readChildren(parser, Vulnerability10.NAME, this::processVulnerability));
     if (!extensibleTypes.isEmpty()) {
       return createAndReturnExtension(ExtensionType.VULNERABILITIES, extensibleTypes);
     }
     return null;
   }
 
-  private Vulnerability10 processVulnerability(final JsonNode vulnJson) {
+  private Vulnerability10 processVulnerability(final JsonParser parser) throws IOException {
     Vulnerability10 vuln = new Vulnerability10();
-    for (Iterator<String> it = vulnJson.fieldNames(); it.hasNext(); ) {
-      String field = it.next();
+    for (JsonToken token = DeserializerUtils.firstField(parser); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      parser.nextToken();
       switch (field) {
         case Vulnerability10.REF:
-          vuln.setRef(vulnJson.get(field).textValue());
+          vuln.setRef(DeserializerUtils.textValue(parser));
           break;
         case Vulnerability10.ID:
-          vuln.setId(vulnJson.get(field).textValue());
+          vuln.setId(DeserializerUtils.textValue(parser));
           break;
         case Vulnerability10.SOURCE:
-          vuln.setSource(processSource(vulnJson.get(field)));
+          vuln.setSource(processSource(parser));
           break;
         case Vulnerability10.RATINGS:
-          vuln.setRatings(processRatings(vulnJson.get(field)));
+          vuln.setRatings(nullIfEmpty(readChildren(parser, Vulnerability10.RATING, this::processRating)));
           break;
         case Vulnerability10.CWES:
-          vuln.setCwes(processCwes(vulnJson.get(field)));
+          vuln.setCwes(nullIfEmpty(readChildren(parser, Vulnerability10.CWE, this::processCwe)));
           break;
         case Vulnerability10.DESCRIPTION:
-          vuln.setDescription(vulnJson.get(field).textValue());
+          vuln.setDescription(DeserializerUtils.textValue(parser));
           break;
         case Vulnerability10.RECOMMENDATIONS:
-          vuln.setRecommendations(processRecommendations(vulnJson.get(field)));
+          vuln.setRecommendations(nullIfEmpty(
+              readChildren(parser, Vulnerability10.RECOMMENDATION, this::processRecommendation)));
           break;
         case Vulnerability10.ADVISORIES:
-          vuln.setAdvisories(processAdvisories(vulnJson.get(field)));
+          vuln.setAdvisories(nullIfEmpty(readChildren(parser, Vulnerability10.ADVISORY, this::processAdvisory)));
           break;
         default:
           // Unsupported field, skipped and not deserialized
+          parser.skipChildren();
           break;
       }
     }
     return vuln;
   }
 
-  private List<Advisory> processAdvisories(final JsonNode advisories) {
-    List<Advisory> advisoryList = new ArrayList<>();
-    JsonNode adv = advisories.get(Vulnerability10.ADVISORY);
-    if (adv != null) {
-      if (adv.isArray() && !adv.isEmpty()) {
-        for (JsonNode a : adv) {
-          advisoryList.add(processAdvisory(a));
+  /**
+   * Reads the child elements with the given name, which are reported as repeated fields of the current
+   * object. Other children are skipped.
+   */
+  private <T> List<T> readChildren(final JsonParser parser, final String name, final DeserializerUtils.ItemReader<T> reader)
+      throws IOException
+  {
+    List<T> children = new ArrayList<>();
+    if (parser.currentToken() == JsonToken.START_ARRAY) {
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        children.addAll(readChildren(parser, name, reader));
+      }
+      return children;
+    }
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return children;
+    }
+    for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      JsonToken value = parser.nextToken();
+      if (!name.equals(parser.currentName())) {
+        parser.skipChildren();
+      } else if (value == JsonToken.START_ARRAY) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          children.add(reader.read(parser));
         }
       } else {
-        advisoryList.add(processAdvisory(adv));
+        children.add(reader.read(parser));
       }
     }
-    return advisoryList.isEmpty() ? null : advisoryList;
+    return children;
   }
 
-  private Advisory processAdvisory(final JsonNode advisory) {
-    Advisory adv = new Advisory();
-    adv.setText(advisory.textValue());
-    return adv;
+  private static <T> List<T> nullIfEmpty(final List<T> list) {
+    return list.isEmpty() ? null : list;
   }
 
-  private List<Recommendation> processRecommendations(final JsonNode recommendations) {
-    List<Recommendation> recommendationsList = new ArrayList<>();
-    JsonNode rec = recommendations.get(Vulnerability10.RECOMMENDATION);
-    if (rec != null) {
-      if (rec.isArray() && !rec.isEmpty()) {
-        for (JsonNode r : rec) {
-          recommendationsList.add(processRecommendation(r));
-        }
-      } else {
-        recommendationsList.add(processRecommendation(rec));
-      }
-    }
-    return recommendationsList.isEmpty() ? null : recommendationsList;
+  private Advisory processAdvisory(final JsonParser parser) throws IOException {
+    Advisory adv = new Advisory();
+    adv.setText(DeserializerUtils.textValue(parser));
+    return adv;
   }
 
-  private Recommendation processRecommendation(final JsonNode recommendation) {
+  private Recommendation processRecommendation(final JsonParser parser) throws IOException {
     Recommendation rec = new Recommendation();
-    rec.setText(recommendation.textValue());
+    rec.setText(DeserializerUtils.textValue(parser));
     return rec;
   }
 
-  private List<Cwe> processCwes(final JsonNode cwes) {
-    List<Cwe> cweList = new ArrayList<>();
-    JsonNode cwe = cwes.get(Vulnerability10.CWE);
-    if (cwe != null) {
-      if (cwe.isArray() && !cwe.isEmpty()) {
-        for (JsonNode c : cwe) {
-          cweList.add(processCwe(c));
-        }
-      } else {
-        cweList.add(processCwe(cwe));
-      }
-    }
-    return cweList.isEmpty() ? null : cweList;
-  }
-
-  private Cwe processCwe(final JsonNode cwe) {
+  private Cwe processCwe(final JsonParser parser) throws IOException {
     Cwe c = new Cwe();
     try {
-      c.setText(Integer.valueOf(cwe.textValue()));
+      c.setText(Integer.valueOf(DeserializerUtils.textValue(parser)));
     } catch (NumberFormatException e) {
       // Not a CWE ID; leave unset.
     }
     return c;
   }
 
-  private Vulnerability10.Source processSource(final JsonNode sourceNode) {
+  private Vulnerability10.Source processSource(final JsonParser parser) throws IOException {
     Vulnerability10.Source source = new Vulnerability10.Source();
-    source.setName(getAsString("name", sourceNode));
-    if (sourceNode.get(Vulnerability10.URL) != null) {
-      try {
-        source.setUrl(new URL(sourceNode.get(Vulnerability10.URL).textValue()));
-      }
-      catch (MalformedURLException e) {
-        // Should we throw an exception? Is this worth stopping things over?
-        e.printStackTrace();
+    for (JsonToken token = DeserializerUtils.firstField(parser); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      parser.nextToken();
+      if (Vulnerability10.SOURCE_NAME.equals(field)) {
+        source.setName(DeserializerUtils.textValue(parser));
+      } else if (Vulnerability10.URL.equals(field)) {
+        String url = DeserializerUtils.textValue(parser);
+        if (url != null) {
+          try {
+            source.setUrl(new URL(url));
+          }
+          catch (MalformedURLException e) {
+            // Should we throw an exception? Is this worth stopping things over?
+            e.printStackTrace();
+          }
+        }
+      } else {
+        parser.skipChildren();
       }
     }
-
     return source;
   }
 
-  private List<Rating> processRatings(final JsonNode ratings) {
-    List<Rating> ratingsList = new ArrayList<>();
-    if (ratings != null) {
-      if (ratings.isArray() && !ratings.isEmpty()) {
-        for (JsonNode rating : ratings) {
-          ratingsList.add(processRating(rating));
-        }
-      } else {
-        ratingsList.add(processRating(ratings));
+  private Rating processRating(final JsonParser parser) throws IOException {
+    Rating rating = new Rating();
+    String severity = null;
+    String method = null;
+    for (JsonToken token = DeserializerUtils.firstField(parser); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case Vulnerability10.SCORE:
+          rating.setScore(processScore(parser));
+          break;
+        case Vulnerability10.SEVERITY:
+          severity = DeserializerUtils.textValue(parser);
+          break;
+        case Vulnerability10.METHOD:
+          method = DeserializerUtils.textValue(parser);
+          break;
+        case Vulnerability10.VECTOR:
+          rating.setVector(DeserializerUtils.textValue(parser));
+          break;
+        default:
+          parser.skipChildren();
+          break;
       }
     }
-    return ratingsList.isEmpty() ? null : ratingsList;
+    rating.setSeverity(Severity.fromString(severity));
+    rating.setMethod(ScoreSource.fromString(method));
+    return rating;
   }
 
-  private Rating processRating(final JsonNode ratingNode) {
-    Rating rating = new Rating();
-    JsonNode r = ratingNode.get(Vulnerability10.RATING);
-    if (r != null) {
-      if (r.get(Vulnerability10.SCORE) != null) {
-        Score score = new Score();
-        JsonNode s = r.get(Vulnerability10.SCORE);
-        score.setBase(getAsDouble(Vulnerability10.BASE, s));
-        score.setImpact(getAsDouble(Vulnerability10.IMPACT, s));
-        score.setExploitability(getAsDouble(Vulnerability10.EXPLOITABILITY, s));
-        rating.setScore(score);
+  private Score processScore(final JsonParser parser) throws IOException {
+    Score score = new Score();
+    for (JsonToken token = DeserializerUtils.firstField(parser); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case Vulnerability10.BASE:
+          score.setBase(getAsDouble(parser));
+          break;
+        case Vulnerability10.IMPACT:
+          score.setImpact(getAsDouble(parser));
+          break;
+        case Vulnerability10.EXPLOITABILITY:
+          score.setExploitability(getAsDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+          break;
       }
-      rating.setSeverity(Severity.fromString(getAsString(Vulnerability10.SEVERITY, r)));
-      rating.setMethod(ScoreSource.fromString(getAsString(Vulnerability10.METHOD, r)));
-      rating.setVector(getAsString(Vulnerability10.VECTOR, r));
     }
-
-    return rating;
+    return score;
   }
 
   private Extension createAndReturnExtension(final ExtensionType extType, final List<ExtensibleType> list) {
@@ -252,17 +262,11 @@ public class ExtensionDeserializer extends StdDeserializer<Extension>
     return null;
   }
 
-  private Double getAsDouble(final String fieldName, final JsonNode node) {
-    if (node.get(fieldName) != null) {
-      return node.get(fieldName).asDouble();
-    }
-    return null;
-  }
-
-  private String getAsString(final String fieldName, final JsonNode node) {
-    if (node.get(fieldName) != null) {
-      return node.get(fieldName).textValue();
+  private Double getAsDouble(final JsonParser parser) throws IOException {
+    if (parser.currentToken().isScalarValue()) {
+      return parser.getValueAsDouble();
     }
-    return null;
+    parser.skipChildren();
+    return 0.0;
   }
 }
@@ -58,13 +58,13 @@ public class ExternalReferencesDeserializer extends JsonDeserializer<List<Extern
     private ExternalReference parseExternalReference(JsonNode node, JsonParser p, DeserializationContext ctxt) throws IOException {
         ExternalReference reference = new ExternalReference();
         if (node.has("url")) {
-            reference.setUrl(node.get("url").asText());
+            reference.setUrl(DeserializerUtils.canonicalize(ctxt, node.get("url").asText()));
         }
         if (node.has("type")) {
             reference.setType(ExternalReference.Type.fromString(node.get("type").asText()));
         }
         if (node.has("comment")) {
-            reference.setComment(node.get("comment").asText());
+            reference.setComment(DeserializerUtils.canonicalize(ctxt, node.get("comment").asText()));
         }
         if (node.has("hashes")) {
             JsonParser hashesParser = node.get("hashes").traverse(p.getCodec());
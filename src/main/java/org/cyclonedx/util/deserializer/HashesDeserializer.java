@@ -1,15 +1,13 @@
 package org.cyclonedx.util.deserializer;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.cyclonedx.model.Hash;
 
 public class HashesDeserializer
@@ -17,28 +15,33 @@ public class HashesDeserializer
 {
   @Override
   public List<Hash> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
-    JsonNode node = parser.getCodec().readTree(parser);
-    return parseHashes(node.has("hash") ? node.get("hash") : node);
+    List<Hash> hashes = DeserializerUtils.readItems(parser, "hash", item -> parseHash(item, context));
+    return hashes == null || hashes.isEmpty() ? Collections.emptyList() : hashes;
   }
 
-  private List<Hash> parseHashes(JsonNode node) {
-    if (node.isEmpty()) {
-      return Collections.emptyList();
+  private Hash parseHash(JsonParser parser, DeserializationContext context) throws IOException {
+    String alg = null;
+    String content = null;
+    String text = null;
+    for (JsonToken token = DeserializerUtils.firstField(parser); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "alg":
+          alg = DeserializerUtils.canonicalize(context, DeserializerUtils.asText(parser));
+          break;
+        case "content":
+          content = DeserializerUtils.asText(parser);
+          break;
+        case "":
+          // the text of an XML element with attributes
+          text = DeserializerUtils.asText(parser);
+          break;
+        default:
+          parser.skipChildren();
+          break;
+      }
     }
-
-    ArrayNode nodes = DeserializerUtils.getArrayNode(node, null);
-    List<Hash> hashes = new ArrayList<>();
-
-    for (JsonNode hashNode : nodes) {
-      hashes.add(parseHash(hashNode));
-    }
-    return hashes;
-  }
-
-  private Hash parseHash(JsonNode node) {
-    String alg = node.has("alg") ? node.get("alg").asText() : null;
-    String value = node.has("content") ? node.get("content").asText() : node.has("") ? node.get("").asText() : null;
-
-    return new Hash(alg, value);
+    return new Hash(alg, content != null ? content : text);
   }
-}
\ No newline at end of file
+}
@@ -19,8 +19,11 @@
 package org.cyclonedx.util.deserializer;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -29,7 +32,6 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import org.cyclonedx.model.License;
 import org.cyclonedx.model.LicenseChoice;
-import org.cyclonedx.model.LicenseItem;
 import org.cyclonedx.model.license.Expression;
 import org.cyclonedx.model.license.ExpressionDetailed;
 
@@ -48,60 +50,126 @@ public class LicenseChoiceDeserializer extends JsonDeserializer<LicenseChoice>
   {
     ObjectMapper codec = (ObjectMapper) p.getCodec();
     boolean isXml = codec instanceof XmlMapper;
-    JsonNode rootNode = p.getCodec().readTree(p);
-
-    if (!rootNode.isEmpty()) {
-      LicenseChoice licenseChoice = new LicenseChoice();
-
-      if (isXml) {
-        // For XML, the root node contains all license choice items as fields
-        // (license, expression, expression-detailed)
-        processXmlNode(p, rootNode, licenseChoice, ctxt);
-      } else {
-        // For JSON, the root node is an array of individual license items
-        ArrayNode nodes = DeserializerUtils.getArrayNode(rootNode, null);
-        for (JsonNode node : nodes) {
-          processJsonNode(p, node, licenseChoice, ctxt);
-        }
+    LicenseChoice licenseChoice = new LicenseChoice();
+    boolean empty;
+
+    if (isXml) {
+      // For XML, the root node contains all license choice items as fields
+      // (license, expression, expression-detailed)
+      empty = !processXml(p, licenseChoice, ctxt);
+    } else if (p.currentToken() == JsonToken.START_ARRAY) {
+      // For JSON, the root node is an array of individual license items
+      empty = true;
+      while (p.nextToken() != JsonToken.END_ARRAY) {
+        processJsonItem(p, licenseChoice, ctxt);
+        empty = false;
       }
-      return licenseChoice;
+    } else if (p.currentToken() == JsonToken.START_OBJECT && p.nextToken() != JsonToken.END_OBJECT) {
+      processJsonItem(p, licenseChoice, ctxt);
+      empty = false;
+    } else {
+      p.skipChildren();
+      empty = true;
     }
-    return null;
+    return empty ? null : licenseChoice;
   }
 
-  private void processXmlNode(JsonParser p, JsonNode node, LicenseChoice licenseChoice, DeserializationContext ctxt)
+  /**
+   * Reads the license choice from the XML token stream. Licenses are added in document order, followed by
+   * the expressions and then the detailed expressions.
+   *
+   * @return whether the license choice element has any content
+   */
+  private boolean processXml(JsonParser p, LicenseChoice licenseChoice, DeserializationContext ctxt)
       throws IOException {
     // XML format: node contains fields for "license", "expression", and/or "expression-detailed"
     // Each field can be a single item or an array
+    if (p.currentToken() == JsonToken.START_ARRAY) {
+      // a tree read from XML, whose items are the license choice elements
+      boolean hasContent = false;
+      while (p.nextToken() != JsonToken.END_ARRAY) {
+        hasContent |= processXml(p, licenseChoice, ctxt);
+      }
+      return hasContent;
+    }
+    if (p.currentToken() != JsonToken.START_OBJECT && p.currentToken() != JsonToken.FIELD_NAME) {
+      p.skipChildren();
+      return false;
+    }
 
-    // Process all license elements
-    if (node.has("license")) {
-      processLicenseNode(p, node.get("license"), licenseChoice);
+    List<Expression> expressions = new ArrayList<>();
+    List<ExpressionDetailed> expressionsDetailed = new ArrayList<>();
+    boolean hasContent = false;
+    for (JsonToken token = DeserializerUtils.firstField(p); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+      String field = p.currentName();
+      p.nextToken();
+      hasContent = true;
+      switch (field) {
+        case "license":
+          for (License license : readValues(p, item -> ctxt.readValue(item, License.class))) {
+            licenseChoice.addLicense(license);
+          }
+          break;
+        case "expression":
+          expressions.addAll(readValues(p, item -> expressionDeserializer.deserialize(item, ctxt)));
+          break;
+        case "expression-detailed":
+          expressionsDetailed.addAll(readValues(p, item -> ctxt.readValue(item, ExpressionDetailed.class)));
+          break;
+        default:
+          p.skipChildren();
+          break;
+      }
     }
+    for (Expression expression : expressions) {
+      licenseChoice.addExpression(expression);
+    }
+    for (ExpressionDetailed expressionDetailed : expressionsDetailed) {
+      licenseChoice.addExpressionDetailed(expressionDetailed);
+    }
+    return hasContent;
+  }
 
-    // Process all expression elements
-    if (node.has("expression")) {
-      JsonNode exprNode = node.get("expression");
-      if (exprNode.isArray()) {
-        for (JsonNode expr : exprNode) {
-          processExpression(p, expr, licenseChoice, ctxt);
+  /**
+   * Reads a JSON license item. The common shapes, an object with a single license or detailed expression,
+   * are bound from the token stream. The remaining shapes are told apart by their properties, so the item
+   * is read as a tree first.
+   */
+  private void processJsonItem(JsonParser p, LicenseChoice licenseChoice, DeserializationContext ctxt)
+      throws IOException {
+    JsonToken token = DeserializerUtils.firstField(p);
+    String field = token == JsonToken.FIELD_NAME ? p.currentName() : null;
+    if ("license".equals(field) || "expression-detailed".equals(field)) {
+      p.nextToken();
+      if ("license".equals(field)) {
+        for (License license : readValues(p, item -> ctxt.readValue(item, License.class))) {
+          licenseChoice.addLicense(license);
         }
       } else {
-        processExpression(p, exprNode, licenseChoice, ctxt);
+        licenseChoice.addExpressionDetailed(ctxt.readValue(p, ExpressionDetailed.class));
+      }
+      while (p.nextToken() == JsonToken.FIELD_NAME) {
+        p.nextToken();
+        p.skipChildren();
       }
+    } else {
+      processJsonNode(p, ctxt.readTree(p), licenseChoice, ctxt);
     }
+  }
 
-    // Process all expression-detailed elements
-    if (node.has("expression-detailed")) {
-      JsonNode exprDetailedNode = node.get("expression-detailed");
-      if (exprDetailedNode.isArray()) {
-        for (JsonNode exprDetailed : exprDetailedNode) {
-          processExpressionDetailed(p, exprDetailed, licenseChoice);
-        }
-      } else {
-        processExpressionDetailed(p, exprDetailedNode, licenseChoice);
+  /**
+   * Reads a single value, or each value of an array.
+   */
+  private static <T> List<T> readValues(JsonParser p, DeserializerUtils.ItemReader<T> reader) throws IOException {
+    List<T> values = new ArrayList<>();
+    if (p.currentToken() == JsonToken.START_ARRAY) {
+      while (p.nextToken() != JsonToken.END_ARRAY) {
+        values.add(reader.read(p));
       }
+    } else {
+      values.add(reader.read(p));
     }
+    return values;
   }
 
   private void processJsonNode(JsonParser p, JsonNode node, LicenseChoice licenseChoice, DeserializationContext ctxt)
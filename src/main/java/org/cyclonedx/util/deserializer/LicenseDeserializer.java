@@ -61,7 +61,7 @@ public class LicenseDeserializer extends JsonDeserializer<LicenseChoice>
             processExpression(p, node, licenseChoice, ctxt);
           }
           else {
-            processLicenseNode(p, node, licenseChoice);
+            processLicenseNode(p, node.has("license") ? node.get("license") : node, licenseChoice);
           }
         }
       }
@@ -5,10 +5,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.cyclonedx.model.Component;
 import org.cyclonedx.model.DistributionConstraints;
 import org.cyclonedx.model.LicenseChoice;
@@ -29,73 +31,60 @@ public class MetadataDeserializer
 
   @Override
   public Metadata deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
-    JsonNode node = jsonParser.getCodec().readTree(jsonParser);
-
     Metadata metadata = new Metadata();
 
-    ObjectMapper mapper = getMapper(jsonParser);
-
-    // Parsing other fields in the Metadata object
-    if (node.has("authors")) {
-      JsonNode authorsNode = node.get("authors");
-      List<OrganizationalContact> authors = deserializeOrganizationalContact(authorsNode, mapper);
-      metadata.setAuthors(authors);
-    }
-
-    if(node.has("component")) {
-      Component component = deserializeComponent(node.get("component"), jsonParser, mapper);
-      metadata.setComponent(component);
-    }
-
-    if (node.has("manufacture")) {
-      OrganizationalEntity manufacture = mapper.convertValue(node.get("manufacture"), OrganizationalEntity.class);
-      metadata.setManufacture(manufacture);
-    }
-
-    if (node.has("manufacturer")) {
-      OrganizationalEntity manufacturer = mapper.convertValue(node.get("manufacturer"), OrganizationalEntity.class);
-      metadata.setManufacturer(manufacturer);
-    }
-
-    if (node.has("lifecycles")) {
-      JsonParser lifecycleParser = node.get("lifecycles").traverse(jsonParser.getCodec());
-      lifecycleParser.nextToken();
-      Lifecycles lifecycles = lifecycleDeserializer.deserialize(lifecycleParser, ctxt);
-      metadata.setLifecycles(lifecycles);
-    }
-
-    if (node.has("supplier")) {
-      OrganizationalEntity supplier = mapper.convertValue(node.get("supplier"), OrganizationalEntity.class);
-      metadata.setSupplier(supplier);
-    }
-
-    if(node.has("licenses")) {
-      JsonParser licensesParser = node.get("licenses").traverse(jsonParser.getCodec());
-      licensesParser.nextToken();
-      LicenseChoice licenses = licenseDeserializer.deserialize(licensesParser, ctxt);
-      metadata.setLicenses(licenses);
-    }
-
-    if (node.has("timestamp")) {
-      setTimestamp(node, metadata);
-    }
-
-    if (node.has("properties")) {
-      JsonParser propertiesParser = node.get("properties").traverse(jsonParser.getCodec());
-      propertiesParser.nextToken();
-      List<Property> properties = propertiesDeserializer.deserialize(propertiesParser, ctxt);
-      metadata.setProperties(properties);
-    }
-
-    if (node.has("tools")) {
-      ToolsJsonParser toolsParser = new ToolsJsonParser(node, jsonParser, ctxt);
-      metadata.setTools(toolsParser.getTools());
-      metadata.setToolChoice(toolsParser.getToolInformation());
-    }
-
-    if (node.has("distributionConstraints")) {
-      DistributionConstraints dc = mapper.convertValue(node.get("distributionConstraints"), DistributionConstraints.class);
-      metadata.setDistributionConstraints(dc);
+    for (JsonToken token = DeserializerUtils.firstField(jsonParser); token == JsonToken.FIELD_NAME;
+         token = jsonParser.nextToken()) {
+      String field = jsonParser.currentName();
+      jsonParser.nextToken();
+      switch (field) {
+        case "authors":
+          List<OrganizationalContact> authors = DeserializerUtils.readItems(jsonParser, "author",
+              p -> ctxt.readValue(p, OrganizationalContact.class));
+          metadata.setAuthors(authors != null ? authors : new ArrayList<>());
+          break;
+        case "component":
+          metadata.setComponent(ctxt.readValue(jsonParser, Component.class));
+          break;
+        case "manufacture":
+          metadata.setManufacture(ctxt.readValue(jsonParser, OrganizationalEntity.class));
+          break;
+        case "manufacturer":
+          metadata.setManufacturer(ctxt.readValue(jsonParser, OrganizationalEntity.class));
+          break;
+        case "lifecycles":
+          metadata.setLifecycles(lifecycleDeserializer.deserialize(jsonParser, ctxt));
+          break;
+        case "supplier":
+          metadata.setSupplier(ctxt.readValue(jsonParser, OrganizationalEntity.class));
+          break;
+        case "licenses":
+          metadata.setLicenses(licenseDeserializer.deserialize(jsonParser, ctxt));
+          break;
+        case "timestamp":
+          String timestamp = DeserializerUtils.textValue(jsonParser);
+          if (timestamp != null) {
+            metadata.setTimestamp(TimestampUtils.parseTimestamp(timestamp));
+          }
+          break;
+        case "properties":
+          metadata.setProperties(propertiesDeserializer.deserialize(jsonParser, ctxt));
+          break;
+        case "tools":
+          // the shape of the tools decides how they are read, so they are buffered
+          ObjectNode toolsNode = ctxt.getNodeFactory().objectNode();
+          toolsNode.set("tools", ctxt.readTree(jsonParser));
+          ToolsJsonParser toolsParser = new ToolsJsonParser(toolsNode, jsonParser, ctxt);
+          metadata.setTools(toolsParser.getTools());
+          metadata.setToolChoice(toolsParser.getToolInformation());
+          break;
+        case "distributionConstraints":
+          metadata.setDistributionConstraints(ctxt.readValue(jsonParser, DistributionConstraints.class));
+          break;
+        default:
+          jsonParser.skipChildren();
+          break;
+      }
     }
 
     return metadata;
@@ -127,31 +116,4 @@ public class MetadataDeserializer
     OrganizationalContact author = mapper.convertValue(node, OrganizationalContact.class);
     organizationalContactList.add(author);
   }
-
-  private ObjectMapper getMapper(JsonParser jsonParser) {
-    if (jsonParser.getCodec() instanceof ObjectMapper) {
-      return (ObjectMapper) jsonParser.getCodec();
-    } else {
-      return new ObjectMapper();
-    }
-  }
-
-  private void setTimestamp(JsonNode node, Metadata metadata) {
-    JsonNode timestampNode = node.get("timestamp");
-    if (timestampNode != null && timestampNode.isTextual()) {
-      metadata.setTimestamp(TimestampUtils.parseTimestamp(timestampNode.textValue()));
-    }
-  }
-
-  /**
-   * Deserializes a Component from a JsonNode, handling both simple and complex nested structures.
-   * This method properly handles XML parsing where nested components might be represented
-   * as single objects or arrays depending on the XML structure.
-   */
-  private Component deserializeComponent(JsonNode componentNode, JsonParser originalParser, ObjectMapper mapper) throws IOException {
-    try (JsonParser componentParser = componentNode.traverse(originalParser.getCodec())) {
-      componentParser.nextToken(); // Advance to the first token
-      return componentParser.readValueAs(Component.class);
-    }
-  }
 }
@@ -0,0 +1,25 @@
+package org.cyclonedx.util.deserializer;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import org.cyclonedx.util.StringPool;
+
+/**
+ * Reads strings like the default deserializer, and replaces them with their canonical instance when a
+ * {@link StringPool} is set as the {@code StringPool.class} attribute of the deserialization.
+ *
+ * @since 13.2.0
+ */
+public class PooledStringDeserializer
+    extends StringDeserializer
+{
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public String deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+    return DeserializerUtils.canonicalize(ctxt, super.deserialize(p, ctxt));
+  }
+}
@@ -0,0 +1,60 @@
+package org.cyclonedx.util.deserializer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+
+/**
+ * Limits the properties bound for some bean types. The other properties are turned into ignored properties,
+ * which the bean deserializer skips in the token stream, so their subtrees are never bound.
+ *
+ * @since 13.2.0
+ */
+public class ProjectionDeserializerModifier
+    extends BeanDeserializerModifier
+{
+  private static final long serialVersionUID = 1L;
+
+  private final Map<Class<?>, Set<String>> includedProperties;
+
+  /**
+   * @param includedProperties the names of the properties to bind, per bean type. Types that are not
+   *                           mapped are bound in full.
+   */
+  public ProjectionDeserializerModifier(final Map<Class<?>, Set<String>> includedProperties) {
+    this.includedProperties = includedProperties;
+  }
+
+  @Override
+  public BeanDeserializerBuilder updateBuilder(
+      final DeserializationConfig config,
+      final BeanDescription beanDesc,
+      final BeanDeserializerBuilder builder)
+  {
+    final Set<String> included = includedProperties.get(beanDesc.getBeanClass());
+    if (included == null) {
+      return builder;
+    }
+    final List<PropertyName> excluded = new ArrayList<>();
+    for (Iterator<SettableBeanProperty> it = builder.getProperties(); it.hasNext(); ) {
+      final SettableBeanProperty property = it.next();
+      if (!included.contains(property.getName())) {
+        excluded.add(property.getFullName());
+      }
+    }
+    for (PropertyName name : excluded) {
+      builder.removeProperty(name);
+      builder.addIgnorable(name.getSimpleName());
+    }
+    return builder;
+  }
+}
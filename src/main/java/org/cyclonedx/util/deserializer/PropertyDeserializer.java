@@ -21,14 +21,14 @@ public class PropertyDeserializer
 
     JsonNode valueNode = node.get("value");
     if (valueNode != null) {
-      property.setValue(valueNode.asText());
+      property.setValue(DeserializerUtils.canonicalize(context, valueNode.asText()));
     } else if (node.has("")) {
-      property.setValue(node.get("").asText());
+      property.setValue(DeserializerUtils.canonicalize(context, node.get("").asText()));
     }
 
     JsonNode nameNode = node.get("name");
     if (nameNode != null && nameNode.isTextual()) {
-      property.setName(nameNode.asText());
+      property.setName(DeserializerUtils.canonicalize(context, nameNode.asText()));
     }
 
     return property;
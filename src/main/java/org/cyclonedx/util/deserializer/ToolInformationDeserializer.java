@@ -86,10 +86,10 @@ public class ToolInformationDeserializer
       else if (servicesNode.isObject() && servicesNode.has("service")) {
         JsonNode serviceNode = servicesNode.get("service");
         if (serviceNode.isArray()) {
-          List<Service> services = mapper.convertValue(servicesNode, new TypeReference<List<Service>>() {});
+          List<Service> services = mapper.convertValue(serviceNode, new TypeReference<List<Service>>() {});
           toolInformation.setServices(services);
         } else if (serviceNode.isObject()) {
-          Service service = mapper.convertValue(servicesNode, Service.class);
+          Service service = mapper.convertValue(serviceNode, Service.class);
           toolInformation.getServices().add(service);
         }
       }
@@ -19,21 +19,18 @@
 package org.cyclonedx.util.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.cyclonedx.model.OrganizationalContact;
 import org.cyclonedx.model.OrganizationalEntity;
-import org.cyclonedx.model.Property;
 import org.cyclonedx.model.vulnerability.Vulnerability;
 import org.cyclonedx.util.TimestampUtils;
 import org.cyclonedx.util.ToolsJsonParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 
@@ -45,285 +42,197 @@ public class VulnerabilityDeserializer
 
   @Override
   public List<Vulnerability> deserialize(final JsonParser parser, final DeserializationContext context) {
+    JsonStreamContext parent = parser.getParsingContext();
+    if (parser.currentToken() != null && parser.currentToken().isStructStart()) {
+      parent = parent.getParent();
+    }
     try {
-      JsonNode node = parser.getCodec().readTree(parser);
-      return parseVulnerabilities(node.has("vulnerability") ? node.get("vulnerability") : node, parser, context);
+      return DeserializerUtils.readItems(parser, "vulnerability", item -> parseVulnerability(item, context));
     } catch (Exception e) {
+      try {
+        DeserializerUtils.skipToEndOf(parser, parent);
+      } catch (IOException ignored) {
+        // the document is unreadable past this point
+      }
       return null;
     }
   }
 
-  private List<Vulnerability> parseVulnerabilities(JsonNode node, JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
-    ObjectMapper mapper = getMapper(jsonParser);
-    List<Vulnerability> vulnerabilities = new ArrayList<>();
-    ArrayNode nodes = DeserializerUtils.getArrayNode(node, mapper);
-    for (JsonNode vulnerabilityNode : nodes) {
-      vulnerabilities.add(parseVulnerability(vulnerabilityNode, jsonParser, ctxt, mapper));
-    }
-    return vulnerabilities;
-  }
-
-  private Vulnerability parseVulnerability(JsonNode node, JsonParser jsonParser, DeserializationContext ctxt, ObjectMapper mapper) throws IOException {
-    JsonParser vulnerabilityParser = node.traverse(jsonParser.getCodec());
-    vulnerabilityParser.nextToken();
-
+  private Vulnerability parseVulnerability(JsonParser parser, DeserializationContext ctxt) throws IOException {
     Vulnerability vulnerability = new Vulnerability();
-
-    if (node.has("bom-ref")) {
-      String bomRef = node.get("bom-ref").asText();
-      if (bomRef != null && !bomRef.isEmpty()) {
-        vulnerability.setBomRef(bomRef);
-      }
-    }
-
-    if (node.has("id")) {
-      String id = node.get("id").asText();
-      if (id != null && !id.isEmpty()) {
-        vulnerability.setId(id);
-      }
-    }
-
-    if (node.has("description")) {
-      String description = node.get("description").asText();
-      if (description != null && !description.isEmpty()) {
-        vulnerability.setDescription(description);
-      }
-    }
-
-    if (node.has("detail")) {
-      String detail = node.get("detail").asText();
-      if (detail != null && !detail.isEmpty()) {
-        vulnerability.setDetail(detail);
-      }
-    }
-
-    if (node.has("recommendation")) {
-      String recommendation = node.get("recommendation").asText();
-      if (recommendation != null && !recommendation.isEmpty()) {
-        vulnerability.setRecommendation(recommendation);
-      }
-    }
-
-    if (node.has("workaround")) {
-      String workaround = node.get("workaround").asText();
-      if (workaround != null && !workaround.isEmpty()) {
-        vulnerability.setWorkaround(workaround);
-      }
-    }
-
-    if (node.has("source")) {
-      Vulnerability.Source source = mapper.convertValue(node.get("source"), Vulnerability.Source.class);
-      vulnerability.setSource(source);
-    }
-
-    if (node.has("references")) {
-      JsonNode referencesNode = node.get("references");
-      if (referencesNode.isArray()) {
-        List<Vulnerability.Reference> references = mapper.convertValue(node.get("references"),
-                new TypeReference<List<Vulnerability.Reference>>() {});
-        vulnerability.setReferences(references);
-      } else if (referencesNode.has("reference")) {
-        JsonNode referenceNode = referencesNode.get("reference");
-        if (referenceNode.isArray()) {
-          List<Vulnerability.Reference> references = mapper.convertValue(referenceNode,
-                  new TypeReference<List<Vulnerability.Reference>>() {});
-          vulnerability.setReferences(references);
-        } else {
-          vulnerability.addReference(mapper.convertValue(referenceNode, Vulnerability.Reference.class));
-        }
-      }
-    }
-
-    if (node.has("ratings")) {
-      JsonNode ratingsNode = node.get("ratings");
-      if (ratingsNode.isArray()) {
-        List<Vulnerability.Rating> ratings = mapper.convertValue(node.get("ratings"), new TypeReference<List<Vulnerability.Rating>>() {
-        });
-        vulnerability.setRatings(ratings);
-      } else if (ratingsNode.has("rating")) {
-        JsonNode ratingNode = ratingsNode.get("rating");
-        if (ratingNode.isArray()) {
-          List<Vulnerability.Rating> ratings = mapper.convertValue(ratingNode, new TypeReference<List<Vulnerability.Rating>>() {
-          });
-          vulnerability.setRatings(ratings);
-        }
-        else {
-          vulnerability.addRating(mapper.convertValue(ratingNode, Vulnerability.Rating.class));
-        }
-      }
-    }
-
-    if (node.has("cwes")) {
-      JsonNode cwesNode = node.get("cwes");
-      if (cwesNode.isArray()) {
-        List<Integer> codes = mapper.convertValue(node.get("cwes"), new TypeReference<List<Integer>>() {});
-        vulnerability.setCwes(codes);
-      } else if (cwesNode.has("cwe")) {
-        JsonNode cweNode = cwesNode.get("cwe");
-        if (cweNode.isArray()) {
-          List<Integer> codes = mapper.convertValue(cweNode, new TypeReference<List<Integer>>() {
-          });
-          vulnerability.setCwes(codes);
-        } else {
-          vulnerability.addCwe(cweNode.asInt());
-        }
-      }
-    }
-
-    if (node.has("advisories")) {
-      JsonNode advisoriesNode = node.get("advisories");
-      if (advisoriesNode.isArray()) {
-        List<Vulnerability.Advisory> advisories = mapper.convertValue(node.get("advisories"),
-                new TypeReference<List<Vulnerability.Advisory>>() {});
-        vulnerability.setAdvisories(advisories);
-      } else if (advisoriesNode.has("advisory")) {
-        JsonNode advisoryNode = advisoriesNode.get("advisory");
-        if (advisoryNode.isArray()) {
-          List<Vulnerability.Advisory> advisories = mapper.convertValue(advisoryNode,
-                  new TypeReference<List<Vulnerability.Advisory>>() {});
-          vulnerability.setAdvisories(advisories);
-        } else {
-          vulnerability.addAdvisory(mapper.convertValue(advisoryNode, Vulnerability.Advisory.class));
-        }
+    for (JsonToken token = DeserializerUtils.firstField(parser); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "bom-ref":
+          String bomRef = DeserializerUtils.asText(parser);
+          if (!bomRef.isEmpty()) {
+            vulnerability.setBomRef(bomRef);
+          }
+          break;
+        case "id":
+          String id = DeserializerUtils.asText(parser);
+          if (!id.isEmpty()) {
+            vulnerability.setId(id);
+          }
+          break;
+        case "description":
+          String description = DeserializerUtils.asText(parser);
+          if (!description.isEmpty()) {
+            vulnerability.setDescription(description);
+          }
+          break;
+        case "detail":
+          String detail = DeserializerUtils.asText(parser);
+          if (!detail.isEmpty()) {
+            vulnerability.setDetail(detail);
+          }
+          break;
+        case "recommendation":
+          String recommendation = DeserializerUtils.asText(parser);
+          if (!recommendation.isEmpty()) {
+            vulnerability.setRecommendation(recommendation);
+          }
+          break;
+        case "workaround":
+          String workaround = DeserializerUtils.asText(parser);
+          if (!workaround.isEmpty()) {
+            vulnerability.setWorkaround(workaround);
+          }
+          break;
+        case "source":
+          vulnerability.setSource(ctxt.readValue(parser, Vulnerability.Source.class));
+          break;
+        case "references":
+          List<Vulnerability.Reference> references = DeserializerUtils.readItems(parser, "reference",
+              item -> ctxt.readValue(item, Vulnerability.Reference.class));
+          if (references != null) {
+            vulnerability.setReferences(references);
+          }
+          break;
+        case "ratings":
+          List<Vulnerability.Rating> ratings = DeserializerUtils.readItems(parser, "rating",
+              item -> ctxt.readValue(item, Vulnerability.Rating.class));
+          if (ratings != null) {
+            vulnerability.setRatings(ratings);
+          }
+          break;
+        case "cwes":
+          List<Integer> cwes = DeserializerUtils.readItems(parser, "cwe", item -> ctxt.readValue(item, Integer.class));
+          if (cwes != null) {
+            vulnerability.setCwes(cwes);
+          }
+          break;
+        case "advisories":
+          List<Vulnerability.Advisory> advisories = DeserializerUtils.readItems(parser, "advisory",
+              item -> ctxt.readValue(item, Vulnerability.Advisory.class));
+          if (advisories != null) {
+            vulnerability.setAdvisories(advisories);
+          }
+          break;
+        case "created":
+          vulnerability.setCreated(TimestampUtils.parseTimestamp(DeserializerUtils.textValue(parser)));
+          break;
+        case "published":
+          vulnerability.setPublished(TimestampUtils.parseTimestamp(DeserializerUtils.textValue(parser)));
+          break;
+        case "updated":
+          vulnerability.setUpdated(TimestampUtils.parseTimestamp(DeserializerUtils.textValue(parser)));
+          break;
+        case "rejected":
+          vulnerability.setRejected(TimestampUtils.parseTimestamp(DeserializerUtils.textValue(parser)));
+          break;
+        case "credits":
+          vulnerability.setCredits(parseCredits(parser, ctxt));
+          break;
+        case "analysis":
+          vulnerability.setAnalysis(parseAnalysis(parser, ctxt));
+          break;
+        case "affects":
+          vulnerability.setAffects(affectsDeserializer.deserialize(parser, ctxt));
+          break;
+        case "properties":
+          vulnerability.setProperties(propertiesDeserializer.deserialize(parser, ctxt));
+          break;
+        case "tools":
+          // the shape of the tools decides how they are read, so they are buffered
+          ObjectNode toolsNode = ctxt.getNodeFactory().objectNode();
+          toolsNode.set("tools", ctxt.readTree(parser));
+          ToolsJsonParser toolsParser = new ToolsJsonParser(toolsNode, parser, ctxt);
+          vulnerability.setTools(toolsParser.getTools());
+          vulnerability.setToolChoice(toolsParser.getToolInformation());
+          break;
+        default:
+          parser.skipChildren();
+          break;
       }
     }
-
-    if (node.has("created")) {
-      vulnerability.setCreated(TimestampUtils.parseTimestamp(node.get("created").textValue()));
-    }
-
-    if (node.has("published")) {
-      vulnerability.setPublished(TimestampUtils.parseTimestamp(node.get("published").textValue()));
-    }
-
-    if (node.has("updated")) {
-      vulnerability.setUpdated(TimestampUtils.parseTimestamp(node.get("updated").textValue()));
-    }
-
-    if (node.has("rejected")) {
-      vulnerability.setRejected(TimestampUtils.parseTimestamp(node.get("rejected").textValue()));
-    }
-
-    if (node.has("credits")) {
-      parseCredits(node.get("credits"), vulnerability, mapper);
-    }
-
-    if (node.has("analysis")) {
-      parseAnalysis(node.get("analysis"), vulnerability, mapper);
-    }
-
-    if (node.has("affects")) {
-      JsonParser affectsParser = node.get("affects").traverse(jsonParser.getCodec());
-      affectsParser.nextToken();
-      List<Vulnerability.Affect> affects = affectsDeserializer.deserialize(affectsParser, ctxt);
-      vulnerability.setAffects(affects);
-    }
-
-    if (node.has("properties")) {
-      JsonParser propertiesParser = node.get("properties").traverse(jsonParser.getCodec());
-      propertiesParser.nextToken();
-      List<Property> properties = propertiesDeserializer.deserialize(propertiesParser, ctxt);
-      vulnerability.setProperties(properties);
-    }
-
-    if (node.has("tools")) {
-      ToolsJsonParser toolsParser = new ToolsJsonParser(node, jsonParser, ctxt);
-      vulnerability.setTools(toolsParser.getTools());
-      vulnerability.setToolChoice(toolsParser.getToolInformation());
-    }
-
     return vulnerability;
   }
 
-  private void parseAnalysis(JsonNode analysisNode, Vulnerability vulnerability, ObjectMapper mapper) {
-    if (analysisNode != null) {
-      Vulnerability.Analysis analysis = new Vulnerability.Analysis();
-      if (analysisNode.has("state")) {
-        analysis.setState(mapper.convertValue(analysisNode.get("state"), Vulnerability.Analysis.State.class));
-      }
-      if (analysisNode.has("justification")) {
-        analysis.setJustification(mapper.convertValue(analysisNode.get("justification"), Vulnerability.Analysis.Justification.class));
-      }
-      if (analysisNode.has("detail")) {
-        String detail = analysisNode.get("detail").asText();
-        if (detail != null && !detail.isEmpty()) {
-          analysis.setDetail(detail);
-        }
-      }
-      if (analysisNode.has("firstIssued")) {
-        analysis.setFirstIssued(TimestampUtils.parseTimestamp(analysisNode.get("firstIssued").textValue()));
-      }
-      if (analysisNode.has("lastUpdated")) {
-        analysis.setLastUpdated(TimestampUtils.parseTimestamp(analysisNode.get("lastUpdated").textValue()));
-      }
-      if (analysisNode.has("response")) {
-        JsonNode responsesNode = analysisNode.get("response");
-        if (responsesNode.isArray()) {
-          List<Vulnerability.Analysis.Response> responses = mapper.convertValue(responsesNode,
-                  new TypeReference<List<Vulnerability.Analysis.Response>>() {});
-          analysis.setResponses(responses);
-        }
-      } else if (analysisNode.has("responses")) {
-        JsonNode responsesNode = analysisNode.get("responses");
-        if (responsesNode.has("response")) {
-          JsonNode responseNode = responsesNode.get("response");
-          if (responseNode.isArray()) {
-            List<Vulnerability.Analysis.Response> responses = mapper.convertValue(responseNode,
-                    new TypeReference<List<Vulnerability.Analysis.Response>>() {});
-            analysis.setResponses(responses);
+  private Vulnerability.Analysis parseAnalysis(JsonParser parser, DeserializationContext ctxt) throws IOException {
+    Vulnerability.Analysis analysis = new Vulnerability.Analysis();
+    for (JsonToken token = DeserializerUtils.firstField(parser); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "state":
+          analysis.setState(ctxt.readValue(parser, Vulnerability.Analysis.State.class));
+          break;
+        case "justification":
+          analysis.setJustification(ctxt.readValue(parser, Vulnerability.Analysis.Justification.class));
+          break;
+        case "detail":
+          String detail = DeserializerUtils.asText(parser);
+          if (!detail.isEmpty()) {
+            analysis.setDetail(detail);
           }
-          else if (responseNode.isTextual()) {
-            Vulnerability.Analysis.Response response =
-                Vulnerability.Analysis.Response.fromString(responseNode.asText());
-            analysis.addResponse(response);
+          break;
+        case "firstIssued":
+          analysis.setFirstIssued(TimestampUtils.parseTimestamp(DeserializerUtils.textValue(parser)));
+          break;
+        case "lastUpdated":
+          analysis.setLastUpdated(TimestampUtils.parseTimestamp(DeserializerUtils.textValue(parser)));
+          break;
+        case "response":
+        case "responses":
+          List<Vulnerability.Analysis.Response> responses = DeserializerUtils.readItems(parser, "response",
+              item -> item.currentToken() == JsonToken.VALUE_STRING
+                  ? Vulnerability.Analysis.Response.fromString(item.getText())
+                  : ctxt.readValue(item, Vulnerability.Analysis.Response.class));
+          if (responses != null) {
+            analysis.setResponses(responses);
           }
-        }
+          break;
+        default:
+          parser.skipChildren();
+          break;
       }
-      vulnerability.setAnalysis(analysis);
     }
+    return analysis;
   }
 
-  private void parseCredits(JsonNode creditsNode, Vulnerability vulnerability, ObjectMapper mapper) {
+  private Vulnerability.Credits parseCredits(JsonParser parser, DeserializationContext ctxt) throws IOException {
     Vulnerability.Credits credits = new Vulnerability.Credits();
-    if (creditsNode.has("organizations")) {
-      parseOrganizations(creditsNode.get("organizations"), credits, mapper);
-    }
-    if (creditsNode.has("individuals")) {
-      parseIndividuals(creditsNode.get("individuals"), credits, mapper);
-    }
-    vulnerability.setCredits(credits);
-  }
-
-  private void parseOrganizations(JsonNode organizationsNode, Vulnerability.Credits credits, ObjectMapper mapper) {
-    if (organizationsNode != null) {
-      if (organizationsNode.isArray()) {
-        List<OrganizationalEntity> organizations = mapper.convertValue(organizationsNode,
-                new TypeReference<List<OrganizationalEntity>>() {});
-        credits.setOrganizations(organizations);
-      } else if (organizationsNode.isObject()) {
-        OrganizationalEntity organization = mapper.convertValue(organizationsNode.get("organization"), OrganizationalEntity.class);
-        credits.addOrganization(organization);
-      }
-    }
-  }
-
-  private void parseIndividuals(JsonNode individualsNode, Vulnerability.Credits credits, ObjectMapper mapper) {
-    if (individualsNode != null) {
-      if (individualsNode.isArray()) {
-        List<OrganizationalContact> individuals = mapper.convertValue(individualsNode, new TypeReference<List<OrganizationalContact>>() {});
-        credits.setIndividuals(individuals);
-      } else if (individualsNode.isObject()) {
-        OrganizationalContact individual = mapper.convertValue(individualsNode.get("individual"), OrganizationalContact.class);
-        credits.addIndividual(individual);
+    for (JsonToken token = DeserializerUtils.firstField(parser); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      parser.nextToken();
+      if ("organizations".equals(field)) {
+        List<OrganizationalEntity> organizations = DeserializerUtils.readItems(parser, "organization",
+            item -> ctxt.readValue(item, OrganizationalEntity.class));
+        if (organizations != null) {
+          credits.setOrganizations(organizations);
+        }
+      } else if ("individuals".equals(field)) {
+        List<OrganizationalContact> individuals = DeserializerUtils.readItems(parser, "individual",
+            item -> ctxt.readValue(item, OrganizationalContact.class));
+        if (individuals != null) {
+          credits.setIndividuals(individuals);
+        }
+      } else {
+        parser.skipChildren();
       }
     }
-  }
-
-  private ObjectMapper getMapper(JsonParser jsonParser) {
-    if (jsonParser.getCodec() instanceof ObjectMapper) {
-      return (ObjectMapper) jsonParser.getCodec();
-    } else {
-      return new ObjectMapper();
-    }
+    return credits;
   }
 }
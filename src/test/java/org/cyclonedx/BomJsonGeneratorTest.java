@@ -19,6 +19,7 @@
 package org.cyclonedx;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.cyclonedx.generators.BomGeneratorFactory;
 import org.cyclonedx.generators.json.BomJsonGenerator;
 import org.cyclonedx.generators.xml.BomXmlGenerator;
@@ -38,21 +39,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -1034,6 +1042,109 @@ public class BomJsonGeneratorTest {
         assertTrue(parser.isValid(loadedFile, version));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"/1.6/valid-bom-1.6.json", "/1.6/valid-machine-learning-1.6.json"})
+    public void testWriteMatchesToJsonString(String path) throws Exception {
+        Bom bom = createCommonJsonBom(path);
+        BomJsonGenerator generator = BomGeneratorFactory.createJson(Version.VERSION_16, bom);
+
+        for (boolean prettyPrint : new boolean[] {true, false}) {
+            String expected = generator.toJsonString(prettyPrint);
+
+            CloseTrackingOutputStream out = new CloseTrackingOutputStream();
+            generator.write(out, prettyPrint);
+            assertFalse(out.closed);
+            assertEquals(expected, out.toString(StandardCharsets.UTF_8.name()));
+
+            StringWriter writer = new StringWriter();
+            generator.write(writer, prettyPrint);
+            assertEquals(expected, writer.toString());
+
+            generator.write(tempFile.toPath(), prettyPrint);
+            assertEquals(expected, new String(Files.readAllBytes(tempFile.toPath()), StandardCharsets.UTF_8));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("testData")
+    public void testJsonNodeMatchesParsedJsonString(Version version, String bomXmlPath) throws Exception {
+        Bom bom = createCommonXmlBom(bomXmlPath);
+        BomJsonGenerator generator = BomGeneratorFactory.createJson(version, bom);
+
+        JsonNode expected = new ObjectMapper().readTree(generator.toJsonString(false));
+        assertEquals(expected, generator.toJsonNode());
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.cyclonedx.BomJsonGeneratorTest#testParallelSerializationArguments")
+    public void testParallelSerializationMatchesSequential(final Version version, final boolean prettyPrint) throws Exception {
+        final Bom bom = createCommonJsonBom("/bom-1.5.json");
+        for (int i = 0; i < 200; i++) {
+            final Bom copy = createCommonJsonBom("/bom-1.5.json");
+            for (final Component component : copy.getComponents()) {
+                component.setBomRef(component.getBomRef() + "-" + i);
+                bom.addComponent(component);
+            }
+            bom.getVulnerabilities().addAll(copy.getVulnerabilities());
+        }
+        final List<Component> components = bom.getComponents();
+
+        final BomJsonGenerator sequential = new BomJsonGenerator(bom, version);
+        final String expected = sequential.toJsonString(prettyPrint);
+
+        final BomJsonGenerator parallel = new BomJsonGenerator(bom, version);
+        parallel.setParallelSerialization(ForkJoinPool.commonPool());
+        assertEquals(expected, parallel.toJsonString(prettyPrint));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parallel.write(out, prettyPrint);
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8.name()));
+        assertSame(components, bom.getComponents());
+    }
+
+    @Test
+    public void testParallelSerializationDoesNotModifyBom() throws Exception {
+        final Bom bom = createCommonJsonBom("/bom-1.5.json");
+        final Component template = bom.getComponents().get(0);
+        for (int i = 0; i < 500; i++) {
+            bom.addComponent(template);
+        }
+        final List<Object> seen = new ArrayList<>();
+        // The metadata is serialized after the elements have been serialized in parallel, and before they are written
+        final Metadata metadata = new Metadata() {
+            @Override
+            public Date getTimestamp() {
+                seen.add(bom.getComponents().get(0));
+                return super.getTimestamp();
+            }
+        };
+        metadata.setTimestamp(new Date());
+        bom.setMetadata(metadata);
+
+        final BomJsonGenerator generator = new BomJsonGenerator(bom, Version.VERSION_15);
+        generator.setParallelSerialization(ForkJoinPool.commonPool());
+        generator.toJsonString();
+        assertFalse(seen.isEmpty());
+        for (final Object element : seen) {
+            assertSame(template, element);
+        }
+    }
+
+    static Stream<Arguments> testParallelSerializationArguments() {
+        return Stream.of(
+            Arguments.of(Version.VERSION_15, true),
+            Arguments.of(Version.VERSION_15, false),
+            Arguments.of(Version.VERSION_13, true));
+    }
+
+    private static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
     private void assertExternalReferenceInfo(Bom bom) {
         assertEquals(3, bom.getExternalReferences().size());
         assertEquals(3, bom.getComponents().get(0).getExternalReferences().size());
@@ -20,17 +20,30 @@ package org.cyclonedx;
 
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.parsers.BomParserFactory;
+import org.cyclonedx.parsers.FormatDetection;
+import org.cyclonedx.parsers.FormatDetection.Confidence;
 import org.cyclonedx.parsers.JsonParser;
 import org.cyclonedx.parsers.Parser;
+import org.cyclonedx.parsers.ProtobufParser;
 import org.cyclonedx.parsers.XmlParser;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BomParserFactoryTest {
 
@@ -72,6 +85,16 @@ public class BomParserFactoryTest {
         assertInstanceOf(JsonParser.class, BomParserFactory.createParser(json));
     }
 
+    @Test
+    public void testFactoryWithLeadingLineFeed() throws Exception {
+        final byte[] json = "\n{\"bomFormat\": \"CycloneDX\", \"specVersion\": \"1.6\"}".getBytes(StandardCharsets.UTF_8);
+        final byte[] xml = "\n<bom xmlns=\"http://cyclonedx.org/schema/bom/1.6\"/>".getBytes(StandardCharsets.UTF_8);
+        assertInstanceOf(JsonParser.class, BomParserFactory.createParser(json));
+        assertInstanceOf(XmlParser.class, BomParserFactory.createParser(xml));
+        assertThrows(ParseException.class, () -> BomParserFactory.createParser("\nname,version".getBytes(StandardCharsets.UTF_8)));
+        assertInstanceOf(ProtobufParser.class, BomParserFactory.createParser(new byte[] {0x0A, 0x03, '1', '.', '6'}));
+    }
+
     @Test()
     public void testFactoryThrowsParseExceptionWithEmptyData() {
         byte[] emptyData = new byte[]{};
@@ -79,4 +102,93 @@ public class BomParserFactoryTest {
             BomParserFactory.createParser(emptyData)
         );
     }
+
+    @Test
+    public void testDetectFromPath() throws Exception {
+        assertDetection(Format.XML, Version.VERSION_12, Confidence.HIGH, BomParserFactory.detect(resource("/bom-1.2-utf8bom.xml")));
+        assertDetection(Format.JSON, Version.VERSION_12, Confidence.HIGH, BomParserFactory.detect(resource("/bom-1.2-utf8bom.json")));
+        assertDetection(Format.XML, Version.VERSION_10, Confidence.HIGH, BomParserFactory.detect(resource("/bom-1.0.xml")));
+        assertDetection(Format.JSON, Version.VERSION_16, Confidence.HIGH, BomParserFactory.detect(resource("/1.6/valid-bom-1.6.json")));
+        assertDetection(Format.XML, Version.VERSION_16, Confidence.HIGH, BomParserFactory.detect(resource("/1.6/valid-bom-1.6.xml")));
+    }
+
+    @Test
+    public void testDetectFromStreamResetsStream() throws Exception {
+        byte[] bytes = Files.readAllBytes(resource("/bom-1.5.json"));
+        try (InputStream inputStream = new BufferedInputStream(new ByteArrayInputStream(bytes))) {
+            assertDetection(Format.JSON, Version.VERSION_15, Confidence.HIGH, BomParserFactory.detect(inputStream));
+            assertArrayEquals(bytes, inputStream.readAllBytes());
+        }
+        assertThrows(IllegalArgumentException.class, () -> BomParserFactory.detect(new NoMarkInputStream(bytes)));
+    }
+
+    @Test
+    public void testDetectInspectsPrefixOnly() {
+        StringBuilder json = new StringBuilder("{\"specVersion\": \"1.5\", \"bomFormat\": \"CycloneDX\", \"components\": [");
+        while (json.length() < 100_000) {
+            json.append("{\"type\": \"library\", \"name\": \"acme\"},");
+        }
+        assertDetection(Format.JSON, Version.VERSION_15, Confidence.HIGH, detect(json.toString()));
+
+        // the properties follow a value larger than the inspected prefix
+        String late = "{\"components\": [" + json.substring(json.indexOf("[") + 1, json.length() - 1)
+                + "], \"bomFormat\": \"CycloneDX\"}";
+        assertDetection(Format.JSON, null, Confidence.LOW, detect(late));
+    }
+
+    @Test
+    public void testDetectConfidence() {
+        assertDetection(Format.JSON, null, Confidence.MEDIUM, detect("{\"bomFormat\": \"CycloneDX\"}"));
+        assertDetection(Format.JSON, null, Confidence.MEDIUM, detect("{\"bomFormat\": \"CycloneDX\", \"specVersion\": \"1.1\"}"));
+        assertDetection(Format.JSON, null, Confidence.LOW, detect("{\"nested\": {\"bomFormat\": \"CycloneDX\"}}"));
+        assertDetection(Format.JSON, null, Confidence.LOW, detect("{\"bomFormat\": \"SPDX\", \"specVersion\": \"1.6\"}"));
+        assertDetection(Format.XML, Version.VERSION_16, Confidence.HIGH,
+                detect("<!-- <bom> --><cdx:bom xmlns:cdx=\"http://cyclonedx.org/schema/bom/1.6\"/>"));
+        assertDetection(Format.XML, null, Confidence.MEDIUM, detect("<bom xmlns='http://cyclonedx.org/schema/bom/9.9'/>"));
+        assertDetection(Format.XML, null, Confidence.LOW, detect("<?xml version=\"1.0\"?><bomb xmlns=\"http://cyclonedx.org/schema/bom/1.6\"/>"));
+        assertDetection(Format.XML, null, Confidence.LOW, detect("<bom/>"));
+        assertDetection(Format.PROTOBUF, Version.VERSION_16, Confidence.HIGH, BomParserFactory.detect(new byte[] {0x0A, 0x03, '1', '.', '6'}));
+        assertDetection(Format.PROTOBUF, null, Confidence.LOW, BomParserFactory.detect(new byte[] {0x0A, 0x03, '1', '.', '2'}));
+        assertDetection(null, null, Confidence.NONE, detect("name,version"));
+        assertDetection(Format.JSON, Version.VERSION_16, Confidence.HIGH, detect("\n{\"bomFormat\": \"CycloneDX\", \"specVersion\": \"1.6\"}"));
+        assertDetection(null, null, Confidence.NONE, detect("\n\n"));
+        assertDetection(null, null, Confidence.NONE, BomParserFactory.detect(new byte[0]));
+    }
+
+    @Test
+    public void testLooksLikeCycloneDX() throws Exception {
+        assertTrue(BomParserFactory.looksLikeCycloneDX(Files.readAllBytes(resource("/bom-1.2-utf8bom.xml"))));
+        assertTrue(BomParserFactory.looksLikeCycloneDX(Files.readAllBytes(resource("/bom-1.5.json"))));
+        assertFalse(BomParserFactory.looksLikeCycloneDX("{\"name\": \"CycloneDX\"}".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(BomParserFactory.looksLikeCycloneDX("<project/>".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static FormatDetection detect(String document) {
+        return BomParserFactory.detect(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertDetection(Format format, Version version, Confidence confidence, FormatDetection detection) {
+        assertEquals(format, detection.getFormat(), detection::toString);
+        if (version == null) {
+            assertNull(detection.getVersion(), detection::toString);
+        } else {
+            assertEquals(version, detection.getVersion(), detection::toString);
+        }
+        assertEquals(confidence, detection.getConfidence(), detection::toString);
+    }
+
+    private static Path resource(String name) {
+        return new File(requireNonNull(BomParserFactory.class.getResource(name)).getFile()).toPath();
+    }
+
+    private static class NoMarkInputStream extends ByteArrayInputStream {
+        NoMarkInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,239 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx;
+
+import org.cyclonedx.generators.BomStreamWriter;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.generators.xml.BomXmlGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+import org.cyclonedx.parsers.JsonParser;
+import org.cyclonedx.parsers.XmlParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.cyclonedx.TestComponents.library;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BomStreamWriterTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "/bom-1.5.json, VERSION_15, JSON, true",
+            "/bom-1.5.json, VERSION_14, JSON, false",
+            "/bom-1.5.xml, VERSION_15, XML, true",
+            "/bom-1.5.xml, VERSION_11, XML, false",
+            "/bom-1.4.xml, VERSION_14, XML, true"
+    })
+    public void testOutputMatchesGenerator(final String resource, final Version version, final Format format,
+                                           final boolean prettyPrint) throws Exception {
+        final Bom bom = parse(resource, format);
+        final String expected = generate(bom, version, format, prettyPrint);
+
+        final Bom header = withTimestampOf(parse(resource, format), bom);
+        assertEquals(expected, streamWrite(header, version, format, prettyPrint));
+        assertNull(header.getComponents());
+    }
+
+    static Stream<Arguments> validBoms() {
+        return Stream.of(Version.VERSION_14, Version.VERSION_15, Version.VERSION_16, Version.VERSION_17)
+                .flatMap(version -> {
+                    final File directory = new File(Objects.requireNonNull(
+                            BomStreamWriterTest.class.getResource("/" + version.getVersionString())).getFile());
+                    return Arrays.stream(Objects.requireNonNull(directory.listFiles(
+                            (dir, name) -> name.startsWith("valid-") && (name.endsWith(".json") || name.endsWith(".xml")))))
+                            .sorted()
+                            .map(file -> Arguments.of(version, file));
+                });
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("validBoms")
+    public void testOutputMatchesGeneratorForValidBoms(final Version version, final File file) throws Exception {
+        final Format format = file.getName().endsWith(".xml") ? Format.XML : Format.JSON;
+        final Bom bom = parse(file, format);
+        final String expected = generate(bom, version, format, true);
+
+        assertEquals(expected, streamWrite(withTimestampOf(parse(file, format), bom), version, format, true));
+    }
+
+    /**
+     * Moves the components, services, dependencies and vulnerabilities of a BOM to a writer, in an order
+     * interleaving them as a producer would, and returns the document.
+     */
+    private static String streamWrite(final Bom header, final Version version, final Format format,
+                                      final boolean prettyPrint) throws Exception {
+        final List<Component> components = header.getComponents();
+        final List<Service> services = header.getServices();
+        final List<Dependency> dependencies = header.getDependencies();
+        final List<Vulnerability> vulnerabilities = header.getVulnerabilities();
+        header.setComponents(null);
+        header.setServices(null);
+        header.setVulnerabilities(null);
+        removeDependencies(header);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BomStreamWriter writer = new BomStreamWriter(out, header, version, format, prettyPrint)) {
+            final int max = Math.max(Math.max(size(components), size(services)),
+                    Math.max(size(dependencies), size(vulnerabilities)));
+            for (int i = max - 1; i >= 0; i--) {
+                if (i < size(vulnerabilities)) {
+                    writer.writeVulnerability(vulnerabilities.get(size(vulnerabilities) - 1 - i));
+                }
+                if (i < size(dependencies)) {
+                    writer.writeDependency(dependencies.get(size(dependencies) - 1 - i));
+                }
+                if (i < size(services)) {
+                    writer.writeService(services.get(size(services) - 1 - i));
+                }
+                if (i < size(components)) {
+                    writer.writeComponent(components.get(size(components) - 1 - i));
+                }
+            }
+            writer.finish();
+        }
+        return out.toString(StandardCharsets.UTF_8.name());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"JSON, true", "JSON, false", "XML, true", "XML, false"})
+    public void testManyElementsMatchGenerator(final Format format, final boolean prettyPrint) throws Exception {
+        final Bom bom = new Bom();
+        for (int i = 0; i < 2000; i++) {
+            final Component component = library("component-" + i);
+            component.setBomRef("ref-" + i);
+            bom.addComponent(component);
+            final Dependency dependency = new Dependency("ref-" + i);
+            dependency.addDependency(new Dependency("ref-" + (i + 1) % 2000));
+            bom.addDependency(dependency);
+        }
+        final String expected = generate(bom, Version.VERSION_16, format, prettyPrint);
+
+        // Keep some of the elements in the header
+        final Bom header = new Bom();
+        header.setComponents(new ArrayList<>(bom.getComponents().subList(0, 10)));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BomStreamWriter writer = new BomStreamWriter(out, header, Version.VERSION_16, format, prettyPrint)) {
+            for (final Component component : bom.getComponents().subList(10, 2000)) {
+                writer.writeComponent(component);
+            }
+            for (final Dependency dependency : bom.getDependencies()) {
+                writer.writeDependency(dependency);
+            }
+            writer.finish();
+        }
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    public void testHeaderElementsPrecedeWrittenElements() throws Exception {
+        final Bom header = new Bom();
+        header.addComponent(library("a"));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BomStreamWriter writer = new BomStreamWriter(out, header, Version.VERSION_16, Format.JSON)) {
+            writer.writeComponent(library("b"));
+            writer.writeComponent(library("c"));
+            writer.finish();
+        }
+
+        final Bom bom = new JsonParser().parse(out.toByteArray());
+        assertEquals(3, bom.getComponents().size());
+        assertEquals("a", bom.getComponents().get(0).getName());
+        assertEquals("c", bom.getComponents().get(2).getName());
+        assertEquals(1, header.getComponents().size());
+        // The document is written for a copy of the header
+        assertNull(header.getBomFormat());
+        assertNull(header.getSpecVersion());
+    }
+
+    @Test
+    public void testFinishedWriterRejectsElements() throws Exception {
+        final BomStreamWriter writer = new BomStreamWriter(new ByteArrayOutputStream(), new Bom(), Version.VERSION_16, Format.XML);
+        writer.writeComponent(library("a"));
+        writer.finish();
+        assertThrows(IllegalStateException.class, () -> writer.writeComponent(library("b")));
+        assertThrows(IllegalStateException.class, writer::finish);
+    }
+
+    @Test
+    public void testUnsupportedFormat() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BomStreamWriter(new ByteArrayOutputStream(), new Bom(), Version.VERSION_16, Format.PROTOBUF));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BomStreamWriter(new ByteArrayOutputStream(), new Bom(), Version.VERSION_10, Format.JSON));
+    }
+
+    private static void removeDependencies(final Bom bom) throws Exception {
+        // The setter does not accept null
+        final java.lang.reflect.Field field = Bom.class.getDeclaredField("dependencies");
+        field.setAccessible(true);
+        field.set(bom, null);
+    }
+
+    /**
+     * Gives a BOM parsed again the metadata timestamp of the first parse, as metadata without a timestamp gets
+     * the time of the parse.
+     */
+    private static Bom withTimestampOf(final Bom bom, final Bom parsed) {
+        if (bom.getMetadata() != null) {
+            bom.getMetadata().setTimestamp(parsed.getMetadata().getTimestamp());
+        }
+        return bom;
+    }
+
+    private static int size(final List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+
+    private Bom parse(final String resource, final Format format) throws Exception {
+        return parse(new File(Objects.requireNonNull(getClass().getResource(resource)).getFile()), format);
+    }
+
+    private static Bom parse(final File file, final Format format) throws Exception {
+        return format == Format.XML ? new XmlParser().parse(file) : new JsonParser().parse(file);
+    }
+
+    private static String generate(final Bom bom, final Version version, final Format format,
+                                   final boolean prettyPrint) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (format == Format.XML) {
+            new BomXmlGenerator(bom, version).write(out, prettyPrint);
+        } else {
+            new BomJsonGenerator(bom, version).write(out, prettyPrint);
+        }
+        return out.toString(StandardCharsets.UTF_8.name());
+    }
+}
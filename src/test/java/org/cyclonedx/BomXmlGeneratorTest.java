@@ -43,10 +43,14 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -56,6 +60,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Stream;
+import javax.xml.parsers.DocumentBuilderFactory;
 
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -758,7 +763,7 @@ public class BomXmlGeneratorTest {
     public void testXxeProtection() {
         assertThatExceptionOfType(ParseException.class)
                 .isThrownBy(() -> createCommonBomXml("/security/xxe-protection.xml"))
-                .withMessageContaining("not allowed due to restriction set by the accessExternalDTD property");
+                .withMessageContaining("DOCTYPE");
     }
 
     @Test
@@ -1230,6 +1235,59 @@ public class BomXmlGeneratorTest {
         return tempFile;
     }
 
+    @Test
+    public void testWriteMatchesToXmlString() throws Exception {
+        Bom bom = createCommonBomXml("/1.6/valid-bom-1.6.xml");
+        BomXmlGenerator generator = BomGeneratorFactory.createXml(Version.VERSION_16, bom);
+
+        for (boolean prettyPrint : new boolean[] {true, false}) {
+            String expected = generator.toXmlString(prettyPrint);
+
+            CloseTrackingOutputStream out = new CloseTrackingOutputStream();
+            generator.write(out, prettyPrint);
+            assertFalse(out.closed);
+            assertEquals(expected, out.toString(StandardCharsets.UTF_8.name()));
+
+            StringWriter writer = new StringWriter();
+            generator.write(writer, prettyPrint);
+            assertEquals(expected, writer.toString());
+
+            generator.write(tempFile.toPath(), prettyPrint);
+            assertEquals(expected, new String(Files.readAllBytes(tempFile.toPath()), StandardCharsets.UTF_8));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("documentTestCases")
+    public void testGenerateMatchesParsedXmlString(String resource, Version version) throws Exception {
+        Bom bom = createCommonBomXml(resource);
+        BomXmlGenerator generator = BomGeneratorFactory.createXml(version, bom);
+
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document expected = factory.newDocumentBuilder()
+                .parse(new InputSource(new StringReader(generator.toXmlString(false))));
+        Document actual = generator.generate();
+
+        assertTrue(expected.getDocumentElement().isEqualNode(actual.getDocumentElement()));
+    }
+
+    static Stream<Arguments> documentTestCases() {
+        return Stream.of(
+                Arguments.of("/bom-1.1-dependency-graph-1.0.xml", Version.VERSION_11),
+                Arguments.of("/1.4/valid-release-notes-1.4.xml", Version.VERSION_14),
+                Arguments.of("/1.6/valid-bom-1.6.xml", Version.VERSION_16));
+    }
+
+    private static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
     private Bom createCommonBomXml(String resource) throws Exception {
         final byte[] bomBytes = Objects.requireNonNull(this.getClass().getResourceAsStream(resource)).readAllBytes();
         XmlParser parser = new XmlParser();
@@ -0,0 +1,58 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx;
+
+import org.cyclonedx.model.Component;
+
+/**
+ * Creates the library components used as fixtures by the tests.
+ */
+public final class TestComponents {
+
+    private TestComponents() {
+    }
+
+    /**
+     * Returns a library with the specified name.
+     */
+    public static Component library(final String name) {
+        return library(null, name, null, null);
+    }
+
+    /**
+     * Returns a library with the specified properties, any of which may be null.
+     */
+    public static Component library(final String bomRef, final String name, final String version, final String purl) {
+        final Component component = new Component();
+        component.setType(Component.Type.LIBRARY);
+        component.setBomRef(bomRef);
+        component.setName(name);
+        component.setVersion(version);
+        component.setPurl(purl);
+        return component;
+    }
+
+    /**
+     * Returns an npm library, whose bom-ref is its purl.
+     */
+    public static Component npm(final String name, final String version) {
+        final String purl = "pkg:npm/" + name + "@" + version;
+        return library(purl, name, version, purl);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.model;
+
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.parsers.JsonParser;
+import org.cyclonedx.util.Fingerprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BomFreezeTest {
+
+    private static Bom parse() throws Exception {
+        return new JsonParser().parse(BomFreezeTest.class.getResourceAsStream("/bom-1.5.json").readAllBytes());
+    }
+
+    @Test
+    void shouldRejectModifications() throws Exception {
+        final Bom bom = parse();
+        final Component parent = bom.getComponents().get(0);
+        parent.addComponent(new Component());
+        bom.freeze();
+
+        assertThat(bom.isFrozen()).isTrue();
+        assertThatThrownBy(() -> bom.getComponents().add(new Component()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> parent.getComponents().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> bom.getDependencies().add(new Dependency("ref")))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> bom.getDependencies().get(0).getDependencies().remove(0))
+                .isInstanceOf(UnsupportedOperationException.class);
+        final Iterator<Dependency> iterator = bom.getDependencies().iterator();
+        iterator.next();
+        assertThatThrownBy(iterator::remove).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> bom.getDependencies().subList(0, 1).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> bom.getMetadata().getAuthors().add(new OrganizationalContact()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(bom.getDependencies()).isInstanceOf(DependencyList.class);
+    }
+
+    @Test
+    void shouldPrecomputeHashCodesAndIndexes() throws Exception {
+        final Bom bom = parse();
+        final int hashCode = bom.hashCode();
+        final List<Integer> componentHashCodes = new ArrayList<>();
+        final List<Fingerprint> fingerprints = new ArrayList<>();
+        for (final Component component : bom.getComponents()) {
+            componentHashCodes.add(component.hashCode());
+            fingerprints.add(Fingerprint.ofTree(component));
+        }
+        bom.freeze();
+
+        assertThat(bom.hashCode()).isEqualTo(hashCode);
+        assertThat(bom).isEqualTo(bom);
+        for (int i = 0; i < bom.getComponents().size(); i++) {
+            final Component component = bom.getComponents().get(i);
+            assertThat(component.hashCode()).isEqualTo(componentHashCodes.get(i));
+            assertThat(component.getFingerprint()).isSameAs(component.getFingerprint()).isEqualTo(fingerprints.get(i));
+            assertThat(component).isEqualTo(component);
+        }
+        assertThat(bom.getIndex()).isNotNull();
+        assertThat(bom.getIndex().getComponent(bom.getComponents().get(0).getBomRef()))
+                .isSameAs(bom.getComponents().get(0));
+        assertThat(bom.freeze()).isSameAs(bom);
+    }
+
+    @Test
+    void shouldSerializeWithoutModification() throws Exception {
+        final String json = BomGeneratorFactory.createJson(Version.VERSION_15, parse()).toJsonString();
+        final String xml = BomGeneratorFactory.createXml(Version.VERSION_15, parse()).toXmlString();
+        final Bom bom = parse().freeze();
+        final List<Component> components = bom.getComponents();
+
+        final BomJsonGenerator generator = BomGeneratorFactory.createJson(Version.VERSION_15, bom);
+        generator.setParallelSerialization(ForkJoinPool.commonPool());
+        assertThat(generator.toJsonString()).isEqualTo(json);
+        assertThat(BomGeneratorFactory.createXml(Version.VERSION_15, bom).toXmlString()).isEqualTo(xml);
+        BomGeneratorFactory.createJson(Version.VERSION_14, bom).toJsonString();
+        assertThat(bom.getSpecVersion()).isEqualTo("1.5");
+        assertThat(bom.getXmlns()).isNull();
+        assertThat(bom.getComponents()).isSameAs(components);
+    }
+
+    @Test
+    void shouldBeSharedByConcurrentGenerators() throws Exception {
+        final Bom bom = parse().freeze();
+        final Version[] versions = {Version.VERSION_14, Version.VERSION_15, Version.VERSION_16};
+        final List<String> expected = new ArrayList<>();
+        for (final Version version : versions) {
+            expected.add(BomGeneratorFactory.createJson(version, parse()).toJsonString());
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 24; i++) {
+                final Version version = versions[i % versions.length];
+                results.add(executor.submit(() -> BomGeneratorFactory.createJson(version, bom).toJsonString()));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).isEqualTo(expected.get(i % versions.length));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
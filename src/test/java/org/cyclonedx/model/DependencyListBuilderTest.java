@@ -0,0 +1,121 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.model;
+
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyListBuilderTest {
+
+    @Test
+    void shouldSerializeLikeAddedDependencies() throws Exception {
+        final Bom added = new Bom();
+        final Dependency app = new Dependency("app");
+        app.addDependency(new Dependency("lib"));
+        app.addDependency(new Dependency("util"));
+        app.addDependency(new Dependency("lib"));
+        final Dependency lib = new Dependency("lib");
+        lib.addDependency(new Dependency("core"));
+        added.addDependency(app);
+        added.addDependency(lib);
+        added.addDependency(new Dependency("core"));
+
+        final Bom built = new Bom();
+        built.setDependencies(new DependencyListBuilder()
+                .addDependency("app", "lib")
+                .addDependencies("app", Arrays.asList("util", "lib"))
+                .addDependency("lib", "core")
+                .addRef("core")
+                .addRef("app")
+                .build());
+
+        assertThat(BomGeneratorFactory.createJson(Version.VERSION_16, built).toJsonString())
+                .isEqualTo(BomGeneratorFactory.createJson(Version.VERSION_16, added).toJsonString());
+        assertThat(BomGeneratorFactory.createXml(Version.VERSION_16, built).toXmlString())
+                .isEqualTo(BomGeneratorFactory.createXml(Version.VERSION_16, added).toXmlString());
+    }
+
+    @Test
+    void shouldBuildIndependentLists() {
+        final DependencyListBuilder builder = new DependencyListBuilder().addDependency("app", "lib");
+        final DependencyList first = builder.build();
+        builder.addDependency("app", "core");
+
+        assertThat(builder.size()).isEqualTo(1);
+        assertThat(first.get(0).getDependencies()).extracting(Dependency::getRef).containsExactly("lib");
+        assertThat(builder.build().get(0).getDependencies()).extracting(Dependency::getRef)
+                .containsExactly("lib", "core");
+        assertThat(new DependencyListBuilder().addRef("leaf").build().get(0).getDependencies()).isNull();
+    }
+
+    @Test
+    void shouldIgnoreDuplicatesAfterListChanges() {
+        final Dependency dependency = new Dependency("app");
+        dependency.addDependency(new Dependency("a"));
+        dependency.getDependencies().add(new Dependency("b"));
+        dependency.addDependency(new Dependency("b"));
+        assertThat(dependency.getDependencies()).extracting(Dependency::getRef).containsExactly("a", "b");
+
+        dependency.setDependencies(new ArrayList<>(List.of(new Dependency("c"))));
+        dependency.addDependency(new Dependency("a"));
+        dependency.addDependency(new Dependency("c"));
+        assertThat(dependency.getDependencies()).extracting(Dependency::getRef).containsExactly("c", "a");
+
+        dependency.getDependencies().remove(0);
+        dependency.addDependency(new Dependency("c"));
+        assertThat(dependency.getDependencies()).extracting(Dependency::getRef).containsExactly("a", "c");
+    }
+
+    @Test
+    void shouldIgnoreDuplicatesAfterChangesKeepingTheSize() {
+        final Dependency replaced = new Dependency("app");
+        replaced.addDependency(new Dependency("a"));
+        replaced.getDependencies().set(0, new Dependency("b"));
+        replaced.addDependency(new Dependency("a"));
+        assertThat(replaced.getDependencies()).extracting(Dependency::getRef).containsExactly("b", "a");
+
+        final Dependency readded = new Dependency("app");
+        readded.addDependency(new Dependency("a"));
+        readded.getDependencies().remove(0);
+        readded.getDependencies().add(new Dependency("x"));
+        readded.addDependency(new Dependency("x"));
+        assertThat(readded.getDependencies()).extracting(Dependency::getRef).containsExactly("x");
+
+        final Dependency iterated = new Dependency("app");
+        iterated.addDependency(new Dependency("a"));
+        iterated.addDependency(new Dependency("b"));
+        final ListIterator<Dependency> iterator = iterated.getDependencies().listIterator();
+        iterator.next();
+        iterator.set(new Dependency("c"));
+        iterated.getDependencies().subList(1, 2).clear();
+        iterated.getDependencies().removeIf(d -> d.getRef().equals("c"));
+        iterated.addDependency(new Dependency("b"));
+        iterated.addDependency(new Dependency("a"));
+        iterated.addDependency(new Dependency("b"));
+        assertThat(iterated.getDependencies()).extracting(Dependency::getRef).containsExactly("b", "a");
+    }
+}
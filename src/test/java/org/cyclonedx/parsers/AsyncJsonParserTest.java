@@ -0,0 +1,202 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncJsonParserTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 4096})
+    public void testChunkedParseMatchesJsonParser(final int chunkSize) throws Exception {
+        final byte[] bytes = readResource("/bom-1.5.json");
+        final List<Component> streamed = new ArrayList<>();
+        final AsyncJsonParser parser = new AsyncJsonParser(ParseOptions.DEFAULT, streamed::add);
+        final ByteBuffer chunk = ByteBuffer.allocate(chunkSize);
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            chunk.clear();
+            chunk.put(bytes, offset, Math.min(chunkSize, bytes.length - offset));
+            chunk.flip();
+            parser.feed(chunk);
+            assertFalse(chunk.hasRemaining());
+        }
+        assertFalse(parser.getResult().isDone());
+        parser.endOfInput();
+
+        final Bom bom = parser.getResult().get();
+        final Bom expected = new JsonParser().parse(bytes);
+        assertEquals(toJson(expected), toJson(bom));
+        assertEquals(expected.getComponents().size(), streamed.size());
+        assertEquals(bom.getComponents(), streamed);
+    }
+
+    @Test
+    public void testComponentsAreEmittedBeforeEndOfInput() throws Exception {
+        final String json = "{\"bomFormat\":\"CycloneDX\",\"specVersion\":\"1.5\",\"version\":1,"
+                + "\"components\":[{\"type\":\"library\",\"name\":\"a\"},{\"type\":\"library\",\"name\":\"b\"}],"
+                + "\"metadata\":{\"timestamp\":\"2024-01-01T00:00:00Z\"}}";
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        final int split = json.indexOf(",\"metadata\"");
+        final List<String> names = new ArrayList<>();
+        final AsyncJsonParser parser = new AsyncJsonParser(ParseOptions.DEFAULT, c -> names.add(c.getName()));
+
+        parser.feed(bytes, 0, split);
+        assertEquals(List.of("a", "b"), names);
+        parser.feed(bytes, split, bytes.length - split);
+        parser.endOfInput();
+
+        final Bom bom = parser.getResult().get();
+        assertEquals(2, bom.getComponents().size());
+        assertEquals("b", bom.getComponents().get(1).getName());
+        assertEquals(1704067200000L, bom.getMetadata().getTimestamp().getTime());
+    }
+
+    @Test
+    public void testProjection() throws Exception {
+        final byte[] bytes = readResource("/bom-1.5.json");
+        final AsyncJsonParser parser = new AsyncJsonParser(
+                ParseOptions.DEFAULT.withIncludedPaths("components.bom-ref", "dependencies"));
+        parser.feed(ByteBuffer.wrap(bytes));
+        parser.endOfInput();
+
+        final Bom bom = parser.getResult().get();
+        assertNull(bom.getMetadata());
+        assertNull(bom.getServices());
+        assertFalse(bom.getComponents().isEmpty());
+        for (final Component component : bom.getComponents()) {
+            assertNull(component.getName());
+        }
+        assertFalse(bom.getDependencies().isEmpty());
+    }
+
+    @Test
+    public void testTruncatedInputFails() throws Exception {
+        final byte[] bytes = readResource("/bom-1.5.json");
+        final AsyncJsonParser parser = new AsyncJsonParser();
+        parser.feed(bytes, 0, bytes.length / 2);
+
+        assertThrows(ParseException.class, parser::endOfInput);
+        assertTrue(parser.getResult().isCompletedExceptionally());
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> parser.getResult().get());
+        assertInstanceOf(ParseException.class, e.getCause());
+    }
+
+    @Test
+    public void testMalformedInputFails() throws Exception {
+        final AsyncJsonParser parser = new AsyncJsonParser();
+        final byte[] bytes = "{\"components\":[{\"name\":}]}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(ParseException.class, () -> parser.feed(bytes, 0, bytes.length));
+        assertTrue(parser.getResult().isCompletedExceptionally());
+    }
+
+    @Test
+    public void testNonObjectFails() throws Exception {
+        final AsyncJsonParser parser = new AsyncJsonParser();
+        final byte[] bytes = "[]".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(ParseException.class, () -> parser.feed(bytes, 0, bytes.length));
+        assertTrue(parser.getResult().isCompletedExceptionally());
+    }
+
+    @Test
+    public void testNonObjectComponentsMatchJsonParser() throws Exception {
+        final String components = "{\"bomFormat\":\"CycloneDX\",\"specVersion\":\"1.5\",\"components\":[%s],\"metadata\":{}}";
+        final byte[] withNull = String.format(components, "{\"name\":\"a\"},null,{\"name\":\"b\"}").getBytes(StandardCharsets.UTF_8);
+        final List<Component> emitted = new ArrayList<>();
+        final AsyncJsonParser parser = new AsyncJsonParser(ParseOptions.DEFAULT, emitted::add);
+        parser.feed(withNull, 0, withNull.length);
+        parser.endOfInput();
+        final Bom bom = parser.getResult().get();
+        assertEquals(new JsonParser().parse(withNull).getComponents(), bom.getComponents());
+        assertNull(bom.getComponents().get(1));
+        assertEquals(2, emitted.size());
+        assertNotNull(bom.getMetadata());
+
+        for (final String entry : new String[] {"1", "\"a\"", "[]", "[{\"name\":\"a\"}]"}) {
+            final byte[] bytes = String.format(components, "{\"name\":\"a\"}," + entry).getBytes(StandardCharsets.UTF_8);
+            assertThrows(ParseException.class, () -> new JsonParser().parse(bytes));
+            final AsyncJsonParser rejecting = new AsyncJsonParser();
+            assertThrows(ParseException.class, () -> {
+                rejecting.feed(bytes, 0, bytes.length);
+                rejecting.endOfInput();
+            }, entry);
+            assertTrue(rejecting.getResult().isCompletedExceptionally());
+        }
+    }
+
+    @Test
+    public void testTrailingWhitespaceInLaterChunks() throws Exception {
+        final byte[] bytes = "{\"bomFormat\":\"CycloneDX\",\"specVersion\":\"1.5\",\"version\":1}\n"
+                .getBytes(StandardCharsets.UTF_8);
+        final AsyncJsonParser parser = new AsyncJsonParser();
+        parser.feed(bytes, 0, bytes.length);
+        for (final String trailing : new String[] {" \n", "\n"}) {
+            final byte[] chunk = trailing.getBytes(StandardCharsets.UTF_8);
+            parser.feed(chunk, 0, chunk.length);
+        }
+        parser.endOfInput();
+        assertEquals("1.5", parser.getResult().get().getSpecVersion());
+    }
+
+    @Test
+    public void testTrailingContentFails() throws Exception {
+        final byte[] bytes = "{\"bomFormat\":\"CycloneDX\",\"specVersion\":\"1.5\"}\n".getBytes(StandardCharsets.UTF_8);
+        final byte[] trailing = " {}".getBytes(StandardCharsets.UTF_8);
+        final AsyncJsonParser parser = new AsyncJsonParser();
+        parser.feed(bytes, 0, bytes.length);
+
+        assertThrows(ParseException.class, () -> parser.feed(trailing, 0, trailing.length));
+        assertTrue(parser.getResult().isCompletedExceptionally());
+    }
+
+    private byte[] readResource(final String resource) throws Exception {
+        try (InputStream in = Objects.requireNonNull(getClass().getResourceAsStream(resource))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String toJson(final Bom bom) throws Exception {
+        return new BomJsonGenerator(bom, Version.VERSION_15).toJsonString();
+    }
+}
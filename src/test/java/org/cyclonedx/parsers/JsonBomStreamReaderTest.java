@@ -0,0 +1,116 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonBomStreamReaderTest {
+
+    @Test
+    public void testStreamMatchesFullParse() throws Exception {
+        final File file = new File(Objects.requireNonNull(this.getClass().getResource("/bom-1.5.json")).getFile());
+        final Bom bom = new JsonParser().parse(file);
+
+        final Bom streamed = new Bom();
+        int metadataCount = 0;
+        try (BomStreamReader reader = new JsonBomStreamReader(file)) {
+            BomStreamReader.Element element;
+            while ((element = reader.next()) != null) {
+                switch (element) {
+                    case METADATA: metadataCount++; streamed.setMetadata(reader.getMetadata()); break;
+                    case COMPONENT: streamed.addComponent(reader.getComponent()); break;
+                    case SERVICE: streamed.addService(reader.getService()); break;
+                    case DEPENDENCY: streamed.addDependency(reader.getDependency()); break;
+                    case VULNERABILITY: streamed.setVulnerabilities(add(streamed.getVulnerabilities(), reader.getVulnerability())); break;
+                }
+            }
+            assertEquals(1, metadataCount);
+            assertEquals("1.5", reader.getSpecVersion());
+            assertEquals(bom.getSerialNumber(), reader.getSerialNumber());
+            assertEquals(bom.getVersion(), reader.getVersion());
+            assertNull(reader.getValue());
+        }
+
+        final Bom expected = new Bom();
+        expected.setMetadata(bom.getMetadata());
+        expected.setComponents(bom.getComponents());
+        expected.setServices(bom.getServices());
+        expected.setDependencies(bom.getDependencies());
+        expected.setVulnerabilities(bom.getVulnerabilities());
+
+        assertEquals(bom.getComponents().size(), streamed.getComponents().size());
+        assertEquals(bom.getDependencies(), streamed.getDependencies());
+        assertEquals(
+                new BomJsonGenerator(expected, Version.VERSION_15).toJsonString(),
+                new BomJsonGenerator(streamed, Version.VERSION_15).toJsonString());
+    }
+
+    private static List<Vulnerability> add(final List<Vulnerability> vulnerabilities, final Vulnerability vulnerability) {
+        final List<Vulnerability> result = vulnerabilities == null ? new ArrayList<>() : vulnerabilities;
+        result.add(vulnerability);
+        return result;
+    }
+
+    @Test
+    public void testSkipsUnrelatedSectionsAndNulls() throws Exception {
+        final String json = /* language=JSON */ """
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.6",
+                  "externalReferences": [{"type": "website", "url": "https://example.com"}],
+                  "components": [null, {"type": "library", "name": "a", "bom-ref": "a"}],
+                  "compositions": [{"aggregate": "complete"}],
+                  "dependencies": [{"ref": "a", "dependsOn": ["b"]}]
+                }
+                """;
+        try (BomStreamReader reader = new JsonBomStreamReader(json.getBytes(StandardCharsets.UTF_8))) {
+            assertEquals(BomStreamReader.Element.COMPONENT, reader.next());
+            assertEquals("a", reader.getComponent().getBomRef());
+            assertNull(reader.getDependency());
+            assertEquals(BomStreamReader.Element.DEPENDENCY, reader.next());
+            assertEquals("b", reader.getDependency().getDependencies().get(0).getRef());
+            assertNull(reader.next());
+            assertNull(reader.getMetadata());
+            assertNotNull(reader.getSpecVersion());
+        }
+    }
+
+    @Test
+    public void testRejectsNonObjectDocument() throws Exception {
+        try (BomStreamReader reader = new JsonBomStreamReader("[]".getBytes(StandardCharsets.UTF_8))) {
+            assertThrows(ParseException.class, reader::next);
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.cyclonedx.parsers;
 
+import org.cyclonedx.CycloneDxSchema;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.model.Bom;
@@ -75,16 +76,23 @@ import org.cyclonedx.model.license.ExpressionDetailed;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class JsonParserTest
@@ -99,6 +107,26 @@ public class JsonParserTest
         assertTrue(parser.isValid(file, Version.VERSION_12));
     }
 
+    @Test
+    public void testCompiledSchemaIsSharedAcrossThreads() throws Exception {
+        JsonParser.preload(Version.VERSION_12, Version.VERSION_16);
+        assertSame(CycloneDxSchema.getCachedJsonSchema(Version.VERSION_16), CycloneDxSchema.getCachedJsonSchema(Version.VERSION_16));
+
+        final File file = new File(Objects.requireNonNull(this.getClass().getResource("/1.6/valid-bom-1.6.json")).getFile());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> new JsonParser().isValid(file, Version.VERSION_16)));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testValidationErrorsIncludeInstanceLocation() throws Exception {
         final String bomJson = /* language=JSON */ """
@@ -120,6 +148,37 @@ public class JsonParserTest
                 .anySatisfy(e -> assertThat(e.getMessage()).startsWith("/components/0/type: "));
     }
 
+    @Test
+    public void testParseAndValidate() throws Exception {
+        final File file = new File(Objects.requireNonNull(this.getClass().getResource("/1.6/valid-bom-1.6.json")).getFile());
+        final JsonParser parser = new JsonParser();
+        final ParseResult result = parser.parseAndValidate(file, Version.VERSION_16);
+        assertTrue(result.isValid());
+        assertEquals(parser.parse(file).getSerialNumber(), result.getBom().getSerialNumber());
+
+        final String bomJson = /* language=JSON */ """
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.6",
+                  "components": [
+                    {
+                      "type": "no-such-type",
+                      "name": "acme-lib"
+                    }
+                  ]
+                }
+                """;
+        final ParseResult invalid = parser.parseAndValidate(bomJson.getBytes(StandardCharsets.UTF_8), Version.VERSION_16);
+        assertFalse(invalid.isValid());
+        assertNull(invalid.getBom());
+        assertThat(invalid.getExceptions())
+                .anySatisfy(e -> assertThat(e.getMessage()).startsWith("/components/0/type: "))
+                .anySatisfy(e -> assertThat(e.getMessage()).isEqualTo("Unable to bind BOM"));
+
+        assertThatThrownBy(() -> parser.parseAndValidate("{\"bomFormat\":".getBytes(StandardCharsets.UTF_8), Version.VERSION_16))
+                .isInstanceOf(ParseException.class);
+    }
+
     @Test
     public void testValid12BomWithUtf8ByteOrderMarker() throws Exception {
         final File file = new File(Objects.requireNonNull(this.getClass().getResource("/bom-1.2-utf8bom.json")).getFile());
@@ -0,0 +1,165 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.generators.xml.BomXmlGenerator;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.Property;
+import org.cyclonedx.util.StringPool;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParseOptionsTest {
+
+    private static final ParseOptions DEPENDENCY_GRAPH = ParseOptions.DEFAULT.withIncludedPaths(
+            "metadata", "components.bom-ref", "components.purl", "components.version", "dependencies");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/bom-1.5.json", "/bom-1.5.xml"})
+    public void testProjectionSkipsExcludedProperties(final String resource) throws Exception {
+        final File file = new File(Objects.requireNonNull(getClass().getResource(resource)).getFile());
+        final boolean isXml = resource.endsWith(".xml");
+        final Bom full = isXml ? new XmlParser().parse(file) : new JsonParser().parse(file);
+        final Bom projected = isXml ? new XmlParser(DEPENDENCY_GRAPH).parse(file) : new JsonParser(DEPENDENCY_GRAPH).parse(file);
+
+        assertEquals(full.getSpecVersion(), projected.getSpecVersion());
+        assertEquals(full.getSerialNumber(), projected.getSerialNumber());
+        assertEquals(full.getMetadata().getTimestamp(), projected.getMetadata().getTimestamp());
+        assertEquals(full.getDependencies(), projected.getDependencies());
+        assertNotNull(full.getServices());
+        assertNull(projected.getServices());
+        assertNull(projected.getVulnerabilities());
+        assertNull(projected.getFormulation());
+
+        assertEquals(full.getComponents().size(), projected.getComponents().size());
+        for (int i = 0; i < full.getComponents().size(); i++) {
+            final Component expected = full.getComponents().get(i);
+            final Component actual = projected.getComponents().get(i);
+            assertEquals(expected.getBomRef(), actual.getBomRef());
+            assertEquals(expected.getPurl(), actual.getPurl());
+            assertEquals(expected.getVersion(), actual.getVersion());
+            assertNull(actual.getName());
+            assertNull(actual.getHashes());
+            assertNull(actual.getLicenses());
+            assertNull(actual.getEvidence());
+        }
+    }
+
+    @Test
+    public void testComponentsAreBoundInFullWithoutComponentPaths() throws Exception {
+        final File file = new File(Objects.requireNonNull(getClass().getResource("/bom-1.5.json")).getFile());
+        final Bom bom = new JsonParser(ParseOptions.DEFAULT.withIncludedPaths("components")).parse(file);
+
+        assertNull(bom.getMetadata());
+        assertNull(bom.getDependencies());
+        final Bom expected = new Bom();
+        expected.setComponents(new JsonParser().parse(file).getComponents());
+        final Bom actual = new Bom();
+        actual.setComponents(bom.getComponents());
+        assertEquals(new BomJsonGenerator(expected, Version.VERSION_15).toJsonString(),
+                new BomJsonGenerator(actual, Version.VERSION_15).toJsonString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testStringDeduplication(final boolean isXml) throws Exception {
+        final Bom bom = new Bom();
+        for (int i = 0; i < 2; i++) {
+            final Component component = new Component();
+            component.setType(Component.Type.LIBRARY);
+            component.setGroup("org.example");
+            component.setName("component-" + i);
+            final License license = new License();
+            license.setId("Apache-2.0");
+            final LicenseChoice licenses = new LicenseChoice();
+            licenses.addLicense(license);
+            component.setLicenses(licenses);
+            component.addHash(new Hash(Hash.Algorithm.SHA_256, "abc" + i));
+            final Property property = new Property();
+            property.setName("cdx:example");
+            property.setValue("value");
+            component.addProperty(property);
+            bom.addComponent(component);
+        }
+        final byte[] bytes = isXml
+                ? new BomXmlGenerator(bom, Version.VERSION_16).toXmlString().getBytes(StandardCharsets.UTF_8)
+                : new BomJsonGenerator(bom, Version.VERSION_16).toJsonString().getBytes(StandardCharsets.UTF_8);
+
+        final StringPool pool = new StringPool();
+        final ParseOptions options = ParseOptions.DEFAULT.withStringPool(pool);
+        final Bom deduplicated = isXml ? new XmlParser(options).parse(bytes) : new JsonParser(options).parse(bytes);
+        final Component first = deduplicated.getComponents().get(0);
+        final Component second = deduplicated.getComponents().get(1);
+        assertSame(first.getGroup(), second.getGroup());
+        assertSame(first.getLicenses().getLicenses().get(0).getId(), second.getLicenses().getLicenses().get(0).getId());
+        assertSame(first.getHashes().get(0).getAlgorithm(), second.getHashes().get(0).getAlgorithm());
+        assertSame(first.getProperties().get(0).getName(), second.getProperties().get(0).getName());
+        assertSame(first.getProperties().get(0).getValue(), second.getProperties().get(0).getValue());
+        assertTrue(pool.size() > 0);
+
+        final Bom plain = isXml ? new XmlParser().parse(bytes) : new JsonParser().parse(bytes);
+        assertNotSame(plain.getComponents().get(0).getGroup(), plain.getComponents().get(1).getGroup());
+        assertEquals(plain.getComponents().get(0).getGroup(), first.getGroup());
+    }
+
+    @Test
+    public void testStringPoolIsBounded() {
+        final StringPool pool = new StringPool(1, 4);
+        final String a = new String("abc");
+        assertSame(a, pool.canonicalize(a));
+        assertSame(a, pool.canonicalize(new String("abc")));
+        final String b = new String("def");
+        assertSame(b, pool.canonicalize(b));
+        assertNotSame(b, pool.canonicalize(new String("def")));
+        final String c = new String("longer");
+        assertSame(c, pool.canonicalize(c));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void testIncludedPaths() {
+        assertNull(ParseOptions.DEFAULT.getIncludedPaths());
+        assertEquals(DEPENDENCY_GRAPH, ParseOptions.DEFAULT.withIncludedPaths(
+                "metadata", "components.bom-ref", "components.purl", "components.version", "dependencies"));
+        assertNotEquals(ParseOptions.DEFAULT, DEPENDENCY_GRAPH);
+        assertEquals(3, DEPENDENCY_GRAPH.getIncludedComponentProperties().size());
+        assertThrows(IllegalArgumentException.class, () -> ParseOptions.DEFAULT.withIncludedPaths("metadata.component"));
+        assertThrows(IllegalArgumentException.class, () -> ParseOptions.DEFAULT.withIncludedPaths("components..purl"));
+    }
+}
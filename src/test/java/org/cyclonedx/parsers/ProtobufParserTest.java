@@ -0,0 +1,157 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.generators.protobuf.BomProtobufGenerator;
+import org.cyclonedx.model.Bom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.StringReader;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProtobufParserTest {
+
+    static Stream<Arguments> validJsonBoms() {
+        return Arrays.stream(Version.values())
+                .filter(version -> version.getFormats().contains(Format.PROTOBUF))
+                .flatMap(version -> {
+                    final File directory = new File(Objects.requireNonNull(
+                            ProtobufParserTest.class.getResource("/" + version.getVersionString())).getFile());
+                    return Arrays.stream(Objects.requireNonNull(directory.listFiles(
+                            (dir, name) -> name.startsWith("valid-") && name.endsWith(".json"))))
+                            .sorted()
+                            .map(file -> Arguments.of(version, file));
+                });
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("validJsonBoms")
+    public void testRoundTrip(final Version version, final File file) throws Exception {
+        final Bom bom = new JsonParser().parse(file);
+        final JsonNode generated = new BomJsonGenerator(bom, version).toJsonNode();
+        final JsonNode expected = withoutLossyFields(generated.deepCopy());
+
+        final byte[] bytes = new BomProtobufGenerator(bom, version).toByteArray();
+        final ProtobufParser parser = new ProtobufParser();
+        assertInstanceOf(ProtobufParser.class, BomParserFactory.createParser(bytes));
+        if (!generated.toString().contains("\"signature\"")) {
+            final List<ParseException> exceptions = parser.validate(bytes, version);
+            assertTrue(exceptions.isEmpty(), () -> file.getName() + ": " + exceptions);
+        }
+
+        final Bom parsed = parser.parse(bytes);
+        assertEquals(expected, withoutLossyFields(new BomJsonGenerator(parsed, version).toJsonNode()), file.getName());
+    }
+
+    /**
+     * Removes the constructs the protobuf schema cannot hold: JSF signatures, and all but the first
+     * legacy tool and metadata license. Signatories identified by their signature are dropped entirely.
+     * Timestamps are normalized, as protobuf keeps the instant only.
+     */
+    private static JsonNode withoutLossyFields(final JsonNode node) {
+        if (node.isObject()) {
+            final ObjectNode object = (ObjectNode) node;
+            object.remove("signature");
+            if (object.path("signatories").isArray()) {
+                ((ArrayNode) object.get("signatories")).removeIf(signatory -> signatory.has("signature"));
+            }
+            object.properties().forEach(entry -> {
+                if (entry.getValue().isTextual()) {
+                    try {
+                        entry.setValue(new TextNode(OffsetDateTime.parse(entry.getValue().asText()).toInstant().toString()));
+                    } catch (DateTimeParseException e) {
+                        // not a timestamp
+                    }
+                }
+            });
+        }
+        final JsonNode metadata = node.path("metadata");
+        if (metadata.path("tools").isArray()) {
+            truncate(metadata.get("tools"));
+        }
+        if (metadata.path("licenses").isArray()) {
+            truncate(metadata.get("licenses"));
+        }
+        node.forEach(ProtobufParserTest::withoutLossyFields);
+        return node;
+    }
+
+    private static void truncate(final JsonNode array) {
+        while (array.size() > 1) {
+            ((ArrayNode) array).remove(array.size() - 1);
+        }
+    }
+
+    @Test
+    public void testGeneratorFactory() throws Exception {
+        final Bom bom = new JsonParser().parse(
+                new File(Objects.requireNonNull(getClass().getResource("/bom-1.5.json")).getFile()));
+        final BomProtobufGenerator generator =
+                (BomProtobufGenerator) BomGeneratorFactory.create(Version.VERSION_15, bom, Format.PROTOBUF);
+        final Bom parsed = new ProtobufParser().parse(new ByteArrayInputStream(generator.toByteArray()));
+        assertEquals(bom.getSerialNumber(), parsed.getSerialNumber());
+        assertEquals(bom.getComponents().size(), parsed.getComponents().size());
+        assertThrows(IllegalArgumentException.class, () -> new BomProtobufGenerator(bom, Version.VERSION_12));
+    }
+
+    @Test
+    public void testValidateReportsVersionMismatch() throws Exception {
+        final Bom bom = new JsonParser().parse(
+                new File(Objects.requireNonNull(getClass().getResource("/bom-1.5.json")).getFile()));
+        final byte[] bytes = new BomProtobufGenerator(bom, Version.VERSION_15).toByteArray();
+        final ProtobufParser parser = new ProtobufParser();
+        assertTrue(parser.isValid(bytes, Version.VERSION_15));
+        assertFalse(parser.isValid(bytes, Version.VERSION_16));
+        assertFalse(parser.isValid(bytes, Version.VERSION_12));
+    }
+
+    @Test
+    public void testRejectsUnsupportedInput() {
+        final ProtobufParser parser = new ProtobufParser();
+        assertThrows(ParseException.class, () -> parser.parse(new byte[] {0x0A, 0x03, '9', '.', '9'}));
+        assertThrows(ParseException.class, () -> parser.parse(new byte[] {0x0A, 0x7F}));
+        assertThrows(ParseException.class, () -> parser.parse(new StringReader("")));
+        assertFalse(parser.isValid(new StringReader("")));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.parsers;
+
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.ParseException;
+import org.cyclonedx.generators.xml.BomXmlGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class XmlBomStreamReaderTest {
+
+    @Test
+    public void testStreamMatchesFullParse() throws Exception {
+        final File file = new File(Objects.requireNonNull(this.getClass().getResource("/bom-1.5.xml")).getFile());
+        final Bom bom = new XmlParser().parse(file);
+
+        final Bom streamed = new Bom();
+        int metadataCount = 0;
+        try (BomStreamReader reader = new XmlBomStreamReader(file)) {
+            BomStreamReader.Element element;
+            while ((element = reader.next()) != null) {
+                switch (element) {
+                    case METADATA: metadataCount++; streamed.setMetadata(reader.getMetadata()); break;
+                    case COMPONENT: streamed.addComponent(reader.getComponent()); break;
+                    case SERVICE: streamed.addService(reader.getService()); break;
+                    case DEPENDENCY: streamed.addDependency(reader.getDependency()); break;
+                    case VULNERABILITY: streamed.setVulnerabilities(add(streamed.getVulnerabilities(), reader.getVulnerability())); break;
+                }
+            }
+            assertEquals(1, metadataCount);
+            assertEquals("1.5", reader.getSpecVersion());
+            assertEquals(bom.getSerialNumber(), reader.getSerialNumber());
+            assertEquals(bom.getVersion(), reader.getVersion());
+            assertNull(reader.getValue());
+        }
+
+        final Bom expected = new Bom();
+        expected.setMetadata(bom.getMetadata());
+        expected.setComponents(bom.getComponents());
+        expected.setServices(bom.getServices());
+        expected.setDependencies(bom.getDependencies());
+        expected.setVulnerabilities(bom.getVulnerabilities());
+
+        assertEquals(bom.getComponents().size(), streamed.getComponents().size());
+        assertEquals(bom.getDependencies(), streamed.getDependencies());
+        assertEquals(
+                new BomXmlGenerator(expected, Version.VERSION_15).toXmlString(),
+                new BomXmlGenerator(streamed, Version.VERSION_15).toXmlString());
+    }
+
+    private static List<Vulnerability> add(final List<Vulnerability> vulnerabilities, final Vulnerability vulnerability) {
+        final List<Vulnerability> result = vulnerabilities == null ? new ArrayList<>() : vulnerabilities;
+        result.add(vulnerability);
+        return result;
+    }
+
+    @Test
+    public void testSkipsUnrelatedSectionsAndReadsHeader() throws Exception {
+        final String xml = /* language=XML */ """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <bom xmlns="http://cyclonedx.org/schema/bom/1.6" serialNumber="urn:uuid:3e671687-395b-41f5-a30f-a58921a69b79" version="3">
+                  <externalReferences>
+                    <reference type="website"><url>https://example.com</url></reference>
+                  </externalReferences>
+                  <components>
+                    <component type="library" bom-ref="a"><name>a</name></component>
+                  </components>
+                  <compositions>
+                    <composition><aggregate>complete</aggregate></composition>
+                  </compositions>
+                  <dependencies>
+                    <dependency ref="a"><dependency ref="b"/></dependency>
+                  </dependencies>
+                </bom>
+                """;
+        try (BomStreamReader reader = new XmlBomStreamReader(xml.getBytes(StandardCharsets.UTF_8))) {
+            assertEquals(BomStreamReader.Element.COMPONENT, reader.next());
+            assertEquals("a", reader.getComponent().getBomRef());
+            assertNull(reader.getDependency());
+            assertEquals(BomStreamReader.Element.DEPENDENCY, reader.next());
+            assertEquals("b", reader.getDependency().getDependencies().get(0).getRef());
+            assertNull(reader.next());
+            assertNull(reader.getMetadata());
+            assertEquals("1.6", reader.getSpecVersion());
+            assertEquals("urn:uuid:3e671687-395b-41f5-a30f-a58921a69b79", reader.getSerialNumber());
+            assertEquals(3, reader.getVersion());
+        }
+    }
+
+    @Test
+    public void testDependencyGraphExtension() throws Exception {
+        final File file = new File(Objects.requireNonNull(this.getClass().getResource("/bom-1.1-dependency-graph-1.0.xml")).getFile());
+        final List<String> refs = new ArrayList<>();
+        try (BomStreamReader reader = new XmlBomStreamReader(file)) {
+            BomStreamReader.Element element;
+            while ((element = reader.next()) != null) {
+                if (element == BomStreamReader.Element.DEPENDENCY) {
+                    refs.add(reader.getDependency().getRef());
+                }
+            }
+            assertEquals("1.1", reader.getSpecVersion());
+        }
+        assertEquals(3, refs.size());
+        assertEquals("pkg:maven/org.example.acme/web-framework@1.0.0", refs.get(0));
+    }
+
+    @Test
+    public void testRejectsExternalEntities() throws Exception {
+        final String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <!DOCTYPE bom [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                <bom xmlns="http://cyclonedx.org/schema/bom/1.6">
+                  <components>
+                    <component type="library"><name>&xxe;</name></component>
+                  </components>
+                </bom>
+                """;
+        try (BomStreamReader reader = new XmlBomStreamReader(xml.getBytes(StandardCharsets.UTF_8))) {
+            assertThrows(ParseException.class, reader::next);
+        }
+    }
+
+    @Test
+    public void testRejectsNonBomDocument() throws Exception {
+        try (BomStreamReader reader = new XmlBomStreamReader("<foo/>".getBytes(StandardCharsets.UTF_8))) {
+            assertThrows(ParseException.class, reader::next);
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.cyclonedx.parsers;
 
+import org.cyclonedx.CycloneDxSchema;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.model.Bom;
@@ -75,8 +76,17 @@ import org.cyclonedx.model.license.ExpressionDetailed;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.util.DefaultLocale;
 
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXParseException;
+
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Validator;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -86,7 +96,9 @@ import java.util.stream.Collectors;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class XmlParserTest
@@ -101,6 +113,38 @@ public class XmlParserTest
         assertTrue(valid);
     }
 
+    @Test
+    public void testSpecVersionFromAllInputTypes() throws Exception {
+        final File file = new File(Objects.requireNonNull(this.getClass().getResource("/bom-1.5.xml")).getFile());
+        final byte[] bomBytes = Files.readAllBytes(file.toPath());
+        final XmlParser parser = new XmlParser();
+        assertEquals("1.5", parser.parse(file).getSpecVersion());
+        assertEquals("1.5", parser.parse(bomBytes).getSpecVersion());
+        assertEquals("1.5", parser.parse(new ByteArrayInputStream(bomBytes)).getSpecVersion());
+        assertEquals("1.5", parser.parse(new InputStreamReader(new ByteArrayInputStream(bomBytes), StandardCharsets.UTF_8)).getSpecVersion());
+    }
+
+    @Test
+    public void testCompiledSchemaIsShared() throws Exception {
+        XmlParser.preload();
+        for (Version version : Version.values()) {
+            assertSame(CycloneDxSchema.getCachedXmlSchema(version), new XmlParser().getXmlSchema(version));
+        }
+        assertNotSame(CycloneDxSchema.getCachedXmlSchema(Version.VERSION_11),
+                CycloneDxSchema.getCachedXmlSchema(Version.VERSION_11, true));
+        final File file = new File(
+            Objects.requireNonNull(this.getClass().getResource("/bom-1.1-dependency-graph-1.0.xml")).getFile());
+        final List<ParseException> exceptions = new ArrayList<>();
+        final Validator validator = CycloneDxSchema.getCachedXmlSchema(Version.VERSION_11, true).newValidator();
+        validator.setErrorHandler(new ErrorHandler() {
+            public void warning(SAXParseException e) { exceptions.add(new ParseException(e)); }
+            public void error(SAXParseException e) { exceptions.add(new ParseException(e)); }
+            public void fatalError(SAXParseException e) { exceptions.add(new ParseException(e)); }
+        });
+        validator.validate(new StreamSource(file));
+        assertTrue(exceptions.isEmpty());
+    }
+
     @Test
     public void testValid11Bom() throws Exception {
         final File file = new File(Objects.requireNonNull(this.getClass().getResource("/bom-1.1.xml")).getFile());
@@ -966,6 +1010,19 @@ public class XmlParserTest
         assertNull(s2.getSignature());
     }
 
+    @Test
+    public void schema16_external_elements_are_skipped() throws Exception {
+        final Bom bom = getXmlBom("1.6/valid-external-elements-1.6.xml");
+
+        final Component component = bom.getComponents().get(0);
+        assertEquals("tomcat-catalina", component.getName());
+        assertEquals(4, component.getHashes().size());
+        assertEquals(1, component.getLicenses().getLicenses().size());
+        assertEquals("Apache-2.0", component.getLicenses().getLicenses().get(0).getId());
+        assertEquals(1, component.getPedigree().getAncestors().getComponents().size());
+        assertEquals("tomcat-catalina", component.getPedigree().getAncestors().getComponents().get(0).getName());
+    }
+
     @Test
     public void schema16_cbom() throws Exception {
         final Bom bom = getXmlBom("1.6/valid-cryptography-implementation-1.6.xml");
@@ -0,0 +1,144 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.DependencyListBuilder;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.License;
+import org.cyclonedx.model.LicenseChoice;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+import org.cyclonedx.parsers.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cyclonedx.TestComponents.npm;
+
+class BomDiffTest {
+
+    private static Bom bom(final Component... components) {
+        final Bom bom = new Bom();
+        bom.setComponents(new ArrayList<>(List.of(components)));
+        return bom;
+    }
+
+    private static Vulnerability vulnerability(final String id, final String description) {
+        final Vulnerability vulnerability = new Vulnerability();
+        vulnerability.setId(id);
+        vulnerability.setDescription(description);
+        return vulnerability;
+    }
+
+    @Test
+    void shouldFindNoDifferenceBetweenEqualBoms() throws Exception {
+        final byte[] bytes = getClass().getResourceAsStream("/bom-1.5.json").readAllBytes();
+        final BomDiff diff = BomDiff.of(new JsonParser().parse(bytes), new JsonParser().parse(bytes));
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldReportVersionChangesWithoutDependencyChanges() {
+        final Bom from = bom(npm("app", "1.0"), npm("lib", "1.0"));
+        from.setDependencies(new DependencyListBuilder()
+                .addDependency("pkg:npm/app@1.0", "pkg:npm/lib@1.0").build());
+        final Bom to = bom(npm("app", "1.0"), npm("lib", "2.0"));
+        to.setDependencies(new DependencyListBuilder()
+                .addDependency("pkg:npm/app@1.0", "pkg:npm/lib@2.0").build());
+
+        final BomDiff diff = BomDiff.of(from, to);
+
+        assertThat(diff.getAddedComponents()).isEmpty();
+        assertThat(diff.getRemovedComponents()).isEmpty();
+        assertThat(diff.getChangedComponents()).hasSize(1);
+        final BomDiff.ComponentChange change = diff.getChangedComponents().get(0);
+        assertThat(change.getFrom().getVersion()).isEqualTo("1.0");
+        assertThat(change.getTo().getVersion()).isEqualTo("2.0");
+        assertThat(change.getChanges()).containsExactly(BomDiff.Change.VERSION);
+        assertThat(diff.getAddedDependencies()).isEmpty();
+        assertThat(diff.getRemovedDependencies()).isEmpty();
+    }
+
+    @Test
+    void shouldClassifyChanges() {
+        final Component licensed = npm("lib", "1.0");
+        final Component relicensed = npm("lib", "1.0");
+        final License license = new License();
+        license.setId("MIT");
+        final LicenseChoice licenses = new LicenseChoice();
+        licenses.addLicense(license);
+        relicensed.setLicenses(licenses);
+        relicensed.setDescription("A library");
+
+        final Component hashed = npm("util", "1.0");
+        hashed.addHash(new Hash(Hash.Algorithm.SHA_256, "aaaa"));
+        hashed.addHash(new Hash(Hash.Algorithm.SHA_512, "bbbb"));
+        final Component reordered = npm("util", "1.0");
+        reordered.addHash(new Hash(Hash.Algorithm.SHA_512, "bbbb"));
+        reordered.addHash(new Hash(Hash.Algorithm.SHA_256, "aaaa"));
+        final Component rehashed = npm("util", "1.0");
+        rehashed.addHash(new Hash(Hash.Algorithm.SHA_256, "cccc"));
+
+        assertThat(BomDiff.of(bom(licensed), bom(relicensed)).getChangedComponents().get(0).getChanges())
+                .containsExactly(BomDiff.Change.LICENSES, BomDiff.Change.OTHER);
+        assertThat(BomDiff.of(bom(hashed), bom(reordered)).isEmpty()).isTrue();
+        assertThat(BomDiff.of(bom(hashed), bom(rehashed)).getChangedComponents().get(0).getChanges())
+                .containsExactly(BomDiff.Change.HASHES);
+    }
+
+    @Test
+    void shouldReportAddedAndRemovedComponentsAndDependencies() {
+        final Component parent = npm("app", "1.0");
+        parent.setComponents(new ArrayList<>(List.of(npm("plugin", "1.0"))));
+        final Bom from = bom(parent, npm("old", "1.0"));
+        from.setDependencies(new DependencyListBuilder()
+                .addDependency("pkg:npm/app@1.0", "pkg:npm/old@1.0").build());
+        final Bom to = bom(npm("app", "1.0"), npm("new", "1.0"));
+        to.setDependencies(new DependencyListBuilder()
+                .addDependency("pkg:npm/app@1.0", "pkg:npm/new@1.0").build());
+
+        final BomDiff diff = BomDiff.of(from, to);
+
+        assertThat(diff.getRemovedComponents()).extracting(Component::getName).containsExactly("plugin", "old");
+        assertThat(diff.getAddedComponents()).extracting(Component::getName).containsExactly("new");
+        assertThat(diff.getChangedComponents()).isEmpty();
+        assertThat(diff.getRemovedDependencies()).containsExactly(new BomDiff.Edge("pkg:npm/app@1.0", "pkg:npm/old@1.0"));
+        assertThat(diff.getAddedDependencies()).containsExactly(new BomDiff.Edge("pkg:npm/app@1.0", "pkg:npm/new@1.0"));
+    }
+
+    @Test
+    void shouldReportVulnerabilityChanges() {
+        final Bom from = bom();
+        from.setVulnerabilities(new ArrayList<>(List.of(
+                vulnerability("CVE-2024-0001", "first"), vulnerability("CVE-2024-0002", "second"))));
+        final Bom to = bom();
+        to.setVulnerabilities(new ArrayList<>(List.of(
+                vulnerability("CVE-2024-0002", "second, revised"), vulnerability("CVE-2024-0003", "third"))));
+
+        final BomDiff diff = BomDiff.of(from, to);
+
+        assertThat(diff.getRemovedVulnerabilities()).extracting(Vulnerability::getId).containsExactly("CVE-2024-0001");
+        assertThat(diff.getAddedVulnerabilities()).extracting(Vulnerability::getId).containsExactly("CVE-2024-0003");
+        assertThat(diff.getChangedVulnerabilities()).hasSize(1);
+        assertThat(diff.getChangedVulnerabilities().get(0).getTo().getDescription()).isEqualTo("second, revised");
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.parsers.JsonParser;
+import org.cyclonedx.parsers.ParseOptions;
+import org.cyclonedx.parsers.XmlParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cyclonedx.TestComponents.library;
+
+class BomIndexTest {
+
+    @Test
+    void shouldIndexAllKinds() throws Exception {
+        final byte[] bomBytes = BomIndexTest.class.getResourceAsStream("/bom-object-locator.json").readAllBytes();
+        final Bom bom = new JsonParser(ParseOptions.DEFAULT.withIndex(true)).parse(bomBytes);
+        final BomIndex index = bom.getIndex();
+
+        assertThat(index).isNotNull();
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.get("0a7ac0b2-0f52-45c6-8f73-4dbcfb25286b").getKind()).isEqualTo(BomIndex.Kind.METADATA_COMPONENT);
+        assertThat(index.getComponent("0a7ac0b2-0f52-45c6-8f73-4dbcfb25286b")).isSameAs(bom.getMetadata().getComponent());
+        assertThat(index.getComponent("ac9c4a17-2bc2-42ef-81af-01a8e363501f")).isSameAs(bom.getComponents().get(0));
+        assertThat(index.getService("b2a46a4b-8367-4bae-9820-95557cfe03a8")).isSameAs(bom.getServices().get(0));
+        assertThat(index.getVulnerability("6eee14da-8f42-4cc4-bb65-203235f02415")).isSameAs(bom.getVulnerabilities().get(0));
+        assertThat(index.getComponent("b2a46a4b-8367-4bae-9820-95557cfe03a8")).isNull();
+        assertThat(index.get("doesNotExist")).isNull();
+        assertThat(index.contains(null)).isFalse();
+
+        // The document has no timestamp, so each parse defaults it to the current time
+        final Bom unindexed = new JsonParser().parse(bomBytes);
+        unindexed.getMetadata().setTimestamp(bom.getMetadata().getTimestamp());
+        assertThat(new BomJsonGenerator(bom, Version.VERSION_15).toJsonString())
+                .isEqualTo(new BomJsonGenerator(unindexed, Version.VERSION_15).toJsonString());
+    }
+
+    @Test
+    void shouldIndexXml() throws Exception {
+        final byte[] bomBytes = BomIndexTest.class.getResourceAsStream("/bom-1.5.xml").readAllBytes();
+        final Bom bom = new XmlParser(ParseOptions.DEFAULT.withIndex(true)).parse(bomBytes);
+        for (final Component component : bom.getComponents()) {
+            if (component.getBomRef() != null) {
+                assertThat(bom.getIndex().get(component.getBomRef()).getObject()).isSameAs(component);
+            }
+        }
+        assertThat(new XmlParser().parse(bomBytes).getIndex()).isNull();
+    }
+
+    @Test
+    void shouldRecordParentChain() {
+        final Component grandChild = library("grand-child", "grand-child", null, null);
+        final Component child = library("child", "child", null, null);
+        child.setComponents(Arrays.asList(grandChild));
+        final Component root = library("root", "root", null, null);
+        root.setComponents(Arrays.asList(child));
+        final Component metadataChild = library("metadata-child", "metadata-child", null, null);
+        final Component metadataComponent = library("metadata", "metadata", null, null);
+        metadataComponent.setComponents(Arrays.asList(metadataChild));
+        final Service innerService = new Service();
+        innerService.setBomRef("inner");
+        final Service outerService = new Service();
+        outerService.setBomRef("outer");
+        outerService.setServices(Arrays.asList(innerService));
+
+        final Bom bom = new Bom();
+        bom.setMetadata(new Metadata());
+        bom.getMetadata().setComponent(metadataComponent);
+        bom.setComponents(Arrays.asList(root));
+        bom.setServices(Arrays.asList(outerService));
+        final BomIndex index = BomIndex.of(bom);
+
+        final BomIndex.Entry entry = index.get("grand-child");
+        assertThat(entry.getKind()).isEqualTo(BomIndex.Kind.COMPONENT);
+        assertThat(entry.getParent().getObject()).isSameAs(child);
+        assertThat(entry.getParents()).containsExactly(child, root);
+        assertThat(entry.isInMetadata()).isFalse();
+        assertThat(index.get("root").getParent()).isNull();
+        assertThat(index.get("metadata-child").isInMetadata()).isTrue();
+        assertThat(index.get("metadata-child").getKind()).isEqualTo(BomIndex.Kind.COMPONENT);
+        assertThat(index.get("inner").getParents()).containsExactly(outerService);
+    }
+
+    @Test
+    void shouldMatchObjectLocator() {
+        final Component duplicateInMetadata = library("duplicate", "duplicate", null, null);
+        final Component metadataComponent = library("metadata", "metadata", null, null);
+        metadataComponent.setComponents(Arrays.asList(duplicateInMetadata));
+        final Component nested = library("nested", "nested", null, null);
+        final Component duplicate = library("duplicate", "duplicate", null, null);
+        duplicate.setComponents(Arrays.asList(nested));
+        final Component shadowed = library("nested", "nested", null, null);
+        final Service service = new Service();
+        service.setBomRef("nested");
+
+        final Bom bom = new Bom();
+        bom.setMetadata(new Metadata());
+        bom.getMetadata().setComponent(metadataComponent);
+        bom.setComponents(Arrays.asList(duplicate, shadowed));
+        bom.setServices(Arrays.asList(service));
+
+        for (final String bomRef : Arrays.asList("metadata", "duplicate", "nested", "missing")) {
+            bom.setIndex(null);
+            final ObjectLocator scanned = new ObjectLocator(bom, bomRef).locate();
+            bom.setIndex(BomIndex.of(bom));
+            final ObjectLocator indexed = new ObjectLocator(bom, bomRef).locate();
+            assertThat(indexed.getObject()).isSameAs(scanned.getObject());
+            assertThat(indexed.isMetadataComponent()).isEqualTo(scanned.isMetadataComponent());
+        }
+        assertThat(bom.getIndex().getComponent("nested")).isSameAs(nested);
+    }
+
+}
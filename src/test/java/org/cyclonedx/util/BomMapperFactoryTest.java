@@ -0,0 +1,160 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.cyclonedx.Format;
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.AbstractBomGenerator;
+import org.cyclonedx.generators.json.BomJsonGenerator;
+import org.cyclonedx.generators.xml.BomXmlGenerator;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.parsers.JsonParser;
+import org.cyclonedx.parsers.ParseOptions;
+import org.cyclonedx.parsers.XmlParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BomMapperFactoryTest {
+
+    @Test
+    public void testMappersAreSharedPerVersionAndFormat() {
+        assertSame(BomMapperFactory.getWriteMapper(Version.VERSION_16, Format.JSON),
+                BomMapperFactory.getWriteMapper(Version.VERSION_16, Format.JSON));
+        assertSame(BomMapperFactory.getWriter(Version.VERSION_16, Format.XML, true),
+                BomMapperFactory.getWriter(Version.VERSION_16, Format.XML, true));
+        assertNotSame(BomMapperFactory.getWriteMapper(Version.VERSION_15, Format.JSON),
+                BomMapperFactory.getWriteMapper(Version.VERSION_16, Format.JSON));
+        assertNotSame(BomMapperFactory.getWriter(Version.VERSION_16, Format.JSON, true),
+                BomMapperFactory.getWriter(Version.VERSION_16, Format.JSON, false));
+        assertSame(BomMapperFactory.getWriteMapper(Version.VERSION_16, Format.JSON),
+                BomMapperFactory.getWriteMapper(Version.VERSION_16, Format.PROTOBUF));
+
+        assertSame(BomMapperFactory.getReader(Format.JSON), BomMapperFactory.getReader(Format.JSON));
+        assertInstanceOf(XmlMapper.class, BomMapperFactory.getReadMapper(Format.XML));
+        assertNotSame(BomMapperFactory.getReadMapper(Format.XML), BomMapperFactory.getWriteMapper(Version.VERSION_16, Format.XML));
+    }
+
+    @Test
+    public void testOptionReadersAreBounded() {
+        final ParseOptions options = ParseOptions.DEFAULT.withIncludedPaths("metadata");
+        final ObjectReader reader = BomMapperFactory.getReader(Format.JSON, options);
+        assertSame(reader, BomMapperFactory.getReader(Format.JSON, ParseOptions.DEFAULT.withIncludedPaths("metadata")));
+
+        for (int i = 0; i < 100; i++) {
+            BomMapperFactory.getReader(Format.JSON, ParseOptions.DEFAULT.withIncludedPaths("components.property" + i));
+        }
+        assertNotSame(reader, BomMapperFactory.getReader(Format.JSON, options));
+    }
+
+    @Test
+    public void testGeneratorMapperCanBeReconfigured() throws Exception {
+        final Bom bom = new XmlParser().parse(new File(Objects.requireNonNull(getClass().getResource("/bom-1.5.xml")).getFile()));
+        final String expected = new BomJsonGenerator(bom, Version.VERSION_15).toJsonString();
+        final ObjectMapper shared = BomMapperFactory.getWriteMapper(Version.VERSION_15, Format.JSON);
+        final int modules = shared.getRegisteredModuleIds().size();
+
+        assertSame(shared, new ReconfiguringGenerator(bom, false).getMapper());
+        assertNotSame(shared, new ReconfiguringGenerator(bom, true).getMapper());
+        assertEquals(modules, shared.getRegisteredModuleIds().size());
+
+        final String redacted = new RedactingGenerator(bom).toJsonString();
+        assertTrue(redacted.contains("\"redacted\""));
+        assertEquals(expected, new BomJsonGenerator(bom, Version.VERSION_15).toJsonString());
+    }
+
+    private static final class ReconfiguringGenerator extends AbstractBomGenerator {
+
+        private ReconfiguringGenerator(final Bom bom, final boolean reconfigure) {
+            super(Version.VERSION_15, bom, Format.JSON);
+            if (reconfigure) {
+                setupObjectMapper(false);
+            }
+        }
+
+        private ObjectMapper getMapper() {
+            return mapper;
+        }
+    }
+
+    private static final class RedactingGenerator extends BomJsonGenerator {
+
+        private RedactingGenerator(final Bom bom) {
+            super(bom, Version.VERSION_15);
+            final SimpleModule module = new SimpleModule();
+            module.addSerializer(Hash.class, new StdSerializer<Hash>(Hash.class) {
+                @Override
+                public void serialize(final Hash hash, final JsonGenerator gen, final SerializerProvider provider)
+                        throws IOException {
+                    gen.writeString("redacted");
+                }
+            });
+            mapper = mapper.copy().registerModule(module);
+        }
+    }
+
+    @Test
+    public void testConcurrentGenerationIsStable() throws Exception {
+        final Bom bom = new XmlParser().parse(new File(Objects.requireNonNull(getClass().getResource("/bom-1.5.xml")).getFile()));
+        final String expectedJson = new BomJsonGenerator(bom, Version.VERSION_15).toJsonString();
+        final String expectedXml = new BomXmlGenerator(bom, Version.VERSION_15).toXmlString();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String[]>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit((Callable<String[]>) () -> {
+                    final Bom parsed = new JsonParser().parse(expectedJson.getBytes());
+                    return new String[] {
+                            new BomJsonGenerator(parsed, Version.VERSION_15).toJsonString(),
+                            new BomXmlGenerator(parsed, Version.VERSION_15).toXmlString()
+                    };
+                }));
+            }
+            for (final Future<String[]> result : results) {
+                assertEquals(expectedJson, result.get()[0]);
+                assertEquals(expectedXml, result.get()[1]);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
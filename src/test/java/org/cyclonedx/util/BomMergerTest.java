@@ -0,0 +1,260 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.BomReference;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Composition;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.DependencyListBuilder;
+import org.cyclonedx.model.Hash;
+import org.cyclonedx.model.Metadata;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.model.vulnerability.Vulnerability;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cyclonedx.TestComponents.library;
+
+class BomMergerTest {
+
+    private static Bom bom(final Component subject, final Component... components) {
+        final Bom bom = new Bom();
+        if (subject != null) {
+            final Metadata metadata = new Metadata();
+            metadata.setComponent(subject);
+            bom.setMetadata(metadata);
+        }
+        bom.setComponents(new ArrayList<>(List.of(components)));
+        return bom;
+    }
+
+    private static List<String> refs(final List<Component> components) {
+        final List<String> refs = new ArrayList<>();
+        for (final Component component : components) {
+            refs.add(component.getBomRef());
+        }
+        return refs;
+    }
+
+    private static Dependency dependency(final Bom bom, final String ref) {
+        for (final Dependency dependency : bom.getDependencies()) {
+            if (dependency.getRef().equals(ref)) {
+                return dependency;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> dependsOn(final Bom bom, final String ref) {
+        final List<String> refs = new ArrayList<>();
+        for (final Dependency dependency : dependency(bom, ref).getDependencies()) {
+            refs.add(dependency.getRef());
+        }
+        return refs;
+    }
+
+    @Test
+    void shouldDeduplicateByPurlAndUnionDependencies() {
+        final Bom first = bom(library("module-a", "module-a", null, null), library("lib-1", "lib-1", null, "pkg:maven/org.example/lib@1.0"));
+        first.setDependencies(new DependencyListBuilder().addDependency("module-a", "lib-1").addRef("lib-1").build());
+        final Bom second = bom(library("module-b", "module-b", null, null), library("lib-2", "lib-2", null, "pkg:maven/org.example/lib@1.0"),
+                library("util", "util", null, "pkg:maven/org.example/util@1.0"));
+        second.setDependencies(new DependencyListBuilder()
+                .addDependency("module-b", "lib-2")
+                .addDependency("lib-2", "util")
+                .build());
+
+        final Component product = library("product", "product", null, null);
+        final Bom merged = new BomMerger(BomMerger.Strategy.FLAT).merge(product, List.of(first, second));
+
+        assertThat(merged.getMetadata().getComponent()).isSameAs(product);
+        assertThat(refs(merged.getComponents())).containsExactly("module-a", "lib-1", "module-b", "util");
+        assertThat(dependsOn(merged, "product")).containsExactly("module-a", "module-b");
+        assertThat(dependsOn(merged, "module-b")).containsExactly("lib-1");
+        assertThat(dependsOn(merged, "lib-1")).containsExactly("util");
+    }
+
+    @Test
+    void shouldGiveTheDroppedBomRefToAKeptComponentWithoutOne() {
+        final Bom first = bom(null, library(null, null, null, "pkg:maven/org.example/lib@1.0"));
+        final Bom second = bom(null, library("a", "a", null, "pkg:maven/org.example/lib@1.0"), library("z", "z", null, null));
+        second.setDependencies(new DependencyListBuilder().addDependency("z", "a").build());
+
+        final Bom merged = new BomMerger(BomMerger.Strategy.FLAT).merge(List.of(first, second));
+
+        assertThat(refs(merged.getComponents())).containsExactly("a", "z");
+        assertThat(dependsOn(merged, "z")).containsExactly("a");
+
+        final Bom colliding = bom(null, library(null, null, null, "pkg:maven/org.example/lib@1.0"), library("a", "a", null, null));
+        final Bom referencing = bom(null, library("a", "a", null, "pkg:maven/org.example/lib@1.0"), library("z", "z", null, null));
+        referencing.setDependencies(new DependencyListBuilder().addDependency("z", "a").build());
+
+        final Bom renamed = new BomMerger(BomMerger.Strategy.FLAT).merge(List.of(colliding, referencing));
+
+        assertThat(refs(renamed.getComponents())).containsExactly("bom-2:a", "a", "z");
+        assertThat(dependsOn(renamed, "z")).containsExactly("bom-2:a");
+    }
+
+    @Test
+    void shouldDeduplicateByHashAndPromoteNestedComponents() {
+        final Component first = library("first", "first", null, null);
+        first.addHash(new Hash(Hash.Algorithm.SHA_256, "ABCDEF"));
+        final Component second = library("second", "second", null, null);
+        second.addHash(new Hash(Hash.Algorithm.SHA_256, "abcdef"));
+        second.setComponents(new ArrayList<>(List.of(library("nested", "nested", null, "pkg:npm/nested@1.0"))));
+
+        final Bom merged = new BomMerger(BomMerger.Strategy.FLAT).merge(List.of(bom(null, first), bom(null, second)));
+
+        assertThat(refs(merged.getComponents())).containsExactly("first", "nested");
+        assertThat(merged.getDependencies()).isNull();
+    }
+
+    @Test
+    void shouldRewriteCollidingBomRefs() {
+        final Bom first = bom(library("module-a", "module-a", null, null), library("core", "core", null, "pkg:npm/core@1.0"));
+        final Bom second = bom(library("module-b", "module-b", null, null), library("core", "core", null, "pkg:npm/core@2.0"));
+        second.setDependencies(new DependencyListBuilder().addDependency("module-b", "core").build());
+        final Composition composition = new Composition();
+        composition.setAggregate(Composition.Aggregate.COMPLETE);
+        composition.setAssemblies(new ArrayList<>(List.of(new BomReference("core"))));
+        second.setCompositions(new ArrayList<>(List.of(composition)));
+        final Vulnerability vulnerability = new Vulnerability();
+        vulnerability.setBomRef("core");
+        final Vulnerability.Affect affect = new Vulnerability.Affect();
+        affect.setRef("core");
+        vulnerability.setAffects(new ArrayList<>(List.of(affect)));
+        second.setVulnerabilities(new ArrayList<>(List.of(vulnerability)));
+
+        final Bom merged = new BomMerger(BomMerger.Strategy.FLAT).merge(List.of(first, second));
+
+        assertThat(refs(merged.getComponents())).containsExactly("module-a", "core", "module-b", "module-b:core");
+        assertThat(dependsOn(merged, "module-b")).containsExactly("module-b:core");
+        assertThat(merged.getCompositions().get(0).getAssemblies()).extracting(BomReference::getRef)
+                .containsExactly("module-b:core");
+        assertThat(merged.getVulnerabilities().get(0).getBomRef()).isEqualTo("module-b:core-2");
+        assertThat(merged.getVulnerabilities().get(0).getAffects().get(0).getRef()).isEqualTo("module-b:core");
+    }
+
+    @Test
+    void shouldDeduplicateByBomRefWhenEnabled() {
+        final Bom first = bom(null, library("core", "core", null, null));
+        final Service service = new Service();
+        service.setName("api");
+        service.setBomRef("api");
+        first.setServices(new ArrayList<>(List.of(service)));
+        final Bom second = bom(null, library("core", "core", null, null));
+        final Service other = new Service();
+        other.setName("api");
+        other.setBomRef("api");
+        second.setServices(new ArrayList<>(List.of(other)));
+
+        final BomMerger merger = new BomMerger(BomMerger.Strategy.FLAT);
+        merger.setIdentities(EnumSet.of(BomMerger.Identity.BOM_REF));
+        final Bom merged = merger.merge(List.of(first, second));
+
+        assertThat(refs(merged.getComponents())).containsExactly("core");
+        assertThat(merged.getServices()).containsExactly(service);
+    }
+
+    @Test
+    void shouldPointReferencesToADroppedServiceAtTheKeptOne() {
+        final Bom first = bom(null, library("svc", "svc", null, null));
+        final Bom second = bom(null);
+        second.setServices(new ArrayList<>(List.of(service("svc"))));
+        final Bom third = bom(null, library("app", "app", null, null));
+        third.setServices(new ArrayList<>(List.of(service("svc"))));
+        third.setDependencies(new DependencyListBuilder().addDependency("app", "svc").build());
+
+        final BomMerger merger = new BomMerger(BomMerger.Strategy.FLAT);
+        merger.setIdentities(EnumSet.of(BomMerger.Identity.BOM_REF, BomMerger.Identity.PURL));
+        final Bom merged = merger.merge(List.of(first, second, third));
+
+        assertThat(merged.getServices()).extracting(Service::getBomRef).containsExactly("bom-2:svc");
+        assertThat(dependsOn(merged, "app")).containsExactly("bom-2:svc");
+    }
+
+    private static Service service(final String ref) {
+        final Service service = new Service();
+        service.setName(ref);
+        service.setBomRef(ref);
+        return service;
+    }
+
+    @Test
+    void shouldNestComponentsHierarchically() {
+        final Bom first = bom(library("module-a", "module-a", null, null), library("lib", "lib", null, "pkg:npm/lib@1.0"));
+        first.setDependencies(new DependencyListBuilder().addDependency("module-a", "lib").build());
+        final Bom second = bom(library("module-b", "module-b", null, null), library("lib", "lib", null, "pkg:npm/lib@1.0"));
+        final Bom third = bom(null, library("lib", "lib", null, "pkg:npm/lib@1.0"));
+
+        final Bom merged = new BomMerger(BomMerger.Strategy.HIERARCHICAL)
+                .merge(library("product", "product", null, null), List.of(first, second, third));
+
+        assertThat(refs(merged.getComponents())).containsExactly("module-a", "module-b", "bom-3:lib");
+        assertThat(refs(merged.getComponents().get(0).getComponents())).containsExactly("module-a:lib");
+        assertThat(refs(merged.getComponents().get(1).getComponents())).containsExactly("module-b:lib");
+        assertThat(dependsOn(merged, "product")).containsExactly("module-a", "module-b");
+        assertThat(dependsOn(merged, "module-a")).containsExactly("module-a:lib");
+    }
+
+    @Test
+    void shouldMergeInParallelLikeSequentially() throws Exception {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final BomMerger sequential = new BomMerger(BomMerger.Strategy.FLAT);
+            final BomMerger parallel = new BomMerger(BomMerger.Strategy.FLAT);
+            parallel.setParallelism(pool);
+            final Bom sequentiallyMerged = sequential.merge(library("product", "product", null, null), modules());
+            final Bom parallelMerged = parallel.merge(library("product", "product", null, null), modules());
+            // Each merge creates its metadata at the time of the merge
+            parallelMerged.getMetadata().setTimestamp(sequentiallyMerged.getMetadata().getTimestamp());
+            final String expected = BomGeneratorFactory.createJson(Version.VERSION_16, sequentiallyMerged).toJsonString();
+            final String actual = BomGeneratorFactory.createJson(Version.VERSION_16, parallelMerged).toJsonString();
+            assertThat(actual).isEqualTo(expected);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<Bom> modules() {
+        final List<Bom> boms = new ArrayList<>();
+        for (int m = 0; m < 20; m++) {
+            final Component[] components = new Component[50];
+            final DependencyListBuilder dependencies = new DependencyListBuilder();
+            for (int c = 0; c < components.length; c++) {
+                components[c] = library("lib-" + c, "lib-" + c, null, "pkg:npm/lib-" + ((m + c) % 60) + "@1.0");
+                dependencies.addDependency("module-" + m, "lib-" + c);
+                dependencies.addDependency("lib-" + c, "lib-" + ((c + 1) % components.length));
+            }
+            final Bom bom = bom(library("module-" + m, "module-" + m, null, null), components);
+            bom.setDependencies(dependencies.build());
+            boms.add(bom);
+        }
+        return boms;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.parsers.XmlParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DependencyGraphTest {
+
+    private static Dependency dependency(final String ref, final String... dependsOn) {
+        final Dependency dependency = new Dependency(ref);
+        final List<Dependency> children = new ArrayList<>();
+        for (final String child : dependsOn) {
+            children.add(new Dependency(child));
+        }
+        dependency.setDependencies(children);
+        return dependency;
+    }
+
+    private static DependencyGraph graph(final Dependency... dependencies) {
+        final Bom bom = new Bom();
+        bom.setDependencies(List.of(dependencies));
+        return DependencyGraph.of(bom);
+    }
+
+    @Test
+    void shouldCompileParsedDependencies() throws Exception {
+        final Bom bom = new XmlParser().parse(getClass().getResourceAsStream("/bom-1.1-dependency-graph-1.0.xml"));
+        final DependencyGraph graph = DependencyGraph.of(bom);
+
+        final String web = "pkg:maven/org.example.acme/web-framework@1.0.0";
+        final String util = "pkg:maven/org.example.acme/common-util@3.0.0";
+        final String commonPersistence = "pkg:maven/org.example.acme/common-persistence@3.0.0";
+        final String persistence = "pkg:maven/org.example.acme/persistence@3.1.0";
+        assertThat(graph.getNodeCount()).isEqualTo(4);
+        assertThat(graph.getEdgeCount()).isEqualTo(3);
+        assertThat(graph.getDependencies(web)).containsExactly(util, commonPersistence);
+        assertThat(graph.getDependents(util)).containsExactly(web, persistence);
+        assertThat(graph.getDependencies(util)).isEmpty();
+        assertThat(graph.hasCycles()).isFalse();
+    }
+
+    @Test
+    void shouldAnswerDirectAndTransitiveQueries() {
+        final DependencyGraph graph = graph(
+                dependency("app", "lib-a", "lib-b"),
+                dependency("lib-a", "core"),
+                dependency("lib-b", "core", "lib-a"),
+                dependency("core"));
+
+        assertThat(graph.contains("core")).isTrue();
+        assertThat(graph.contains("missing")).isFalse();
+        assertThat(graph.getRef(graph.getId("lib-b"))).isEqualTo("lib-b");
+        assertThat(graph.getId("missing")).isEqualTo(-1);
+        assertThat(graph.getDependencyIds(graph.getId("app")))
+                .containsExactly(graph.getId("lib-a"), graph.getId("lib-b"));
+        assertThat(graph.getDependentIds(graph.getId("core")))
+                .containsExactly(graph.getId("lib-a"), graph.getId("lib-b"));
+
+        assertThat(graph.getTransitiveDependencies("app")).containsExactly("lib-a", "lib-b", "core");
+        assertThat(graph.getTransitiveDependencies("core")).isEmpty();
+        assertThat(graph.getTransitiveDependents("core")).containsExactly("lib-a", "lib-b", "app");
+        assertThat(graph.getTransitiveDependents("missing")).isEmpty();
+        assertThat(graph.getDependencies("missing")).isEmpty();
+    }
+
+    @Test
+    void shouldMergeDuplicateAndNestedDependencies() {
+        final Dependency nested = dependency("lib", "core");
+        final Dependency app = new Dependency("app");
+        app.addDependency(nested);
+        final DependencyGraph graph = graph(app, dependency("lib", "core", "util"), dependency("app", "lib"));
+
+        assertThat(graph.getNodeCount()).isEqualTo(4);
+        assertThat(graph.getEdgeCount()).isEqualTo(3);
+        assertThat(graph.getDependencies("app")).containsExactly("lib");
+        assertThat(graph.getDependencies("lib")).containsExactly("core", "util");
+        assertThat(graph.getDependents("core")).containsExactly("lib");
+    }
+
+    @Test
+    void shouldOrderTopologically() {
+        final DependencyGraph graph = graph(
+                dependency("core"),
+                dependency("lib-b", "core", "lib-a"),
+                dependency("lib-a", "core"),
+                dependency("app", "lib-b"));
+
+        final List<String> order = graph.getTopologicalOrder();
+        assertThat(order).containsExactlyInAnyOrder("app", "lib-a", "lib-b", "core");
+        for (final String ref : order) {
+            for (final String dependency : graph.getDependencies(ref)) {
+                assertThat(order.indexOf(ref)).isLessThan(order.indexOf(dependency));
+            }
+        }
+    }
+
+    @Test
+    void shouldDetectCycles() {
+        final DependencyGraph graph = graph(
+                dependency("app", "a"),
+                dependency("a", "b"),
+                dependency("b", "c"),
+                dependency("c", "a", "leaf"),
+                dependency("self", "self"));
+
+        assertThat(graph.hasCycles()).isTrue();
+        assertThat(graph.getCycles()).hasSize(2);
+        assertThat(graph.getCycles().get(0)).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(graph.getCycles().get(1)).containsExactly("self");
+        assertThat(graph.getTransitiveDependencies("a")).containsExactly("b", "c", "a", "leaf");
+        assertThat(graph.getStronglyConnectedComponents()).hasSize(4);
+        assertThat(graph.getStronglyConnectedComponents().get(0)).containsExactly("leaf");
+        assertThatThrownBy(graph::getTopologicalOrder).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldFindShortestPaths() {
+        final DependencyGraph graph = graph(
+                dependency("app", "a", "b"),
+                dependency("a", "c"),
+                dependency("c", "target"),
+                dependency("b", "target"));
+
+        assertThat(graph.getShortestPath("app", "target")).containsExactly("app", "b", "target");
+        assertThat(graph.getShortestPath("app", "app")).containsExactly("app");
+        assertThat(graph.getShortestPath("target", "app")).isEmpty();
+        assertThat(graph.getShortestPath("app", "missing")).isEmpty();
+    }
+
+    @Test
+    void shouldHandleLongChains() {
+        final int length = 200_000;
+        final List<Dependency> dependencies = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            dependencies.add(dependency("node-" + i, "node-" + (i + 1), "node-" + (i / 2)));
+        }
+        final DependencyGraph graph = DependencyGraph.of(dependencies);
+
+        assertThat(graph.getNodeCount()).isEqualTo(length + 1);
+        assertThat(graph.getTransitiveDependencies("node-0")).hasSize(length + 1);
+        assertThat(graph.getStronglyConnectedComponents()).hasSize(2);
+        assertThat(graph.getShortestPath("node-0", "node-" + length)).hasSize(length + 1);
+    }
+
+    @Test
+    void shouldBeEmptyWithoutDependencies() {
+        final DependencyGraph graph = DependencyGraph.of(new Bom());
+        assertThat(graph.getNodeCount()).isZero();
+        assertThat(graph.getTopologicalOrder()).isEmpty();
+        assertThat(graph.hasCycles()).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of CycloneDX Core (Java).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.cyclonedx.util;
+
+import org.cyclonedx.Version;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Service;
+import org.cyclonedx.parsers.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cyclonedx.TestComponents.library;
+
+class FingerprintTest {
+
+    @Test
+    void shouldIgnoreBomRefs() {
+        assertThat(Fingerprint.of(library("a", "lib", "1.0", null)))
+                .isEqualTo(Fingerprint.of(library("b", "lib", "1.0", null)))
+                .isNotEqualTo(Fingerprint.of(library("a", "lib", "1.1", null)));
+        assertThat(Fingerprint.of(library("a", "lib", "1.0", null)).toString()).hasSize(32);
+    }
+
+    @Test
+    void shouldCombineNestedComponents() {
+        final Component parent = library("parent", "app", "1.0", null);
+        final Component child = library("child", "lib", "1.0", null);
+        parent.addComponent(child);
+        final Component other = library("parent", "app", "1.0", null);
+        other.addComponent(library("child", "lib", "2.0", null));
+
+        assertThat(Fingerprint.of(parent)).isEqualTo(Fingerprint.of(other));
+        assertThat(Fingerprint.ofTree(parent)).isNotEqualTo(Fingerprint.ofTree(other));
+        assertThat(Fingerprint.ofTree(child)).isEqualTo(Fingerprint.of(child));
+    }
+
+    @Test
+    void shouldCacheUntilInvalidated() {
+        final Component parent = library("parent", "app", "1.0", null);
+        final Component child = library("child", "lib", "1.0", null);
+        parent.addComponent(child);
+
+        final Fingerprint fingerprint = parent.getFingerprint();
+        assertThat(parent.getFingerprint()).isSameAs(fingerprint);
+        assertThat(child.getFingerprint()).isEqualTo(Fingerprint.of(child));
+
+        child.setVersion("2.0");
+        assertThat(parent.getFingerprint()).isSameAs(fingerprint);
+        child.invalidateFingerprint();
+        parent.invalidateFingerprint();
+        assertThat(parent.getFingerprint()).isNotEqualTo(fingerprint).isEqualTo(Fingerprint.ofTree(parent));
+    }
+
+    @Test
+    void shouldInvalidateInSetters() {
+        final Component component = library("parent", "app", "1.0", null);
+        final Fingerprint fingerprint = component.getFingerprint();
+
+        component.setVersion("2.0");
+        final Fingerprint changed = component.getFingerprint();
+        assertThat(changed).isNotEqualTo(fingerprint).isEqualTo(Fingerprint.ofTree(component));
+
+        component.setComponents(List.of(library("child", "lib", "1.0", null)));
+        assertThat(component.getFingerprint()).isNotEqualTo(changed).isEqualTo(Fingerprint.ofTree(component));
+
+        final Service service = new Service();
+        service.setName("api");
+        final Fingerprint serviceFingerprint = service.getFingerprint();
+        final Service nested = new Service();
+        nested.setName("auth");
+        service.setServices(List.of(nested));
+        assertThat(service.getFingerprint()).isNotEqualTo(serviceFingerprint)
+                .isEqualTo(Fingerprint.ofTree(service));
+    }
+
+    @Test
+    void shouldFingerprintServices() {
+        final Service service = new Service();
+        service.setName("api");
+        final Service nested = new Service();
+        nested.setName("auth");
+        service.setServices(List.of(nested));
+        final Service plain = new Service();
+        plain.setName("api");
+
+        assertThat(Fingerprint.of(service)).isEqualTo(Fingerprint.of(plain));
+        assertThat(service.getFingerprint()).isNotEqualTo(plain.getFingerprint());
+    }
+
+    @Test
+    void shouldDeduplicateParsedComponents() throws Exception {
+        final byte[] bytes = getClass().getResourceAsStream("/bom-1.5.json").readAllBytes();
+        final Bom first = new JsonParser().parse(bytes);
+        final Bom second = new JsonParser().parse(bytes);
+
+        final Set<Fingerprint> fingerprints = new HashSet<>();
+        first.getComponents().forEach(c -> fingerprints.add(c.getFingerprint()));
+        second.getComponents().forEach(c -> assertThat(fingerprints).contains(c.getFingerprint()));
+        assertThat(BomGeneratorFactory.createJson(Version.VERSION_16, first).toJsonString())
+                .doesNotContain("fingerprint");
+    }
+}